@@ -0,0 +1,528 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.benchmark ;
+
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.ConcurrentStock ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Deck ;
+import edu.wit.scds.ds.lists.app.card_game.top_this.pile.Stock ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
+
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.Collections ;
+import java.util.IdentityHashMap ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.Random ;
+import java.util.concurrent.CountDownLatch ;
+
+
+/**
+ * Measure contention when many threads draw from one shared stock
+ * <p>
+ * 1 to 64 threads race to empty a stock holding enough decks. Each thread
+ * draws until the stock is empty, keeping what it draws. The baseline locks
+ * an ordinary {@code Stock} around each {@code isEmpty()}/{@code drawTopCard()}
+ * pair - without the lock the pair is racy. {@code ConcurrentStock} is run
+ * drawing a card at a time with {@code tryDraw()} and in batches with
+ * {@code drawN()}.
+ * <p>
+ * each result is the median of several timed rounds, from releasing the
+ * threads until the last finishes, in nanoseconds per card; building the
+ * stock and starting the threads isn't timed. Every round checks that each
+ * card was drawn exactly once.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class ConcurrentStockBenchmark
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** numbers of drawing threads */
+    private final static int[] THREAD_COUNTS = { 1, 2, 4, 8, 16, 32, 64 } ;
+
+    /** number of cards in the stock */
+    private final static int STOCK_SIZE = 200_000 ;
+
+    /** cards per {@code drawN()} */
+    private final static int BATCH_SIZE = 8 ;
+
+    /** untimed rounds to let the JIT settle */
+    private final static int WARMUP_ROUNDS = 5 ;
+
+    /** timed rounds - the median is reported */
+    private final static int MEASURED_ROUNDS = 11 ;
+
+    /** fixed seed so every strategy draws from the same stock */
+    private final static long SEED = 20261017L ;
+
+
+    /*
+     * utility enums
+     */
+
+
+    /**
+     * the ways of drawing under test
+     */
+    private enum Strategy
+        {
+
+        /** {@code Stock} with a lock around each check and draw */
+        LOCKED_STOCK( "locked Stock" ),
+        /** {@code ConcurrentStock.tryDraw()} */
+        TRY_DRAW( "ConcurrentStock tryDraw()" ),
+        /** {@code ConcurrentStock.drawN()}, then {@code tryDraw()} for the rest */
+        DRAW_N( "ConcurrentStock drawN(" + BATCH_SIZE + ")" ) ;
+
+        /** row heading */
+        private final String displayName ;
+
+
+        /**
+         * @param strategyName
+         *     row heading
+         */
+        Strategy( final String strategyName )
+            {
+
+            this.displayName = strategyName ;
+
+            }   // end constructor
+
+        }   // end enum Strategy
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * prevent instantiation
+     */
+    private ConcurrentStockBenchmark()
+        {
+        // can't instantiate outside of this class
+
+        }   // end no-arg constructor
+
+
+    /*
+     * strategies
+     */
+
+
+    /**
+     * draw from a locked {@code Stock} until it's empty
+     *
+     * @param stock
+     *     the shared stock - also the lock
+     * @param drawnCards
+     *     receives this thread's cards
+     */
+    private static void drawLocked( final Stock stock,
+                                    final List<Card> drawnCards )
+        {
+
+        while ( true )
+            {
+            final Card drawnCard ;
+
+            synchronized ( stock )
+                {
+
+                if ( stock.isEmpty() )
+                    {
+                    return ;
+                    }
+
+                drawnCard = stock.drawTopCard() ;
+                }
+
+            drawnCards.add( drawnCard ) ;
+            }
+
+        }   // end drawLocked()
+
+
+    /**
+     * draw batches from a {@code ConcurrentStock} then single cards once too
+     * few remain for a batch
+     *
+     * @param stock
+     *     the shared stock
+     * @param drawnCards
+     *     receives this thread's cards
+     */
+    private static void drawInBatches( final ConcurrentStock stock,
+                                       final List<Card> drawnCards )
+        {
+
+        while ( stock.cardCount() >= BATCH_SIZE )
+            {
+
+            try
+                {
+                drawnCards.addAll( stock.drawN( BATCH_SIZE ) ) ;
+                }
+            catch ( final NoCardsException e )
+                {
+                // another thread took the last full batch
+                break ;
+                }
+
+            }
+
+        drawSingly( stock, drawnCards ) ;
+
+        }   // end drawInBatches()
+
+
+    /**
+     * draw single cards from a {@code ConcurrentStock} until it's empty
+     *
+     * @param stock
+     *     the shared stock
+     * @param drawnCards
+     *     receives this thread's cards
+     */
+    private static void drawSingly( final ConcurrentStock stock,
+                                    final List<Card> drawnCards )
+        {
+
+        Card drawnCard ;
+
+        while ( ( drawnCard = stock.tryDraw() ) != null )
+            {
+            drawnCards.add( drawnCard ) ;
+            }
+
+        }   // end drawSingly()
+
+
+    /*
+     * timing
+     */
+
+
+    /**
+     * time one round - start the threads, release them together and wait for
+     * the last to finish
+     *
+     * @param strategy
+     *     the way to draw
+     * @param threadCount
+     *     the number of drawing threads
+     * @param cards
+     *     the cards in the stock, top first
+     *
+     * @return elapsed nanoseconds
+     *
+     * @throws InterruptedException
+     *     if interrupted while waiting for the threads
+     */
+    private static long runRound( final Strategy strategy,
+                                  final int threadCount,
+                                  final List<Card> cards ) throws InterruptedException
+        {
+
+        final Stock lockedStock = new Stock() ;
+        lockedStock.addAllToBottom( cards ) ;
+
+        final ConcurrentStock concurrentStock ;
+
+        if ( strategy == Strategy.LOCKED_STOCK )
+            {
+            concurrentStock = null ;
+            }
+        else
+            {
+            concurrentStock = new ConcurrentStock( lockedStock ) ;
+            }
+
+        final CountDownLatch startGate = new CountDownLatch( 1 ) ;
+        final CountDownLatch finishLine = new CountDownLatch( threadCount ) ;
+        final List<List<Card>> drawnCards = new ArrayList<>( threadCount ) ;
+        final Thread[] threads = new Thread[ threadCount ] ;
+
+        for ( int i = 0 ; i < threadCount ; i++ )
+            {
+            final List<Card> threadCards = new ArrayList<>() ;
+            drawnCards.add( threadCards ) ;
+
+            threads[ i ] = new Thread( () -> drawAll( strategy,
+                                                      lockedStock,
+                                                      concurrentStock,
+                                                      threadCards,
+                                                      startGate,
+                                                      finishLine ) ) ;
+            threads[ i ].start() ;
+            }
+
+        final long start = System.nanoTime() ;
+        startGate.countDown() ;
+        finishLine.await() ;
+        final long elapsed = System.nanoTime() - start ;
+
+        for ( final Thread thread : threads )
+            {
+            thread.join() ;
+            }
+
+        verify( cards, drawnCards ) ;
+
+        return elapsed ;
+
+        }   // end runRound()
+
+
+    /**
+     * one thread's work - wait for the start, draw until the stock is empty,
+     * then report in
+     *
+     * @param strategy
+     *     the way to draw
+     * @param lockedStock
+     *     the stock for {@code LOCKED_STOCK}
+     * @param concurrentStock
+     *     the stock for the other strategies
+     * @param threadCards
+     *     receives this thread's cards
+     * @param startGate
+     *     released once every thread is ready
+     * @param finishLine
+     *     counted down when this thread is done
+     */
+    private static void drawAll( final Strategy strategy,
+                                 final Stock lockedStock,
+                                 final ConcurrentStock concurrentStock,
+                                 final List<Card> threadCards,
+                                 final CountDownLatch startGate,
+                                 final CountDownLatch finishLine )
+        {
+
+        try
+            {
+            startGate.await() ;
+
+            switch ( strategy )
+                {
+                case LOCKED_STOCK -> drawLocked( lockedStock, threadCards ) ;
+                case TRY_DRAW -> drawSingly( concurrentStock, threadCards ) ;
+                case DRAW_N -> drawInBatches( concurrentStock, threadCards ) ;
+                }
+
+            }
+        catch ( final InterruptedException e )
+            {
+            Thread.currentThread().interrupt() ;
+            }
+        finally
+            {
+            finishLine.countDown() ;
+            }
+
+        }   // end drawAll()
+
+
+    /**
+     * make sure every card was drawn exactly once
+     *
+     * @param cards
+     *     the cards in the stock
+     * @param drawnCards
+     *     each thread's cards
+     *
+     * @throws IllegalStateException
+     *     if a card was lost or drawn twice
+     */
+    private static void verify( final List<Card> cards,
+                                final List<List<Card>> drawnCards ) throws IllegalStateException
+        {
+
+        final Map<Card, Boolean> drawn = new IdentityHashMap<>( cards.size() ) ;
+
+        for ( final List<Card> threadCards : drawnCards )
+            {
+
+            for ( final Card drawnCard : threadCards )
+                {
+
+                if ( drawn.put( drawnCard, Boolean.TRUE ) != null )
+                    {
+                    throw new IllegalStateException( "drew " + drawnCard + " twice" ) ;
+                    }
+
+                }
+
+            }
+
+        if ( drawn.size() != cards.size() )
+            {
+            throw new IllegalStateException( String.format( "drew %,d of %,d cards",
+                                                            drawn.size(),
+                                                            cards.size() ) ) ;
+            }
+
+        }   // end verify()
+
+
+    /**
+     * time every strategy at one thread count
+     * <p>
+     * each round runs every strategy, starting with a different one each
+     * time, so no strategy benefits from running before the JIT has seen the
+     * others
+     *
+     * @param threadCount
+     *     the number of drawing threads
+     * @param cards
+     *     the cards in the stock, top first
+     *
+     * @return median nanoseconds per round, indexed by strategy ordinal
+     *
+     * @throws InterruptedException
+     *     if interrupted while waiting for the threads
+     */
+    private static double[] measure( final int threadCount,
+                                     final List<Card> cards ) throws InterruptedException
+        {
+
+        final Strategy[] strategies = Strategy.values() ;
+        final double[][] samples = new double[ strategies.length ][ MEASURED_ROUNDS ] ;
+
+        for ( int round = -WARMUP_ROUNDS ; round < MEASURED_ROUNDS ; round++ )
+            {
+
+            for ( int i = 0 ; i < strategies.length ; i++ )
+                {
+                final Strategy strategy = strategies[ Math.floorMod( round + i, strategies.length ) ] ;
+
+                final long elapsed = runRound( strategy, threadCount, cards ) ;
+
+                if ( round >= 0 )
+                    {
+                    samples[ strategy.ordinal() ][ round ] = elapsed ;
+                    }
+
+                }
+
+            }
+
+        final double[] medians = new double[ strategies.length ] ;
+
+        for ( int i = 0 ; i < strategies.length ; i++ )
+            {
+            Arrays.sort( samples[ i ] ) ;
+            medians[ i ] = samples[ i ][ MEASURED_ROUNDS / 2 ] ;
+            }
+
+        return medians ;
+
+        }   // end measure()
+
+
+    /*
+     * for testing/debugging
+     */
+
+
+    /**
+     * run every strategy at each thread count and display a table of results
+     *
+     * @param args
+     *     -unused-
+     *
+     * @throws InterruptedException
+     *     if interrupted while waiting for the threads
+     */
+    public static void main( final String[] args ) throws InterruptedException
+        {
+
+        final List<Card> cards = new ArrayList<>( STOCK_SIZE ) ;
+
+        while ( cards.size() < STOCK_SIZE )
+            {
+            final Deck deck = new Deck() ;
+
+            while ( !deck.isEmpty() && ( cards.size() < STOCK_SIZE ) )
+                {
+                cards.add( deck.removeTopCard() ) ;
+                }
+
+            }
+
+        // a consistent, shuffled stock
+        Collections.shuffle( cards, new Random( SEED ) ) ;
+
+        final Strategy[] strategies = Strategy.values() ;
+
+        System.out.printf( "Concurrent stock benchmark: %,d cards, %,d processors, median of %,d rounds, ns per card%n%n",
+                           cards.size(),
+                           Runtime.getRuntime().availableProcessors(),
+                           MEASURED_ROUNDS ) ;
+        System.out.printf( "%8s", "threads" ) ;
+
+        for ( final Strategy strategy : strategies )
+            {
+            System.out.printf( " %28s", strategy.displayName ) ;
+            }
+
+        System.out.printf( "%n" ) ;
+
+        for ( final int threadCount : THREAD_COUNTS )
+            {
+            final double[] nanosPerRound = measure( threadCount, cards ) ;
+            final double baseline = nanosPerRound[ Strategy.LOCKED_STOCK.ordinal() ] ;
+
+            System.out.printf( "%8d", threadCount ) ;
+
+            for ( final Strategy strategy : strategies )
+                {
+                final double nanos = nanosPerRound[ strategy.ordinal() ] ;
+
+                System.out.printf( " %20.1f (%4.1fx)", nanos / cards.size(), baseline / nanos ) ;
+                }
+
+            System.out.printf( "%n" ) ;
+            }
+
+        }   // end main()
+
+    }   // end class ConcurrentStockBenchmark
\ No newline at end of file
@@ -0,0 +1,347 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.benchmark ;
+
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Deck ;
+import edu.wit.scds.ds.lists.app.card_game.top_this.pile.Hand ;
+import edu.wit.scds.ds.lists.app.card_game.top_this.pile.Stock ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.DealPattern ;
+
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.Collections ;
+import java.util.List ;
+import java.util.Random ;
+
+
+/**
+ * Compare dealing a card at a time, as the games used to, with dealing every
+ * hand in one batch through {@code Stock.deal()}
+ * <p>
+ * 100 players are each dealt 50 cards from a stock holding enough decks. Each
+ * result is the median of several timed rounds, in microseconds per complete
+ * deal and nanoseconds per card; building the stock and hands isn't timed.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class DealBenchmark
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** number of hands dealt */
+    private final static int PLAYER_COUNT = 100 ;
+
+    /** number of cards dealt to each hand */
+    private final static int CARDS_PER_HAND = 50 ;
+
+    /** untimed rounds to let the JIT settle */
+    private final static int WARMUP_ROUNDS = 50 ;
+
+    /** timed rounds - the median is reported */
+    private final static int MEASURED_ROUNDS = 51 ;
+
+    /** fixed seed so every strategy deals the same cards */
+    private final static long SEED = 20261017L ;
+
+
+    /*
+     * utility enums
+     */
+
+
+    /**
+     * the ways of dealing under test
+     */
+    private enum Strategy
+        {
+
+        /** draw, hide, add and sort the hand for every card - the old deal */
+        CARD_AT_A_TIME( "card at a time, sort per card" ),
+        /** draw, hide and add each card, sort each hand once */
+        CARD_AT_A_TIME_SORT_ONCE( "card at a time, sort once" ),
+        /** {@code Stock.deal()} round-robin, sort each hand once */
+        ROUND_ROBIN( "deal() round robin" ),
+        /** {@code Stock.deal()} in blocks, sort each hand once */
+        BLOCK( "deal() block" ) ;
+
+        /** row heading */
+        private final String displayName ;
+
+
+        /**
+         * @param strategyName
+         *     row heading
+         */
+        Strategy( final String strategyName )
+            {
+
+            this.displayName = strategyName ;
+
+            }   // end constructor
+
+        }   // end enum Strategy
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * prevent instantiation
+     */
+    private DealBenchmark()
+        {
+        // can't instantiate outside of this class
+
+        }   // end no-arg constructor
+
+
+    /*
+     * strategies
+     */
+
+
+    /**
+     * deal one card at a time to each hand in turn
+     *
+     * @param stock
+     *     the source of the cards
+     * @param hands
+     *     the empty hands
+     * @param sortPerCard
+     *     {@code true} to sort the hand after every card, {@code false} to
+     *     sort each hand once at the end
+     */
+    private static void dealCardAtATime( final Stock stock,
+                                         final List<Hand> hands,
+                                         final boolean sortPerCard )
+        {
+
+        for ( int i = 1 ; i <= CARDS_PER_HAND ; i++ )
+            {
+
+            for ( final Hand hand : hands )
+                {
+                hand.addToBottom( stock.drawTopCard().hide() ) ;
+
+                if ( sortPerCard )
+                    {
+                    hand.sort() ;
+                    }
+
+                }
+
+            }
+
+        if ( !sortPerCard )
+            {
+            sortAll( hands ) ;
+            }
+
+        }   // end dealCardAtATime()
+
+
+    /**
+     * deal every hand in one batch
+     *
+     * @param stock
+     *     the source of the cards
+     * @param hands
+     *     the empty hands
+     * @param pattern
+     *     the order in which the cards are handed out
+     */
+    private static void dealInBatch( final Stock stock,
+                                     final List<Hand> hands,
+                                     final DealPattern pattern )
+        {
+
+        stock.deal( CARDS_PER_HAND, hands, pattern ) ;
+
+        sortAll( hands ) ;
+
+        }   // end dealInBatch()
+
+
+    /**
+     * sort each hand once
+     *
+     * @param hands
+     *     the dealt hands
+     */
+    private static void sortAll( final List<Hand> hands )
+        {
+
+        for ( final Hand hand : hands )
+            {
+            hand.sort() ;
+            }
+
+        }   // end sortAll()
+
+
+    /*
+     * timing
+     */
+
+
+    /**
+     * time every strategy
+     * <p>
+     * each round runs every strategy, starting with a different one each
+     * time, so no strategy benefits from running before the JIT has seen the
+     * others
+     *
+     * @param cards
+     *     the cards to deal, in stock order
+     *
+     * @return median nanoseconds per deal, indexed by strategy ordinal
+     */
+    private static double[] measure( final List<Card> cards )
+        {
+
+        final Strategy[] strategies = Strategy.values() ;
+        final double[][] samples = new double[ strategies.length ][ MEASURED_ROUNDS ] ;
+
+        for ( int round = -WARMUP_ROUNDS ; round < MEASURED_ROUNDS ; round++ )
+            {
+
+            for ( int i = 0 ; i < strategies.length ; i++ )
+                {
+                final Strategy strategy = strategies[ Math.floorMod( round + i, strategies.length ) ] ;
+
+                final Stock stock = new Stock() ;
+                stock.addAllToBottom( cards ) ;
+
+                final List<Hand> hands = new ArrayList<>( PLAYER_COUNT ) ;
+
+                for ( int j = 0 ; j < PLAYER_COUNT ; j++ )
+                    {
+                    hands.add( new Hand() ) ;
+                    }
+
+                final long start = System.nanoTime() ;
+
+                switch ( strategy )
+                    {
+                    case CARD_AT_A_TIME -> dealCardAtATime( stock, hands, true ) ;
+                    case CARD_AT_A_TIME_SORT_ONCE -> dealCardAtATime( stock, hands, false ) ;
+                    case ROUND_ROBIN -> dealInBatch( stock, hands, DealPattern.ROUND_ROBIN ) ;
+                    case BLOCK -> dealInBatch( stock, hands, DealPattern.BLOCK ) ;
+                    }
+
+                final long elapsed = System.nanoTime() - start ;
+
+                if ( round >= 0 )
+                    {
+                    samples[ strategy.ordinal() ][ round ] = elapsed ;
+                    }
+
+                }
+
+            }
+
+        final double[] medians = new double[ strategies.length ] ;
+
+        for ( int i = 0 ; i < strategies.length ; i++ )
+            {
+            Arrays.sort( samples[ i ] ) ;
+            medians[ i ] = samples[ i ][ MEASURED_ROUNDS / 2 ] ;
+            }
+
+        return medians ;
+
+        }   // end measure()
+
+
+    /*
+     * for testing/debugging
+     */
+
+
+    /**
+     * run every strategy and display a table of results
+     *
+     * @param args
+     *     -unused-
+     */
+    public static void main( final String[] args )
+        {
+
+        final int dealCount = PLAYER_COUNT * CARDS_PER_HAND ;
+        final List<Card> cards = new ArrayList<>( dealCount ) ;
+
+        while ( cards.size() < dealCount )
+            {
+            final Deck deck = new Deck() ;
+
+            while ( !deck.isEmpty() )
+                {
+                cards.add( deck.removeTopCard() ) ;
+                }
+
+            }
+
+        // a consistent, shuffled stock
+        Collections.shuffle( cards, new Random( SEED ) ) ;
+
+        System.out.printf( "Deal benchmark: %,d players x %,d cards from %,d cards, median of %,d rounds%n%n",
+                           PLAYER_COUNT,
+                           CARDS_PER_HAND,
+                           cards.size(),
+                           MEASURED_ROUNDS ) ;
+        System.out.printf( "%-32s %14s %12s %10s%n", "", "us per deal", "ns per card", "speedup" ) ;
+
+        final double[] nanosPerDeal = measure( cards ) ;
+        final double baseline = nanosPerDeal[ Strategy.CARD_AT_A_TIME.ordinal() ] ;
+
+        for ( final Strategy strategy : Strategy.values() )
+            {
+            final double nanos = nanosPerDeal[ strategy.ordinal() ] ;
+
+            System.out.printf( "%-32s %,14.1f %12.1f %9.1fx%n",
+                               strategy.displayName,
+                               nanos / 1_000.0,
+                               nanos / dealCount,
+                               baseline / nanos ) ;
+            }
+
+        }   // end main()
+
+    }   // end class DealBenchmark
\ No newline at end of file
@@ -0,0 +1,299 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.benchmark ;
+
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
+import edu.wit.scds.ds.lists.app.card_game.top_this.pile.Stock ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
+
+import java.util.Arrays ;
+
+
+/**
+ * Compare the ways of finding out a stock is empty: catching a
+ * {@code NoCardsException} with a stack trace, catching the preallocated,
+ * stackless one and calling {@code tryDraw()}
+ * <p>
+ * each draw is made from an empty stock {@value #CALL_DEPTH} calls deep,
+ * roughly where a game's turn loop calls it - filling in a stack trace costs
+ * more the deeper the stack. Each result is the median of several timed
+ * rounds, in nanoseconds per draw.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class EmptyPileBenchmark
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** draws per round */
+    private final static int DRAWS_PER_ROUND = 100_000 ;
+
+    /** stack frames below each draw */
+    private final static int CALL_DEPTH = 20 ;
+
+    /** untimed rounds to let the JIT settle */
+    private final static int WARMUP_ROUNDS = 20 ;
+
+    /** timed rounds - the median is reported */
+    private final static int MEASURED_ROUNDS = 21 ;
+
+
+    /*
+     * utility enums
+     */
+
+
+    /**
+     * the ways of drawing under test
+     */
+    private enum Strategy
+        {
+
+        /** catch a new exception with a stack trace - the default */
+        STACK_TRACE( "catch NoCardsException" ),
+        /** catch the shared, stackless exception */
+        STACKLESS( "catch stackless NoCardsException" ),
+        /** check {@code tryDraw()} for {@code null} */
+        TRY_DRAW( "tryDraw()" ) ;
+
+        /** row heading */
+        private final String displayName ;
+
+
+        /**
+         * @param strategyName
+         *     row heading
+         */
+        Strategy( final String strategyName )
+            {
+
+            this.displayName = strategyName ;
+
+            }   // end constructor
+
+        }   // end enum Strategy
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * prevent instantiation
+     */
+    private EmptyPileBenchmark()
+        {
+        // can't instantiate outside of this class
+
+        }   // end no-arg constructor
+
+
+    /*
+     * strategies
+     */
+
+
+    /**
+     * make every draw from a stack {@code depth} calls deeper
+     *
+     * @param depth
+     *     the number of calls still to make
+     * @param strategy
+     *     the way to draw
+     * @param stock
+     *     an empty stock
+     *
+     * @return the number of draws which found the stock empty
+     */
+    private static int drawAtDepth( final int depth,
+                                    final Strategy strategy,
+                                    final Stock stock )
+        {
+
+        return depth == 0
+                ? drawRepeatedly( strategy, stock )
+                : drawAtDepth( depth - 1, strategy, stock ) ;
+
+        }   // end drawAtDepth()
+
+
+    /**
+     * try to draw from an empty stock {@code DRAWS_PER_ROUND} times
+     *
+     * @param strategy
+     *     the way to draw
+     * @param stock
+     *     an empty stock
+     *
+     * @return the number of draws which found the stock empty
+     */
+    private static int drawRepeatedly( final Strategy strategy,
+                                       final Stock stock )
+        {
+
+        int emptyCount = 0 ;
+
+        for ( int i = 0 ; i < DRAWS_PER_ROUND ; i++ )
+            {
+
+            if ( strategy == Strategy.TRY_DRAW )
+                {
+                final Card drawnCard = stock.tryDraw() ;
+
+                if ( drawnCard == null )
+                    {
+                    emptyCount++ ;
+                    }
+
+                }
+            else
+                {
+
+                try
+                    {
+                    stock.drawTopCard() ;
+                    }
+                catch ( final NoCardsException e )
+                    {
+                    emptyCount++ ;
+                    }
+
+                }
+
+            }
+
+        return emptyCount ;
+
+        }   // end drawRepeatedly()
+
+
+    /*
+     * timing
+     */
+
+
+    /**
+     * time every strategy
+     *
+     * @return median nanoseconds per round, indexed by strategy ordinal
+     */
+    private static double[] measure()
+        {
+
+        final Strategy[] strategies = Strategy.values() ;
+        final double[][] samples = new double[ strategies.length ][ MEASURED_ROUNDS ] ;
+        final Stock stock = new Stock() ;
+
+        for ( int round = -WARMUP_ROUNDS ; round < MEASURED_ROUNDS ; round++ )
+            {
+
+            for ( final Strategy strategy : strategies )
+                {
+                final boolean wasStackless = NoCardsException.setStackless( strategy == Strategy.STACKLESS ) ;
+
+                final long start = System.nanoTime() ;
+                final int emptyCount = drawAtDepth( CALL_DEPTH, strategy, stock ) ;
+                final long elapsed = System.nanoTime() - start ;
+
+                NoCardsException.setStackless( wasStackless ) ;
+
+                if ( emptyCount != DRAWS_PER_ROUND )
+                    {
+                    throw new IllegalStateException( String.format( "%s found the stock empty %,d times",
+                                                                    strategy,
+                                                                    emptyCount ) ) ;
+                    }
+
+                if ( round >= 0 )
+                    {
+                    samples[ strategy.ordinal() ][ round ] = elapsed ;
+                    }
+
+                }
+
+            }
+
+        final double[] medians = new double[ strategies.length ] ;
+
+        for ( int i = 0 ; i < strategies.length ; i++ )
+            {
+            Arrays.sort( samples[ i ] ) ;
+            medians[ i ] = samples[ i ][ MEASURED_ROUNDS / 2 ] ;
+            }
+
+        return medians ;
+
+        }   // end measure()
+
+
+    /*
+     * for testing/debugging
+     */
+
+
+    /**
+     * run every strategy and display a table of results
+     *
+     * @param args
+     *     -unused-
+     */
+    public static void main( final String[] args )
+        {
+
+        System.out.printf( "Empty pile benchmark: %,d draws from an empty stock %,d calls deep, median of %,d rounds%n%n",
+                           DRAWS_PER_ROUND,
+                           CALL_DEPTH,
+                           MEASURED_ROUNDS ) ;
+        System.out.printf( "%-36s %12s %10s%n", "", "ns per draw", "speedup" ) ;
+
+        final double[] nanosPerRound = measure() ;
+        final double baseline = nanosPerRound[ Strategy.STACK_TRACE.ordinal() ] ;
+
+        for ( final Strategy strategy : Strategy.values() )
+            {
+            final double nanos = nanosPerRound[ strategy.ordinal() ] ;
+
+            System.out.printf( "%-36s %12.1f %9.1fx%n",
+                               strategy.displayName,
+                               nanos / DRAWS_PER_ROUND,
+                               baseline / nanos ) ;
+            }
+
+        }   // end main()
+
+    }   // end class EmptyPileBenchmark
\ No newline at end of file
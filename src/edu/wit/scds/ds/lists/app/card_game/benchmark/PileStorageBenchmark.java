@@ -0,0 +1,497 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.benchmark ;
+
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Deck ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.GapBufferPileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.LinkedPileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.PersistentPileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.PileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.RingBufferPileStorage ;
+
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.AS_IS ;
+
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.Collections ;
+import java.util.List ;
+import java.util.Random ;
+import java.util.function.Supplier ;
+
+
+/**
+ * Compare each {@code PileStorage} layout against the access pattern of each
+ * kind of pile in the games
+ * <p>
+ * every workload runs through the public {@code Pile} API so the numbers
+ * include the bookkeeping a game actually pays for. Each result is the median
+ * of several timed rounds, reported in nanoseconds per card operation; the
+ * layout each game pile uses is marked with an asterisk.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 stocks, discard piles and melds now splice through
+ *     linked storage
+ * @version 1.2 2026-10-17 include the persistent layout
+ */
+public final class PileStorageBenchmark
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** number of decks of cards fed through each workload */
+    private final static int DECK_COUNT = 5 ;
+
+    /** untimed rounds to let the JIT settle */
+    private final static int WARMUP_ROUNDS = 200 ;
+
+    /** timed rounds - the median is reported */
+    private final static int MEASURED_ROUNDS = 101 ;
+
+    /** number of times a meld's cards are moved back and forth per round */
+    private final static int MELD_TRANSFERS = 50 ;
+
+    /** fixed seed so every layout sees the same sequence of operations */
+    private final static long SEED = 20261017L ;
+
+
+    /*
+     * utility enums
+     */
+
+
+    /**
+     * the layouts under test
+     */
+    private enum Layout
+        {
+
+        /** circular array */
+        RING_BUFFER( "ring buffer", RingBufferPileStorage::new ),
+        /** doubly-linked nodes */
+        LINKED( "linked", LinkedPileStorage::new ),
+        /** array with a movable gap */
+        GAP_BUFFER( "gap buffer", GapBufferPileStorage::new ),
+        /** persistent balanced tree */
+        PERSISTENT( "persistent", PersistentPileStorage::new ) ;
+
+        /** column heading */
+        private final String displayName ;
+
+        /** instantiates an empty storage */
+        private final Supplier<PileStorage> factory ;
+
+
+        /**
+         * @param layoutName
+         *     column heading
+         * @param storageFactory
+         *     instantiates an empty storage
+         */
+        Layout( final String layoutName,
+                final Supplier<PileStorage> storageFactory )
+            {
+
+            this.displayName = layoutName ;
+            this.factory = storageFactory ;
+
+            }   // end constructor
+
+
+        /**
+         * @return a new, empty pile using this layout
+         */
+        Pile newPile()
+            {
+
+            return new Pile( AS_IS, this.factory.get() ) {} ;
+
+            }   // end newPile()
+
+        }   // end enum Layout
+
+
+    /**
+     * the access pattern of each kind of game pile
+     */
+    private enum Workload
+        {
+
+        /** fill once, then draw every card from the top */
+        STOCK( "Stock", Layout.LINKED ),
+        /** insert each card in sorted position, then play cards from anywhere */
+        HAND( "Hand", Layout.GAP_BUFFER ),
+        /** push and pop at the top */
+        DISCARD_PILE( "DiscardPile", Layout.LINKED ),
+        /** move the whole pile to/from other piles */
+        MELD( "Meld", Layout.LINKED ) ;
+
+        /** row heading */
+        private final String displayName ;
+
+        /** the layout the game piles use for this workload */
+        private final Layout selected ;
+
+
+        /**
+         * @param workloadName
+         *     row heading
+         * @param selectedLayout
+         *     the layout the game piles use for this workload
+         */
+        Workload( final String workloadName,
+                  final Layout selectedLayout )
+            {
+
+            this.displayName = workloadName ;
+            this.selected = selectedLayout ;
+
+            }   // end constructor
+
+        }   // end enum Workload
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * prevent instantiation
+     */
+    private PileStorageBenchmark()
+        {
+        // can't instantiate outside of this class
+
+        }   // end no-arg constructor
+
+
+    /*
+     * workloads - each returns the number of card operations it performed
+     */
+
+
+    /**
+     * draw pattern for a {@code Stock}
+     *
+     * @param pile
+     *     an empty pile
+     * @param cards
+     *     the cards to use
+     *
+     * @return the number of card operations
+     */
+    private static int runStock( final Pile pile,
+                                 final List<Card> cards )
+        {
+
+        for ( final Card card : cards )
+            {
+            pile.addToBottom( card ) ;
+            }
+
+        while ( !pile.isEmpty() )
+            {
+            pile.removeTopCard() ;
+            }
+
+        return cards.size() * 2 ;
+
+        }   // end runStock()
+
+
+    /**
+     * arrange-and-play pattern for a {@code Hand}
+     *
+     * @param pile
+     *     an empty pile
+     * @param cards
+     *     the cards to use
+     *
+     * @return the number of card operations
+     */
+    private static int runHand( final Pile pile,
+                                final List<Card> cards )
+        {
+
+        final Random random = new Random( SEED ) ;
+
+        for ( final Card card : cards )
+            {
+            // binary search for the first position holding a larger card
+            int low = 0 ;
+            int high = pile.cardCount() ;
+
+            while ( low < high )
+                {
+                final int middle = ( low + high ) >>> 1 ;
+
+                if ( pile.getCardAt( middle ).compareTo( card ) <= 0 )
+                    {
+                    low = middle + 1 ;
+                    }
+                else
+                    {
+                    high = middle ;
+                    }
+
+                }
+
+            pile.addAtPosition( card, low ) ;
+            }
+
+        while ( !pile.isEmpty() )
+            {
+            pile.removeCardAt( random.nextInt( pile.cardCount() ) ) ;
+            }
+
+        return cards.size() * 2 ;
+
+        }   // end runHand()
+
+
+    /**
+     * push/pop pattern for a {@code DiscardPile}
+     *
+     * @param pile
+     *     an empty pile
+     * @param cards
+     *     the cards to use
+     *
+     * @return the number of card operations
+     */
+    private static int runDiscardPile( final Pile pile,
+                                       final List<Card> cards )
+        {
+
+        int operations = 0 ;
+
+        // discard 3, pick up 2, ...
+        for ( int i = 0 ; i < cards.size() ; i++ )
+            {
+            pile.addToTop( cards.get( i ) ) ;
+            operations++ ;
+
+            if ( ( i % 3 ) == 2 )
+                {
+                pile.removeTopCard() ;
+                pile.removeTopCard() ;
+                operations += 2 ;
+                }
+
+            }
+
+        while ( !pile.isEmpty() )
+            {
+            pile.removeTopCard() ;
+            operations++ ;
+            }
+
+        return operations ;
+
+        }   // end runDiscardPile()
+
+
+    /**
+     * bulk transfer pattern for a {@code Meld}
+     *
+     * @param pile
+     *     an empty pile
+     * @param other
+     *     another empty pile with the same layout
+     * @param cards
+     *     the cards to use
+     *
+     * @return the number of card operations
+     */
+    private static int runMeld( final Pile pile,
+                                final Pile other,
+                                final List<Card> cards )
+        {
+
+        for ( final Card card : cards )
+            {
+            pile.addToBottom( card ) ;
+            }
+
+        for ( int i = 0 ; i < MELD_TRANSFERS ; i++ )
+            {
+            other.moveCardsToBottom( pile ) ;
+            pile.moveCardsToTop( other ) ;
+            }
+
+        pile.removeAll() ;
+
+        return cards.size() * ( 2 + ( MELD_TRANSFERS * 2 ) ) ;
+
+        }   // end runMeld()
+
+
+    /*
+     * timing
+     */
+
+
+    /**
+     * time one workload against every layout
+     * <p>
+     * each round runs every layout, starting with a different one each time, so
+     * no layout benefits from running before the JIT has seen the others
+     *
+     * @param workload
+     *     the access pattern
+     * @param cards
+     *     the cards to use
+     *
+     * @return median nanoseconds per card operation, indexed by layout ordinal
+     */
+    private static double[] measure( final Workload workload,
+                                     final List<Card> cards )
+        {
+
+        final Layout[] layouts = Layout.values() ;
+        final double[][] samples = new double[ layouts.length ][ MEASURED_ROUNDS ] ;
+
+        for ( int round = -WARMUP_ROUNDS ; round < MEASURED_ROUNDS ; round++ )
+            {
+
+            for ( int i = 0 ; i < layouts.length ; i++ )
+                {
+                final Layout layout = layouts[ Math.floorMod( round + i, layouts.length ) ] ;
+                final Pile pile = layout.newPile() ;
+                final Pile other = layout.newPile() ;
+
+                final long start = System.nanoTime() ;
+
+                final int operations = switch ( workload )
+                    {
+                    case STOCK -> runStock( pile, cards ) ;
+                    case HAND -> runHand( pile, cards ) ;
+                    case DISCARD_PILE -> runDiscardPile( pile, cards ) ;
+                    case MELD -> runMeld( pile, other, cards ) ;
+                    } ;
+
+                final long elapsed = System.nanoTime() - start ;
+
+                if ( round >= 0 )
+                    {
+                    samples[ layout.ordinal() ][ round ] = (double) elapsed / operations ;
+                    }
+
+                }
+
+            }
+
+        final double[] medians = new double[ layouts.length ] ;
+
+        for ( int i = 0 ; i < layouts.length ; i++ )
+            {
+            Arrays.sort( samples[ i ] ) ;
+            medians[ i ] = samples[ i ][ MEASURED_ROUNDS / 2 ] ;
+            }
+
+        return medians ;
+
+        }   // end measure()
+
+
+    /*
+     * for testing/debugging
+     */
+
+
+    /**
+     * run every workload against every layout and display a table of results
+     *
+     * @param args
+     *     -unused-
+     */
+    public static void main( final String[] args )
+        {
+
+        final List<Card> cards = new ArrayList<>() ;
+
+        for ( int i = 0 ; i < DECK_COUNT ; i++ )
+            {
+            final Deck deck = new Deck() ;
+
+            while ( !deck.isEmpty() )
+                {
+                cards.add( deck.removeTopCard() ) ;
+                }
+
+            }
+
+        // present the cards in a consistent but unsorted order
+        Collections.shuffle( cards, new Random( SEED ) ) ;
+
+        System.out.printf( "PileStorage benchmark: %,d cards, median of %,d rounds, ns per card operation%n%n",
+                           cards.size(),
+                           MEASURED_ROUNDS ) ;
+
+        System.out.printf( "%-12s", "" ) ;
+
+        for ( final Layout layout : Layout.values() )
+            {
+            System.out.printf( "%14s", layout.displayName ) ;
+            }
+
+        System.out.printf( "%n" ) ;
+
+        for ( final Workload workload : Workload.values() )
+            {
+            System.out.printf( "%-12s", workload.displayName ) ;
+
+            final double[] nanosPerOperation = measure( workload, cards ) ;
+
+            for ( final Layout layout : Layout.values() )
+                {
+                System.out.printf( "%13.1f%s",
+                                   nanosPerOperation[ layout.ordinal() ],
+                                   layout == workload.selected
+                                           ? "*"
+                                           : " " ) ;
+                }
+
+            System.out.printf( "%n" ) ;
+            }
+
+        System.out.printf( "%n* layout selected by the game's pile class%n" ) ;
+
+        }   // end main()
+
+    }   // end class PileStorageBenchmark
\ No newline at end of file
@@ -0,0 +1,455 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.benchmark ;
+
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Suit ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Deck ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
+import edu.wit.scds.ds.lists.app.card_game.top_this.game.Player ;
+import edu.wit.scds.ds.lists.app.card_game.top_this.pile.DiscardPile ;
+import edu.wit.scds.ds.lists.app.card_game.top_this.pile.Stock ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.ScratchPilePool ;
+
+import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank.JOKER ;
+
+import java.lang.management.ManagementFactory ;
+import java.util.ArrayList ;
+import java.util.List ;
+import java.util.Random ;
+
+
+/**
+ * Measure the memory allocated by a simulated game of Top This with
+ * throwaway temporary piles, as the game used to, and with piles leased from
+ * a {@code ScratchPilePool}
+ * <p>
+ * each game follows {@code TopThis}: unbox the decks into the stock, deal,
+ * play the rounds, turn in every player's cards, re-box and validate the
+ * decks. Players choose their cards at random; nothing is displayed. The
+ * throwaway strategy unboxes with {@code removeAllCards()} and
+ * {@code removeAllMatchingCards()}, collects each round's cards and each
+ * player's turned-in cards in a new pile. The pooled strategy leases those
+ * piles or moves the cards directly. {@code validateDeck()} leases its piles
+ * in both.
+ * <p>
+ * bytes are counted by the JVM for the benchmark thread and include
+ * everything the game allocates - cards, hands, melds and the games' own
+ * bookkeeping - so the reduction shown is the whole-game effect
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 lease the cards in play face down, as the game does
+ */
+public final class ScratchPileBenchmark
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** number of players */
+    private final static int PLAYER_COUNT = 4 ;
+
+    /** number of decks in the stock */
+    private final static int DECK_COUNT = 2 ;
+
+    /** cards dealt to each player - also the number of rounds */
+    private final static int CARDS_PER_HAND = 10 ;
+
+    /** untimed games to let the JIT settle */
+    private final static int WARMUP_GAMES = 2_000 ;
+
+    /** measured games */
+    private final static int MEASURED_GAMES = 10_000 ;
+
+    /** fixed seed so every strategy plays the same games */
+    private final static long SEED = 20261017L ;
+
+
+    /*
+     * utility enums
+     */
+
+
+    /**
+     * the ways of handling temporary piles under test
+     */
+    private enum Strategy
+        {
+
+        /** instantiate each temporary pile - the old game */
+        THROWAWAY( "throwaway piles" ),
+        /** lease each temporary pile from a per-game pool */
+        POOLED( "ScratchPilePool" ) ;
+
+        /** row heading */
+        private final String displayName ;
+
+
+        /**
+         * @param strategyName
+         *     row heading
+         */
+        Strategy( final String strategyName )
+            {
+
+            this.displayName = strategyName ;
+
+            }   // end constructor
+
+        }   // end enum Strategy
+
+
+    /*
+     * data fields
+     */
+
+
+    /** the strategy in use */
+    private final Strategy strategy ;
+
+    /** source of the shuffles */
+    private final Random random ;
+
+    /** temporary piles, as is, for {@code POOLED} */
+    private final ScratchPilePool<Pile> scratchPiles ;
+
+    /** the cards in play, face down, for {@code POOLED} */
+    private final ScratchPilePool<Pile> cardsInPlayPiles ;
+
+    /** number of temporary piles instantiated by {@code THROWAWAY} */
+    private long throwawayCount ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * @param gameStrategy
+     *     the way to handle temporary piles
+     */
+    private ScratchPileBenchmark( final Strategy gameStrategy )
+        {
+
+        this.strategy = gameStrategy ;
+        this.random = new Random( SEED ) ;
+        this.scratchPiles = new ScratchPilePool<>( () -> new Pile() {} ) ;
+        this.cardsInPlayPiles = new ScratchPilePool<>( () -> new Pile() {}.setDefaultFaceDown() ) ;
+        this.throwawayCount = 0 ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * the simulated game
+     */
+
+
+    /**
+     * play one complete game
+     */
+    private void playGame()
+        {
+
+        final Stock stock = new Stock() ;
+        final DiscardPile discardPile = new DiscardPile() ;
+        final List<Deck> decks = new ArrayList<>( DECK_COUNT ) ;
+        final List<Player> players = new ArrayList<>( PLAYER_COUNT ) ;
+
+        for ( int i = 0 ; i < PLAYER_COUNT ; i++ )
+            {
+            players.add( new Player( "player " + i ) ) ;
+            }
+
+        unboxDecks( stock, decks ) ;
+
+        stock.shuffle( this.random ) ;
+
+        for ( int i = 0 ; i < CARDS_PER_HAND ; i++ )
+            {
+
+            for ( final Player aPlayer : players )
+                {
+                aPlayer.dealtACard( stock.drawTopCard() ) ;
+                }
+
+            }
+
+        for ( int round = 0 ; round < CARDS_PER_HAND ; round++ )
+            {
+
+            if ( this.strategy == Strategy.THROWAWAY )
+                {
+                this.throwawayCount++ ;
+                playRound( round, new Pile() {}.setDefaultFaceDown(), players, discardPile ) ;
+                }
+            else
+                {
+
+                try ( final ScratchPilePool.Lease<Pile> cardsInPlayLease = this.cardsInPlayPiles.lease() ; )
+                    {
+                    playRound( round, cardsInPlayLease.getPile(), players, discardPile ) ;
+                    }
+
+                }
+
+            }
+
+        // reset
+        stock.moveCardsToBottom( discardPile ) ;
+
+        for ( final Player aPlayer : players )
+            {
+
+            if ( this.strategy == Strategy.THROWAWAY )
+                {
+                this.throwawayCount++ ;
+                stock.moveCardsToBottom( aPlayer.turnInAllCards() ) ;
+                }
+            else
+                {
+                aPlayer.turnInAllCards( stock ) ;
+                }
+
+            }
+
+        // re-box and validate
+        stock.sort() ;
+
+        int deckIndex = 0 ;
+
+        while ( !stock.isEmpty() )
+            {
+            decks.get( deckIndex ).addToBottom( stock.removeTopCard() ) ;
+            deckIndex = ( deckIndex + 1 ) % decks.size() ;
+            }
+
+        for ( final Deck deck : decks )
+            {
+            deck.validateDeck() ;
+            }
+
+        }   // end playGame()
+
+
+    /**
+     * each player plays a card; the round's cards go to a winner or, every
+     * third round, to the discard pile
+     *
+     * @param round
+     *     0-based round number
+     * @param cardsInPlay
+     *     an empty, face-down pile
+     * @param players
+     *     the players
+     * @param discardPile
+     *     the discard pile
+     */
+    private static void playRound( final int round,
+                                   final Pile cardsInPlay,
+                                   final List<Player> players,
+                                   final DiscardPile discardPile )
+        {
+
+        for ( final Player aPlayer : players )
+            {
+            cardsInPlay.addToBottom( aPlayer.playACard() ) ;
+            }
+
+        cardsInPlay.revealAll() ;
+
+        if ( ( round % 3 ) == 2 )
+            {
+            discardPile.moveCardsToTop( cardsInPlay ) ;
+            }
+        else
+            {
+            players.get( round % players.size() ).wonRound( cardsInPlay ) ;
+            }
+
+        }   // end playRound()
+
+
+    /**
+     * open the decks and move the playing cards to the stock, as
+     * {@code TopThis.getCardsFromDecks()} does
+     *
+     * @param stock
+     *     receives the playing cards
+     * @param decks
+     *     receives the 'boxes' holding the jokers
+     */
+    private void unboxDecks( final Stock stock,
+                             final List<Deck> decks )
+        {
+
+        final Card joker = Card.lookupCard( JOKER, Suit.NA ) ;
+
+        for ( int i = 0 ; i < DECK_COUNT ; i++ )
+            {
+            final Deck newDeck = new Deck() ;
+
+            if ( this.strategy == Strategy.THROWAWAY )
+                {
+                this.throwawayCount += 2 ;
+
+                final Pile newCards = newDeck.removeAllCards() ;
+                newDeck.moveCardsToBottom( newCards.removeAllMatchingCards( joker ).revealAll() ) ;
+                stock.moveCardsToBottom( newCards ) ;
+                }
+            else
+                {
+
+                try ( final ScratchPilePool.Lease<Pile> newCardsLease = this.scratchPiles.lease() ;
+                        final ScratchPilePool.Lease<Pile> jokersLease = this.scratchPiles.lease() ; )
+                    {
+                    final Pile newCards = newCardsLease.getPile() ;
+                    newCards.addAllToBottom( newDeck ) ;
+
+                    final Pile jokers = jokersLease.getPile() ;
+                    newCards.removeAllMatchingCards( joker, jokers ) ;
+                    newDeck.moveCardsToBottom( jokers.revealAll() ) ;
+
+                    stock.moveCardsToBottom( newCards ) ;
+                    }
+
+                }
+
+            decks.add( newDeck ) ;
+            }
+
+        }   // end unboxDecks()
+
+
+    /*
+     * measurement
+     */
+
+
+    /**
+     * count the temporary piles instantiated so far
+     *
+     * @return the number of throwaway and pooled piles created
+     */
+    private long createdCount()
+        {
+
+        return this.throwawayCount +
+               this.scratchPiles.getCreatedCount() +
+               this.cardsInPlayPiles.getCreatedCount() ;
+
+        }   // end createdCount()
+
+
+    /**
+     * play the warm-up then the measured games with one strategy
+     *
+     * @param strategy
+     *     the way to handle temporary piles
+     *
+     * @return {bytes allocated, temporary piles instantiated} per measured game
+     */
+    private static double[] measure( final Strategy strategy )
+        {
+
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean() ;
+
+        final ScratchPileBenchmark simulation = new ScratchPileBenchmark( strategy ) ;
+
+        for ( int i = 0 ; i < WARMUP_GAMES ; i++ )
+            {
+            simulation.playGame() ;
+            }
+
+        final long startPiles = simulation.createdCount() ;
+        final long startBytes = threads.getCurrentThreadAllocatedBytes() ;
+
+        for ( int i = 0 ; i < MEASURED_GAMES ; i++ )
+            {
+            simulation.playGame() ;
+            }
+
+        final long bytes = threads.getCurrentThreadAllocatedBytes() - startBytes ;
+        final long piles = simulation.createdCount() - startPiles ;
+
+        return new double[] { (double) bytes / MEASURED_GAMES, (double) piles / MEASURED_GAMES } ;
+
+        }   // end measure()
+
+
+    /*
+     * for testing/debugging
+     */
+
+
+    /**
+     * run each strategy and display a table of results
+     *
+     * @param args
+     *     -unused-
+     */
+    public static void main( final String[] args )
+        {
+
+        System.out.printf( "Scratch pile benchmark: %,d players, %,d decks, %,d rounds, %,d measured games%n%n",
+                           PLAYER_COUNT,
+                           DECK_COUNT,
+                           CARDS_PER_HAND,
+                           MEASURED_GAMES ) ;
+        System.out.printf( "%-20s %16s %16s %12s%n", "", "bytes per game", "piles per game", "reduction" ) ;
+
+        double baseline = 0 ;
+
+        for ( final Strategy strategy : Strategy.values() )
+            {
+            final double[] perGame = measure( strategy ) ;
+
+            if ( strategy == Strategy.THROWAWAY )
+                {
+                baseline = perGame[ 0 ] ;
+                }
+
+            System.out.printf( "%-20s %,16.0f %16.1f %11.1f%%%n",
+                               strategy.displayName,
+                               perGame[ 0 ],
+                               perGame[ 1 ],
+                               100.0 * ( baseline - perGame[ 0 ] ) / baseline ) ;
+            }
+
+        }   // end main()
+
+    }   // end class ScratchPileBenchmark
\ No newline at end of file
@@ -0,0 +1,666 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.benchmark ;
+
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Suit ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Deck ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.CardShuffler ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.LinkedPileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.PileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.RingBufferPileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.ShuffleModel ;
+
+import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card.lookupCard ;
+import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank.JOKER ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.AS_IS ;
+
+import java.util.ArrayList ;
+import java.util.Collections ;
+import java.util.List ;
+import java.util.concurrent.ForkJoinPool ;
+import java.util.concurrent.RecursiveAction ;
+import java.util.concurrent.atomic.LongAdder ;
+import java.util.random.RandomGenerator ;
+import java.util.random.RandomGenerator.SplittableGenerator ;
+import java.util.random.RandomGeneratorFactory ;
+
+
+/**
+ * Check that each shuffle implementation is unbiased before trusting it
+ * <p>
+ * every implementation shuffles a standard 52-card deck (jokers removed) many
+ * times, spread across all cores with fork-join; each task has its own split
+ * of a seeded generator and its own deck. Each task tallies how often every
+ * card lands in every position, then adds its tallies to shared striped
+ * counters ({@code LongAdder}s).
+ * <p>
+ * two tests are applied to each implementation:
+ * <ul>
+ * <li>chi-square on the position-by-card frequencies - every cell should be
+ * 1/52 of the shuffles; (52 - 1)^2 degrees of freedom
+ * <li>rising sequences - for a uniformly random permutation of n cards, the
+ * number of maximal runs of consecutive cards in their original relative order
+ * averages (n + 1) / 2 with variance (n + 1) / 12; riffles leave too few
+ * </ul>
+ * an implementation passes if neither test rejects at the 0.001 level. The
+ * physical shuffle models are included, with too few repetitions, to show the
+ * tests catch a biased shuffle.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class ShuffleQualityHarness
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** number of cards shuffled */
+    private final static int CARD_COUNT = 52 ;
+
+    /** shuffles per implementation unless specified on the command line */
+    private final static long DEFAULT_SHUFFLE_COUNT = 1_000_000L ;
+
+    /** a task which has no more than this many shuffles to do does them itself */
+    private final static long SHUFFLES_PER_TASK = 50_000L ;
+
+    /** fixed seed so runs are reproducible */
+    private final static long SEED = 20261017L ;
+
+    /** reject if a test's p-value is below this */
+    private final static double SIGNIFICANCE = 0.001 ;
+
+
+    /*
+     * utility types
+     */
+
+
+    /**
+     * produces shuffled orderings of the deck - one per task, not thread-safe
+     */
+    private interface PermutationSource
+        {
+
+        /**
+         * shuffle and report the result
+         *
+         * @param identities
+         *     receives the identity of the card in each position
+         * @param random
+         *     the source of randomness
+         */
+        void next( int[] identities,
+                   RandomGenerator random ) ;
+
+        }   // end interface PermutationSource
+
+
+    /**
+     * the shuffle implementations under test
+     */
+    private enum Candidate
+        {
+
+        /** the library shuffle the piles used to call */
+        COLLECTIONS( "Collections.shuffle", null, 0 ),
+        /** {@code Pile.shuffle()} on the default circular array */
+        RING_BUFFER_PILE( "Pile (ring buffer)", null, 0 ),
+        /** {@code Pile.shuffle()} on linked storage */
+        LINKED_PILE( "Pile (linked)", null, 0 ),
+        /** Fisher-Yates on positions only */
+        UNIFORM_MODEL( "Uniform model", ShuffleModel.UNIFORM, 1 ),
+        /** enough riffles to be nearly random */
+        RIFFLE_7( "7 riffles", ShuffleModel.RIFFLE, 7 ),
+        /** too few riffles */
+        RIFFLE_3( "3 riffles", ShuffleModel.RIFFLE, 3 ),
+        /** a few overhand passes */
+        OVERHAND_10( "10 overhands", ShuffleModel.OVERHAND, 10 ),
+        /** not a shuffle at all */
+        CUT( "1 cut", ShuffleModel.CUT, 1 ) ;
+
+        /** row heading */
+        private final String displayName ;
+
+        /** the model, for model-based candidates */
+        private final ShuffleModel model ;
+
+        /** the number of times the model is applied per shuffle */
+        private final int repetitions ;
+
+
+        /**
+         * @param candidateName
+         *     row heading
+         * @param shuffleModel
+         *     the model, or {@code null} for pile-based candidates
+         * @param modelRepetitions
+         *     the number of times the model is applied per shuffle
+         */
+        Candidate( final String candidateName,
+                   final ShuffleModel shuffleModel,
+                   final int modelRepetitions )
+            {
+
+            this.displayName = candidateName ;
+            this.model = shuffleModel ;
+            this.repetitions = modelRepetitions ;
+
+            }   // end constructor
+
+
+        /**
+         * @return a new source of shuffles for one task
+         */
+        PermutationSource newSource()
+            {
+
+            return switch ( this )
+                {
+                case COLLECTIONS -> new ListSource() ;
+                case RING_BUFFER_PILE -> new PileSource( new RingBufferPileStorage() ) ;
+                case LINKED_PILE -> new PileSource( new LinkedPileStorage() ) ;
+                default -> new ModelSource( this.model, this.repetitions ) ;
+                } ;
+
+            }   // end newSource()
+
+        }   // end enum Candidate
+
+
+    /**
+     * shuffles a {@code List} with {@code Collections.shuffle()}
+     */
+    private static final class ListSource implements PermutationSource
+        {
+
+        /** the deck */
+        private final List<CardBase> cards = new ArrayList<>( newDeck() ) ;
+
+
+        @Override
+        public void next( final int[] identities,
+                          final RandomGenerator random )
+            {
+
+            Collections.shuffle( this.cards, random ) ;
+
+            for ( int i = 0 ; i < CARD_COUNT ; i++ )
+                {
+                identities[ i ] = this.cards.get( i ).getIdentity() ;
+                }
+
+            }   // end next()
+
+        }   // end class ListSource
+
+
+    /**
+     * applies a shuffle model to positions - no cards involved
+     */
+    private static final class ModelSource implements PermutationSource
+        {
+
+        /** the model */
+        private final ShuffleModel model ;
+
+        /** the number of times the model is applied per shuffle */
+        private final int repetitions ;
+
+        /** working space for the model */
+        private final int[] scratch = new int[ CARD_COUNT ] ;
+
+
+        /**
+         * @param shuffleModel
+         *     the model
+         * @param modelRepetitions
+         *     the number of times the model is applied per shuffle
+         */
+        ModelSource( final ShuffleModel shuffleModel,
+                     final int modelRepetitions )
+            {
+
+            this.model = shuffleModel ;
+            this.repetitions = modelRepetitions ;
+
+            }   // end constructor
+
+
+        @Override
+        public void next( final int[] identities,
+                          final RandomGenerator random )
+            {
+
+            // always shuffle from the same (sorted) order
+            ShuffleModel.identity( identities ) ;
+            this.model.permute( identities, this.scratch, this.repetitions, random ) ;
+
+            }   // end next()
+
+        }   // end class ModelSource
+
+
+    /**
+     * shuffles a {@code Pile} with {@code Pile.shuffle()}
+     */
+    private static final class PileSource implements PermutationSource
+        {
+
+        /** the deck */
+        private final Pile pile ;
+
+
+        /**
+         * @param storage
+         *     the layout for the pile
+         */
+        PileSource( final PileStorage storage )
+            {
+
+            this.pile = new Pile( AS_IS, storage ) {} ;
+            this.pile.addAllToBottom( newDeck() ) ;
+
+            }   // end constructor
+
+
+        @Override
+        public void next( final int[] identities,
+                          final RandomGenerator random )
+            {
+
+            this.pile.shuffle( random ) ;
+
+            int i = 0 ;
+
+            for ( final CardBase card : this.pile )
+                {
+                identities[ i++ ] = card.getIdentity() ;
+                }
+
+            }   // end next()
+
+        }   // end class PileSource
+
+
+    /**
+     * the counts shared by all tasks testing one candidate
+     */
+    private static final class Tally
+        {
+
+        /** how often each card landed in each position - [ position * CARD_COUNT + identity ] */
+        private final LongAdder[] positionByCard = new LongAdder[ CARD_COUNT * CARD_COUNT ] ;
+
+        /** total rising sequences over all shuffles */
+        private final LongAdder risingSequences = new LongAdder() ;
+
+
+        /**
+         * initialize the counters
+         */
+        Tally()
+            {
+
+            for ( int i = 0 ; i < this.positionByCard.length ; i++ )
+                {
+                this.positionByCard[ i ] = new LongAdder() ;
+                }
+
+            }   // end constructor
+
+        }   // end class Tally
+
+
+    /**
+     * shuffles a share of the deck's shuffles, splitting the work (and the
+     * generator) until each share is small enough
+     */
+    private static final class TrialTask extends RecursiveAction
+        {
+
+        /** serialization version */
+        private static final long serialVersionUID = 1L ;
+
+        /** the implementation under test */
+        private final Candidate candidate ;
+
+        /** where to add the results */
+        private final transient Tally tally ;
+
+        /** this task's own generator */
+        private final transient SplittableGenerator random ;
+
+        /** the number of shuffles to perform */
+        private final long shuffleCount ;
+
+
+        /**
+         * @param shuffleCandidate
+         *     the implementation under test
+         * @param sharedTally
+         *     where to add the results
+         * @param taskRandom
+         *     this task's own generator
+         * @param taskShuffleCount
+         *     the number of shuffles to perform
+         */
+        TrialTask( final Candidate shuffleCandidate,
+                   final Tally sharedTally,
+                   final SplittableGenerator taskRandom,
+                   final long taskShuffleCount )
+            {
+
+            this.candidate = shuffleCandidate ;
+            this.tally = sharedTally ;
+            this.random = taskRandom ;
+            this.shuffleCount = taskShuffleCount ;
+
+            }   // end constructor
+
+
+        @Override
+        protected void compute()
+            {
+
+            if ( this.shuffleCount > SHUFFLES_PER_TASK )
+                {
+                final long half = this.shuffleCount / 2 ;
+
+                invokeAll( new TrialTask( this.candidate, this.tally, this.random.split(), half ),
+                           new TrialTask( this.candidate, this.tally, this.random, this.shuffleCount - half ) ) ;
+
+                return ;
+                }
+
+            // tally locally, then publish once
+            final PermutationSource source = this.candidate.newSource() ;
+            final int[] identities = new int[ CARD_COUNT ] ;
+            final int[] positions = new int[ CARD_COUNT ] ;
+            final long[] counts = new long[ CARD_COUNT * CARD_COUNT ] ;
+            long rising = 0 ;
+
+            for ( long i = 0 ; i < this.shuffleCount ; i++ )
+                {
+                source.next( identities, this.random ) ;
+
+                for ( int position = 0 ; position < CARD_COUNT ; position++ )
+                    {
+                    counts[ ( position * CARD_COUNT ) + identities[ position ] ]++ ;
+                    positions[ identities[ position ] ] = position ;
+                    }
+
+                rising += risingSequences( positions ) ;
+                }
+
+            for ( int i = 0 ; i < counts.length ; i++ )
+                {
+                this.tally.positionByCard[ i ].add( counts[ i ] ) ;
+                }
+
+            this.tally.risingSequences.add( rising ) ;
+
+            }   // end compute()
+
+        }   // end class TrialTask
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * prevent instantiation
+     */
+    private ShuffleQualityHarness()
+        {
+        // can't instantiate outside of this class
+
+        }   // end no-arg constructor
+
+
+    /*
+     * statistics
+     */
+
+
+    /**
+     * compute the chi-square statistic for the position-by-card frequencies
+     *
+     * @param tally
+     *     the frequencies
+     * @param shuffleCount
+     *     the number of shuffles tallied
+     *
+     * @return the statistic
+     */
+    private static double chiSquare( final Tally tally,
+                                     final long shuffleCount )
+        {
+
+        final double expected = (double) shuffleCount / CARD_COUNT ;
+        double statistic = 0.0 ;
+
+        for ( final LongAdder cell : tally.positionByCard )
+            {
+            final double difference = cell.sum() - expected ;
+            statistic += ( difference * difference ) / expected ;
+            }
+
+        return statistic ;
+
+        }   // end chiSquare()
+
+
+    /**
+     * approximate the upper tail probability of a chi-square distribution
+     * (Wilson-Hilferty)
+     *
+     * @param statistic
+     *     the chi-square statistic
+     * @param degreesOfFreedom
+     *     the degrees of freedom
+     *
+     * @return P( X &gt;= statistic )
+     */
+    private static double chiSquarePValue( final double statistic,
+                                           final int degreesOfFreedom )
+        {
+
+        final double k = degreesOfFreedom ;
+        final double z = ( Math.cbrt( statistic / k ) - ( 1.0 - ( 2.0 / ( 9.0 * k ) ) ) )
+                         / Math.sqrt( 2.0 / ( 9.0 * k ) ) ;
+
+        return upperNormalTail( z ) ;
+
+        }   // end chiSquarePValue()
+
+
+    /**
+     * count the rising sequences in a permutation
+     *
+     * @param positions
+     *     the position of each card, by identity
+     *
+     * @return the number of rising sequences
+     */
+    private static int risingSequences( final int[] positions )
+        {
+
+        int sequences = 1 ;
+
+        for ( int card = 1 ; card < positions.length ; card++ )
+            {
+
+            if ( positions[ card ] < positions[ card - 1 ] )
+                {
+                sequences++ ;
+                }
+
+            }
+
+        return sequences ;
+
+        }   // end risingSequences()
+
+
+    /**
+     * approximate the upper tail probability of the standard normal
+     * distribution (Abramowitz &amp; Stegun 7.1.26)
+     *
+     * @param z
+     *     the z score
+     *
+     * @return P( Z &gt;= z )
+     */
+    private static double upperNormalTail( final double z )
+        {
+
+        final double x = Math.abs( z ) / Math.sqrt( 2.0 ) ;
+        final double t = 1.0 / ( 1.0 + ( 0.3275911 * x ) ) ;
+        final double erfc = t * ( 0.254829592
+                                  + ( t * ( -0.284496736
+                                            + ( t * ( 1.421413741
+                                                      + ( t * ( -1.453152027 + ( t * 1.061405429 ) ) ) ) ) ) ) )
+                            * Math.exp( -x * x ) ;
+
+        return z >= 0
+                ? erfc / 2.0
+                : 1.0 - ( erfc / 2.0 ) ;
+
+        }   // end upperNormalTail()
+
+
+    /*
+     * utility methods
+     */
+
+
+    /**
+     * create a standard deck without jokers so every card is unique
+     *
+     * @return the 52 cards
+     */
+    private static List<CardBase> newDeck()
+        {
+
+        final Deck deck = new Deck() ;
+        deck.removeAllMatchingCards( lookupCard( JOKER, Suit.NA ) ) ;
+
+        final List<CardBase> cards = new ArrayList<>( CARD_COUNT ) ;
+
+        for ( final CardBase card : deck.removeAllCards() )
+            {
+            cards.add( card ) ;
+            }
+
+        return cards ;
+
+        }   // end newDeck()
+
+
+    /*
+     * for testing/debugging
+     */
+
+
+    /**
+     * test every candidate and display a table of results
+     *
+     * @param args
+     *     optionally, the number of shuffles per implementation
+     */
+    public static void main( final String[] args )
+        {
+
+        final long shuffleCount = args.length > 0
+                ? Long.parseLong( args[ 0 ] )
+                : DEFAULT_SHUFFLE_COUNT ;
+        final int degreesOfFreedom = ( CARD_COUNT - 1 ) * ( CARD_COUNT - 1 ) ;
+        final double risingMean = ( CARD_COUNT + 1 ) / 2.0 ;
+        final double risingVariance = ( CARD_COUNT + 1 ) / 12.0 ;
+
+        System.out.printf( "Shuffle quality: %,d shuffles of %d cards per implementation on %d threads%n%n",
+                           shuffleCount,
+                           CARD_COUNT,
+                           ForkJoinPool.commonPool().getParallelism() ) ;
+        System.out.printf( "%-20s %14s %12s %10s %10s %10s  %s%n",
+                           "",
+                           "shuffles/sec",
+                           "chi-square",
+                           "p",
+                           "rising",
+                           "p",
+                           "verdict" ) ;
+
+        for ( final Candidate candidate : Candidate.values() )
+            {
+            final Tally tally = new Tally() ;
+            final SplittableGenerator random =
+                    RandomGeneratorFactory.<SplittableGenerator>of( CardShuffler.SEEDED_ALGORITHM ).create( SEED ) ;
+
+            final long start = System.nanoTime() ;
+            ForkJoinPool.commonPool().invoke( new TrialTask( candidate, tally, random, shuffleCount ) ) ;
+            final double seconds = ( System.nanoTime() - start ) / 1e9 ;
+
+            final double statistic = chiSquare( tally, shuffleCount ) ;
+            final double chiSquareP = chiSquarePValue( statistic, degreesOfFreedom ) ;
+
+            final double averageRising = (double) tally.risingSequences.sum() / shuffleCount ;
+            final double risingZ = ( averageRising - risingMean ) / Math.sqrt( risingVariance / shuffleCount ) ;
+            final double risingP = 2.0 * upperNormalTail( Math.abs( risingZ ) ) ;
+
+            System.out.printf( "%-20s %,14.0f %12.1f %10.4f %10.3f %10.4f  %s%n",
+                               candidate.displayName,
+                               shuffleCount / seconds,
+                               statistic,
+                               chiSquareP,
+                               averageRising,
+                               risingP,
+                               ( chiSquareP < SIGNIFICANCE ) || ( risingP < SIGNIFICANCE )
+                                       ? "BIASED"
+                                       : "unbiased" ) ;
+            }
+
+        System.out.printf( "%nexpected: chi-square about %,d (df), rising sequences %.1f; reject when p < %s%n",
+                           degreesOfFreedom,
+                           risingMean,
+                           SIGNIFICANCE ) ;
+
+        }   // end main()
+
+    }   // end class ShuffleQualityHarness
\ No newline at end of file
@@ -0,0 +1,10 @@
+/**
+ * Timing drivers which compare alternative implementations of the card game
+ * infrastructure - run them from the command line, they are not part of any game
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+
+package edu.wit.scds.ds.lists.app.card_game.benchmark ;
\ No newline at end of file
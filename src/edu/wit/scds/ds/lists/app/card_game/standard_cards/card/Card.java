@@ -47,6 +47,7 @@ import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Persist
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Persistence.TEMPORARY ;
 
 import java.util.ArrayList ;
+import java.util.Arrays ;
 import java.util.Collections ;
 import java.util.List ;
 import java.util.Objects ;
@@ -102,6 +103,22 @@ import java.util.Objects ;
  *     {@code true}/{@code false} to an {@code enum} to support more
  *     combinations of comparison including disabling them
  * @version 8.1 2025-11-19 add support for template cards
+ * @version 8.2 2026-10-17
+ *     <ul>
+ *     <li>assign every standard face a compact card id ({@code getCardId()})
+ *     usable as an array index; {@code equals()}, {@code hashCode()} and
+ *     pile lookups use it when comparing on suit and rank
+ *     <li>share face up text among all cards with the same face
+ *     <li>add {@code lookupCard()} which returns shared, temporary instances
+ *     for searching so lookups don't instantiate cards
+ *     </ul>
+ * @version 8.3 2026-10-17 add {@code matchesIdentity()}
+ * @version 8.4 2026-10-17 precompute a sort key for every face in every
+ *     comparison mode ({@code getSortKey()})
+ * @version 8.5 2026-10-17 report a change to the {@code CompareOn} setting so
+ *     piles which keep their cards in order re-sort
+ * @version 8.6 2026-10-17 {@code lookupCard()} returns lookup-only cards -
+ *     they can't be changed or added to a pile
  */
 public final class Card extends CardBase
     {
@@ -139,6 +156,38 @@ public final class Card extends CardBase
         }   // end enum CompareOn
 
 
+    /** number of ranks in each suit - {@code ACE}..{@code KING} */
+    private final static int RANKS_PER_SUIT = 13 ;
+
+    /** number of real suits - {@code SPADES}..{@code CLUBS} */
+    private final static int SUIT_COUNT = 4 ;
+
+    /**
+     * the card id shared by all jokers - jokers are interchangeable so there is
+     * only one
+     *
+     * @since 8.2
+     */
+    public final static int JOKER_CARD_ID = SUIT_COUNT * RANKS_PER_SUIT ;
+
+    /**
+     * the number of distinct card ids - ids are {@code 0}..
+     * {@code CARD_ID_COUNT - 1}
+     *
+     * @since 8.2
+     */
+    public final static int CARD_ID_COUNT = JOKER_CARD_ID + 1 ;
+
+    /** face up text for every rank/suit combination, indexed by ordinals */
+    private final static String[][] FACE_UP_TEXTS ;
+
+    /** shared, lookup-only instances, indexed by card id */
+    private final static Card[] LOOKUP_CARDS ;
+
+    /** sort keys indexed by {@code CompareOn} ordinal then card id */
+    private final static int[][] SORT_KEYS ;
+
+
     /*
      * static data
      */
@@ -150,6 +199,60 @@ public final class Card extends CardBase
     private static CompareOn compareOnAttributes = CompareOn.COMPARE_SUIT_AND_RANK ;
 
 
+    /*
+     * static initializer
+     */
+
+
+    static
+        {
+
+        final Rank[] ranks = Rank.values() ;
+        final Suit[] suits = Suit.values() ;
+
+        FACE_UP_TEXTS = new String[ ranks.length ][ suits.length ] ;
+
+        for ( final Rank rank : ranks )
+            {
+
+            for ( final Suit suit : suits )
+                {
+                FACE_UP_TEXTS[ rank.ordinal() ][ suit.ordinal() ] = rank.toString() + suit.toString() ;
+                }
+
+            }
+
+        LOOKUP_CARDS = new Card[ CARD_ID_COUNT ] ;
+
+        for ( final Rank rank : ranks )
+            {
+
+            for ( final Suit suit : suits )
+                {
+                final int cardId = cardIdOf( rank, suit ) ;
+
+                if ( cardId != NO_IDENTITY )
+                    {
+                    final Card lookupOnlyCard = new Card( rank, suit, TEMPORARY ) ;
+                    lookupOnlyCard.makeLookupOnly() ;
+
+                    LOOKUP_CARDS[ cardId ] = lookupOnlyCard ;
+                    }
+
+                }
+
+            }
+
+        SORT_KEYS = new int[ CompareOn.values().length ][] ;
+
+        for ( final CompareOn mode : CompareOn.values() )
+            {
+            SORT_KEYS[ mode.ordinal() ] = sortKeysFor( mode ) ;
+            }
+
+        }   // end static initializer
+
+
     /*
      * data fields
      */
@@ -161,6 +264,9 @@ public final class Card extends CardBase
     /** The card's rank within its suit */
     public final Rank rank ;
 
+    /** compact identifier for the rank/suit combination */
+    private final int cardId ;
+
 
     /*
      * constructors
@@ -193,15 +299,40 @@ public final class Card extends CardBase
                  final Suit theSuit )
         {
 
+        this( theRank, theSuit, defaultPersistence ) ;
+
+        }   // end 2-arg constructor
+
+
+    /**
+     * Initialize a card with a specified suit, rank, and persistence
+     *
+     * @param theRank
+     *     this card's rank
+     * @param theSuit
+     *     this card's suit
+     * @param cardPersistence
+     *     the persistence for the card
+     *
+     * @since 8.2
+     */
+    private Card( final Rank theRank,
+                  final Suit theSuit,
+                  final Persistence cardPersistence )
+        {
+
+        super( cardPersistence ) ;
+
         Objects.requireNonNull( theSuit, "theSuit" ) ;
         Objects.requireNonNull( theRank, "theRank" ) ;
 
         this.suit = theSuit ;
         this.rank = theRank ;
+        this.cardId = cardIdOf( theRank, theSuit ) ;
 
-        super.setFaceUpText( String.format( "%s%s", this.rank, this.suit ) ) ;
+        super.setFaceUpText( FACE_UP_TEXTS[ theRank.ordinal() ][ theSuit.ordinal() ] ) ;
 
-        }   // end 2-arg constructor
+        }   // end 3-arg constructor
 
 
     /**
@@ -236,6 +367,7 @@ public final class Card extends CardBase
 
         this.suit = sourceCard.suit ;
         this.rank = sourceCard.rank ;
+        this.cardId = sourceCard.cardId ;
 
         super.setOrientation( sourceCard.orientation ) ;
 
@@ -245,7 +377,61 @@ public final class Card extends CardBase
     /*
      * getters and setters
      */
-    // none - unnecessary
+
+
+    /**
+     * retrieve this card's compact id
+     * <p>
+     * each of the 52 suited cards has its own id, numbered by suit
+     * ({@code SPADES}, {@code DIAMONDS}, {@code HEARTS}, {@code CLUBS}) then
+     * rank ({@code ACE}..{@code KING}); all jokers share
+     * {@link #JOKER_CARD_ID}
+     *
+     * @return the id in the range {@code 0}..{@code CARD_ID_COUNT - 1} or
+     *     {@code NO_IDENTITY} if the rank/suit combination isn't part of a
+     *     standard deck
+     *
+     * @since 8.2
+     */
+    public int getCardId()
+        {
+
+        return this.cardId ;
+
+        }   // end getCardId()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * same as {@code getCardId()}
+     */
+    @Override
+    public int getIdentity()
+        {
+
+        return this.cardId ;
+
+        }   // end getIdentity()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * looked up for the current {@code CompareOn} setting - cards which compare
+     * equal share a key, from {@code 0} to {@code CARD_ID_COUNT - 1}. Returns
+     * {@code NO_SORT_KEY} if comparisons are disabled or the card isn't part of
+     * a standard deck.
+     */
+    @Override
+    public int getSortKey()
+        {
+
+        return this.cardId == NO_IDENTITY
+                ? NO_SORT_KEY
+                : SORT_KEYS[ Card.compareOnAttributes.ordinal() ][ this.cardId ] ;
+
+        }   // end getSortKey()
 
 
     /*
@@ -283,6 +469,11 @@ public final class Card extends CardBase
 
         Card.compareOnAttributes = newCompareOnAttributes ;
 
+        if ( newCompareOnAttributes != wasCompareOnAttributes )
+            {
+            orderingChanged() ;
+            }
+
         return wasCompareOnAttributes ;
 
         }  // end setCompareOnAttributes()
@@ -353,6 +544,20 @@ public final class Card extends CardBase
      */
 
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * true when comparing on both suit and rank
+     */
+    @Override
+    public boolean equalityUsesIdentity()
+        {
+
+        return Card.compareOnAttributes == CompareOn.COMPARE_SUIT_AND_RANK ;
+
+        }   // end equalityUsesIdentity()
+
+
     @Override
     public int compareTo( final CardBase otherCard )
         {
@@ -421,6 +626,13 @@ public final class Card extends CardBase
         // another standard card? false if otherObject is null
         if ( otherObject instanceof final Card otherCard )
             {
+
+            // a standard face is fully described by its id
+            if ( equalityUsesIdentity() && ( this.cardId != NO_IDENTITY ) )
+                {
+                return this.cardId == otherCard.cardId ;
+                }
+
             return compareTo( otherCard ) == 0 ;
             }
 
@@ -442,12 +654,16 @@ public final class Card extends CardBase
 
         // assertion: rank and/or suit will be included
 
-        return Objects.hash( compareOnRank()
-                ? this.rank
-                : 0,
-                             compareOnSuit()
-                                     ? this.suit
-                                     : 0 ) ;
+        if ( equalityUsesIdentity() && ( this.cardId != NO_IDENTITY ) )
+            {
+            return this.cardId ;
+            }
+
+        return ( ( compareOnRank()
+                ? this.rank.ordinal() + 1
+                : 0 ) * 31 ) + ( compareOnSuit()
+                        ? this.suit.ordinal() + 1
+                        : 0 ) ;
 
         }   // end hashCode()
 
@@ -513,6 +729,103 @@ public final class Card extends CardBase
         }   // end by-components matches()
 
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * follows the same rules as {@code matches()}
+     *
+     * @since 8.3
+     */
+    @Override
+    public boolean matchesIdentity( final int identity )
+        {
+
+        Objects.checkIndex( identity, CARD_ID_COUNT ) ;
+
+        final Card identifiedCard = LOOKUP_CARDS[ identity ] ;
+
+        return matches( identifiedCard.rank, identifiedCard.suit ) ;
+
+        }   // end matchesIdentity()
+
+
+    /**
+     * determine the card id for a rank/suit combination
+     *
+     * @param rank
+     *     the rank
+     * @param suit
+     *     the suit
+     *
+     * @return the card id or {@code NO_IDENTITY} if the combination isn't part
+     *     of a standard deck
+     *
+     * @since 8.2
+     */
+    public static int cardIdOf( final Rank rank,
+                                final Suit suit )
+        {
+
+        Objects.requireNonNull( rank, "rank" ) ;
+        Objects.requireNonNull( suit, "suit" ) ;
+
+        if ( rank == JOKER )
+            {
+            return suit == NA
+                    ? JOKER_CARD_ID
+                    : NO_IDENTITY ;
+            }
+
+        if ( suit == NA )
+            {
+            return NO_IDENTITY ;
+            }
+
+        // suits and ranks are declared in id order
+        return ( suit.ordinal() * RANKS_PER_SUIT ) + rank.ordinal() ;
+
+        }   // end cardIdOf()
+
+
+    /**
+     * retrieve a card suitable for finding, matching, or removing cards with the
+     * specified components
+     * <p>
+     * for standard faces, the same shared, temporary instance is returned every
+     * time so lookups don't instantiate cards. The card is lookup-only:
+     * changing it (e.g. {@code reveal()}) throws
+     * {@code UnsupportedOperationException} and piles won't accept it. Use it
+     * for the lookup at hand and don't keep it - {@code newCardLike()} makes a
+     * card to keep.
+     *
+     * @param rank
+     *     the rank to look for
+     * @param suit
+     *     the suit to look for
+     *
+     * @return a temporary, lookup-only card with the specified rank and suit
+     *
+     * @since 8.2
+     */
+    public static Card lookupCard( final Rank rank,
+                                   final Suit suit )
+        {
+
+        final int cardId = cardIdOf( rank, suit ) ;    // checks for null arguments
+
+        if ( cardId == NO_IDENTITY )
+            {
+            final Card lookupOnlyCard = new Card( rank, suit, TEMPORARY ) ;
+            lookupOnlyCard.makeLookupOnly() ;
+
+            return lookupOnlyCard ;
+            }
+
+        return LOOKUP_CARDS[ cardId ] ;
+
+        }   // end lookupCard()
+
+
     /**
      * create a new card resembling the provided card
      *
@@ -604,6 +917,79 @@ public final class Card extends CardBase
         }   // end compareOnSuit()
 
 
+    /**
+     * compute a value which orders a face as {@code compareTo()} would in a
+     * comparison mode
+     *
+     * @param card
+     *     a card with the face
+     * @param mode
+     *     the comparison mode - comparisons must be enabled
+     *
+     * @return the value
+     *
+     * @since 8.4
+     */
+    private static long rawSortKey( final Card card,
+                                    final CompareOn mode )
+        {
+
+        final long rankKey = mode == CompareOn.COMPARE_SUIT_ONLY
+                ? 0
+                : card.rank.getAltOrder() ;
+        final long suitKey = mode == CompareOn.COMPARE_RANK_ONLY
+                ? 0
+                : card.suit.getAltPriority() ;
+
+        // rank first, then suit
+        return ( rankKey << Integer.SIZE ) + suitKey ;
+
+        }   // end rawSortKey()
+
+
+    /**
+     * number the faces in the order {@code compareTo()} puts them in a
+     * comparison mode - faces which compare equal share a number
+     *
+     * @param mode
+     *     the comparison mode
+     *
+     * @return the sort keys, indexed by card id
+     *
+     * @since 8.4
+     */
+    private static int[] sortKeysFor( final CompareOn mode )
+        {
+
+        final int[] keys = new int[ CARD_ID_COUNT ] ;
+
+        if ( mode == CompareOn.COMPARE_NONE )
+            {
+            Arrays.fill( keys, NO_SORT_KEY ) ;
+
+            return keys ;
+            }
+
+        final long[] rawKeys = new long[ CARD_ID_COUNT ] ;
+
+        for ( int cardId = 0 ; cardId < CARD_ID_COUNT ; cardId++ )
+            {
+            rawKeys[ cardId ] = rawSortKey( LOOKUP_CARDS[ cardId ], mode ) ;
+            }
+
+        // each face's key is the number of distinct smaller values
+        final long[] distinctKeys = Arrays.stream( rawKeys ).distinct().sorted().toArray() ;
+
+        for ( int cardId = 0 ; cardId < CARD_ID_COUNT ; cardId++ )
+            {
+            keys[ cardId ] = Arrays.binarySearch( distinctKeys, rawKeys[ cardId ] ) ;
+            }
+
+        return keys ;
+
+        }   // end sortKeysFor()
+
+
     /*
      * inner classes
      */
@@ -0,0 +1,528 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.standard_cards.card ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.support.Persistence ;
+
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_DOWN ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_UP ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Persistence.PERMANENT ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Persistence.TEMPLATE ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Persistence.TEMPORARY ;
+
+import java.util.Arrays ;
+import java.util.Objects ;
+
+
+/**
+ * Packs the complete state of a standard playing card into a single
+ * {@code int} so large simulations can hold cards in primitive arrays rather
+ * than as {@code Card} objects
+ * <p>
+ * layout, least significant bit first - every code fits in 16 bits and is
+ * non-negative:
+ * <ul>
+ * <li>bits 0-3: rank ordinal
+ * <li>bits 4-6: suit ordinal
+ * <li>bit 7: set if face up
+ * <li>bits 8-9: persistence ordinal
+ * <li>bits 10-15: index of the deck the card came from
+ * </ul>
+ * <p>
+ * Note: codes describe cards, they aren't cards - {@link #decode(int)}
+ * instantiates a new {@code Card} each time it's called
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class CardCodec
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** position of the rank ordinal */
+    private final static int RANK_SHIFT = 0 ;
+
+    /** width mask for the rank ordinal */
+    private final static int RANK_MASK = 0xF ;
+
+    /** position of the suit ordinal */
+    private final static int SUIT_SHIFT = 4 ;
+
+    /** width mask for the suit ordinal */
+    private final static int SUIT_MASK = 0x7 ;
+
+    /** set when the card is face up */
+    private final static int FACE_UP_BIT = 1 << 7 ;
+
+    /** position of the persistence ordinal */
+    private final static int PERSISTENCE_SHIFT = 8 ;
+
+    /** width mask for the persistence ordinal */
+    private final static int PERSISTENCE_MASK = 0x3 ;
+
+    /** position of the deck index */
+    private final static int DECK_SHIFT = 10 ;
+
+    /** width mask for the deck index */
+    private final static int DECK_MASK = 0x3F ;
+
+    /** the rank and suit bits together - identify the face */
+    private final static int FACE_MASK = ( RANK_MASK << RANK_SHIFT ) | ( SUIT_MASK << SUIT_SHIFT ) ;
+
+    /** the largest deck index which can be encoded */
+    public final static int MAX_DECK_INDEX = DECK_MASK ;
+
+    /** never a valid code - available to mark the absence of a card */
+    public final static int NO_CARD = -1 ;
+
+
+    /*
+     * static fields
+     */
+
+
+    /** decode rank ordinals */
+    private final static Rank[] RANKS = Rank.values() ;
+
+    /** decode suit ordinals */
+    private final static Suit[] SUITS = Suit.values() ;
+
+    /** decode persistence ordinals */
+    private final static Persistence[] PERSISTENCES = Persistence.values() ;
+
+    /** card id for each face, indexed by {@code code & FACE_MASK} */
+    private final static int[] CARD_IDS = new int[ FACE_MASK + 1 ] ;
+
+    /** face up text for each face, indexed by {@code code & FACE_MASK} */
+    private final static String[] FACE_UP_TEXTS = new String[ FACE_MASK + 1 ] ;
+
+    static
+        {
+
+        // make sure the enums still fit in their fields
+        if ( ( RANKS.length > ( RANK_MASK + 1 ) ) || ( SUITS.length > ( SUIT_MASK + 1 ) )
+             || ( PERSISTENCES.length > ( PERSISTENCE_MASK + 1 ) ) )
+            {
+            throw new IllegalStateException( "card attributes no longer fit in a CardCodec code" ) ;
+            }
+
+        Arrays.fill( CARD_IDS, CardBase.NO_IDENTITY ) ;
+
+        for ( final Rank rank : RANKS )
+            {
+
+            for ( final Suit suit : SUITS )
+                {
+                final int face = faceBits( rank, suit ) ;
+
+                CARD_IDS[ face ] = Card.cardIdOf( rank, suit ) ;
+                FACE_UP_TEXTS[ face ] = rank.toString() + suit.toString() ;
+                }
+
+            }
+
+        }   // end static initializer
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * prevent instantiation
+     */
+    private CardCodec()
+        {
+        // can't instantiate outside of this class
+
+        }   // end no-arg constructor
+
+
+    /*
+     * encoding
+     */
+
+
+    /**
+     * pack the attributes of a card
+     *
+     * @param rank
+     *     the card's rank
+     * @param suit
+     *     the card's suit
+     * @param orientation
+     *     {@code FACE_UP} or {@code FACE_DOWN}
+     * @param persistence
+     *     {@code PERMANENT}, {@code TEMPORARY}, or {@code TEMPLATE}
+     * @param deckIndex
+     *     the deck the card came from - {@code 0}..{@code MAX_DECK_INDEX}
+     *
+     * @return the code
+     *
+     * @throws IllegalArgumentException
+     *     if the orientation, persistence, or deck index isn't valid for a
+     *     card
+     */
+    public static int encode( final Rank rank,
+                              final Suit suit,
+                              final Orientation orientation,
+                              final Persistence persistence,
+                              final int deckIndex )
+            throws IllegalArgumentException
+        {
+
+        Objects.requireNonNull( rank, "rank" ) ;
+        Objects.requireNonNull( suit, "suit" ) ;
+        Objects.requireNonNull( orientation, "orientation" ) ;
+        Objects.requireNonNull( persistence, "persistence" ) ;
+
+        if ( ( orientation != FACE_UP ) && ( orientation != FACE_DOWN ) )
+            {
+            throw new IllegalArgumentException( String.format( "%s is not acceptable for a card",
+                                                               orientation.name() ) ) ;
+            }
+
+        if ( ( persistence != PERMANENT ) && ( persistence != TEMPORARY ) && ( persistence != TEMPLATE ) )
+            {
+            throw new IllegalArgumentException( String.format( "%s is not an acceptable persistence for a card",
+                                                               persistence.name() ) ) ;
+            }
+
+        if ( ( deckIndex < 0 ) || ( deckIndex > MAX_DECK_INDEX ) )
+            {
+            throw new IllegalArgumentException( String.format( "deck index must be 0..%,d, is %,d",
+                                                               MAX_DECK_INDEX,
+                                                               deckIndex ) ) ;
+            }
+
+        return faceBits( rank, suit )
+               | ( orientation == FACE_UP
+                       ? FACE_UP_BIT
+                       : 0 )
+               | ( persistence.ordinal() << PERSISTENCE_SHIFT )
+               | ( deckIndex << DECK_SHIFT ) ;
+
+        }   // end encode()
+
+
+    /**
+     * pack the attributes of an existing card
+     *
+     * @param card
+     *     the card to encode
+     * @param deckIndex
+     *     the deck the card came from - {@code 0}..{@code MAX_DECK_INDEX}
+     *
+     * @return the code
+     */
+    public static int encode( final Card card,
+                              final int deckIndex )
+        {
+
+        Objects.requireNonNull( card, "card" ) ;
+
+        return encode( card.rank, card.suit, card.getOrientation(), card.getPersistence(), deckIndex ) ;
+
+        }   // end encode() from a card
+
+
+    /**
+     * instantiate a card with the attributes in a code
+     *
+     * @param code
+     *     a valid code
+     *
+     * @return a new card
+     */
+    public static Card decode( final int code )
+        {
+
+        final Card card = new Card( Card.lookupCard( rankOf( code ), suitOf( code ) ), persistenceOf( code ) ) ;
+
+        card.setOrientation( orientationOf( code ) ) ;
+
+        return card ;
+
+        }   // end decode()
+
+
+    /*
+     * field access
+     */
+
+
+    /**
+     * @param code
+     *     a valid code
+     *
+     * @return the card's rank
+     */
+    public static Rank rankOf( final int code )
+        {
+
+        return RANKS[ ( code >>> RANK_SHIFT ) & RANK_MASK ] ;
+
+        }   // end rankOf()
+
+
+    /**
+     * @param code
+     *     a valid code
+     *
+     * @return the card's suit
+     */
+    public static Suit suitOf( final int code )
+        {
+
+        return SUITS[ ( code >>> SUIT_SHIFT ) & SUIT_MASK ] ;
+
+        }   // end suitOf()
+
+
+    /**
+     * @param code
+     *     a valid code
+     *
+     * @return {@code true} if the card is face up
+     */
+    public static boolean isFaceUp( final int code )
+        {
+
+        return ( code & FACE_UP_BIT ) != 0 ;
+
+        }   // end isFaceUp()
+
+
+    /**
+     * @param code
+     *     a valid code
+     *
+     * @return {@code FACE_UP} or {@code FACE_DOWN}
+     */
+    public static Orientation orientationOf( final int code )
+        {
+
+        return isFaceUp( code )
+                ? FACE_UP
+                : FACE_DOWN ;
+
+        }   // end orientationOf()
+
+
+    /**
+     * @param code
+     *     a valid code
+     *
+     * @return the card's persistence
+     */
+    public static Persistence persistenceOf( final int code )
+        {
+
+        return PERSISTENCES[ ( code >>> PERSISTENCE_SHIFT ) & PERSISTENCE_MASK ] ;
+
+        }   // end persistenceOf()
+
+
+    /**
+     * @param code
+     *     a valid code
+     *
+     * @return the index of the deck the card came from
+     */
+    public static int deckIndexOf( final int code )
+        {
+
+        return ( code >>> DECK_SHIFT ) & DECK_MASK ;
+
+        }   // end deckIndexOf()
+
+
+    /**
+     * @param code
+     *     a valid code
+     *
+     * @return the card's id (see {@link Card#getCardId()}) or
+     *     {@code NO_IDENTITY}
+     */
+    public static int cardIdOf( final int code )
+        {
+
+        return CARD_IDS[ code & FACE_MASK ] ;
+
+        }   // end cardIdOf()
+
+
+    /**
+     * determine whether two codes represent the same face (rank and suit),
+     * regardless of orientation, persistence, or deck
+     *
+     * @param code
+     *     a valid code
+     * @param otherCode
+     *     another valid code
+     *
+     * @return {@code true} if the faces are the same
+     */
+    public static boolean sameFace( final int code,
+                                    final int otherCode )
+        {
+
+        return ( code & FACE_MASK ) == ( otherCode & FACE_MASK ) ;
+
+        }   // end sameFace()
+
+
+    /*
+     * orientation changes - codes are values, these return new codes
+     */
+
+
+    /**
+     * @param code
+     *     a valid code
+     *
+     * @return the code for the card turned face up
+     */
+    public static int faceUp( final int code )
+        {
+
+        return code | FACE_UP_BIT ;
+
+        }   // end faceUp()
+
+
+    /**
+     * @param code
+     *     a valid code
+     *
+     * @return the code for the card turned face down
+     */
+    public static int faceDown( final int code )
+        {
+
+        return code & ~FACE_UP_BIT ;
+
+        }   // end faceDown()
+
+
+    /**
+     * @param code
+     *     a valid code
+     *
+     * @return the code for the card turned over
+     */
+    public static int flip( final int code )
+        {
+
+        return code ^ FACE_UP_BIT ;
+
+        }   // end flip()
+
+
+    /**
+     * @param code
+     *     a valid code
+     * @param orientation
+     *     {@code FACE_UP}, {@code FACE_DOWN}, {@code FLIP}, or {@code AS_IS}
+     *
+     * @return the code for the card in the specified orientation
+     */
+    public static int withOrientation( final int code,
+                                       final Orientation orientation )
+        {
+
+        Objects.requireNonNull( orientation, "orientation" ) ;
+
+        return switch ( orientation )
+            {
+            case FACE_UP -> faceUp( code ) ;
+            case FACE_DOWN -> faceDown( code ) ;
+            case FLIP -> flip( code ) ;
+            case AS_IS -> code ;
+            } ;
+
+        }   // end withOrientation()
+
+
+    /*
+     * display
+     */
+
+
+    /**
+     * produce the same text as {@code Card.toString()} would for the card,
+     * without decoration
+     *
+     * @param code
+     *     a valid code
+     *
+     * @return the face up text or the current default face down text
+     */
+    public static String toString( final int code )
+        {
+
+        return isFaceUp( code )
+                ? FACE_UP_TEXTS[ code & FACE_MASK ]
+                : CardBase.getDefaultFaceDownText() ;
+
+        }   // end toString()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * @param rank
+     *     the rank
+     * @param suit
+     *     the suit
+     *
+     * @return the rank and suit bits
+     */
+    private static int faceBits( final Rank rank,
+                                 final Suit suit )
+        {
+
+        return ( rank.ordinal() << RANK_SHIFT ) | ( suit.ordinal() << SUIT_SHIFT ) ;
+
+        }   // end faceBits()
+
+    }   // end class CardCodec
\ No newline at end of file
@@ -0,0 +1,808 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.standard_cards.card ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
+import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card.JOKER_CARD_ID ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase.NO_IDENTITY ;
+
+import java.util.ArrayList ;
+import java.util.List ;
+import java.util.Objects ;
+
+
+/**
+ * The faces in (at most) one standard deck, held as bits in a single
+ * {@code long}
+ * <p>
+ * bit {@code n} is set when the set contains the card whose id (see
+ * {@link Card#getCardId()}) is {@code n}; the 2 Jokers share an id so they
+ * occupy bits 52 and 53, filled in that order. Membership tests, additions,
+ * and removals are O(1); counting and set algebra are a handful of bitwise
+ * operations regardless of how many cards are involved.
+ * <p>
+ * a set records faces, not cards - it doesn't distinguish duplicate cards
+ * from multiple decks, orientation, or persistence
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class CardSet
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** number of ranks in each suit, excluding Jokers */
+    private final static int RANKS_PER_SUIT = 13 ;
+
+    /** one bit per rank within a suit */
+    private final static int SUIT_RANKS_MASK = ( 1 << RANKS_PER_SUIT ) - 1 ;
+
+    /** the bits for the 52 playing cards */
+    private final static long PLAYING_CARDS_MASK = ( 1L << JOKER_CARD_ID ) - 1 ;
+
+    /** the first Joker */
+    private final static long FIRST_JOKER_BIT = 1L << JOKER_CARD_ID ;
+
+    /** the second Joker */
+    private final static long SECOND_JOKER_BIT = 1L << ( JOKER_CARD_ID + 1 ) ;
+
+    /** both Jokers */
+    private final static long JOKERS_MASK = FIRST_JOKER_BIT | SECOND_JOKER_BIT ;
+
+    /** the playing suits, in id order */
+    private final static Suit[] PLAYING_SUITS = { Suit.SPADES, Suit.DIAMONDS, Suit.HEARTS, Suit.CLUBS } ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** the members */
+    private long bits ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize an empty set
+     */
+    public CardSet()
+        {
+
+        this( 0L ) ;
+
+        }   // end no-arg constructor
+
+
+    /**
+     * Initialize a set with the same members as another
+     *
+     * @param sourceSet
+     *     the set to copy
+     */
+    public CardSet( final CardSet sourceSet )
+        {
+
+        this( Objects.requireNonNull( sourceSet, "sourceSet" ).bits ) ;
+
+        }   // end copy constructor
+
+
+    /**
+     * Initialize a set from its bits
+     *
+     * @param initialBits
+     *     the members
+     */
+    private CardSet( final long initialBits )
+        {
+
+        this.bits = initialBits ;
+
+        }   // end private 1-arg constructor
+
+
+    /**
+     * instantiate a set containing every face in a standard deck, including
+     * both Jokers
+     *
+     * @return the new set
+     */
+    public static CardSet fullDeck()
+        {
+
+        return new CardSet( PLAYING_CARDS_MASK | JOKERS_MASK ) ;
+
+        }   // end fullDeck()
+
+
+    /**
+     * instantiate a set containing the faces of a collection of cards -
+     * duplicate faces collapse into one, except that up to 2 Jokers are
+     * recorded
+     *
+     * @param cards
+     *     the cards to include
+     *
+     * @return the new set
+     *
+     * @throws IllegalArgumentException
+     *     if any card isn't a standard card
+     */
+    public static CardSet of( final Iterable<? extends CardBase> cards ) throws IllegalArgumentException
+        {
+
+        Objects.requireNonNull( cards, "cards" ) ;
+
+        final CardSet newSet = new CardSet() ;
+
+        for ( final CardBase aCard : cards )
+            {
+
+            if ( ! ( aCard instanceof final Card aStandardCard ) )
+                {
+                throw new IllegalArgumentException( String.format( "can't include %s in a CardSet",
+                                                                   aCard == null
+                                                                           ? "null"
+                                                                           : aCard.getClass()
+                                                                                  .getSimpleName() ) ) ;
+                }
+
+            newSet.add( aStandardCard ) ;
+            }
+
+        return newSet ;
+
+        }   // end of()
+
+
+    /*
+     * membership
+     */
+
+
+    /**
+     * add a card's face
+     *
+     * @param card
+     *     the card to add
+     *
+     * @return {@code true} if the set changed
+     *
+     * @throws IllegalArgumentException
+     *     if the card isn't part of a standard deck
+     */
+    public boolean add( final Card card ) throws IllegalArgumentException
+        {
+
+        Objects.requireNonNull( card, "card" ) ;
+
+        return add( card.rank, card.suit ) ;
+
+        }   // end add()
+
+
+    /**
+     * add a face
+     *
+     * @param rank
+     *     the rank to add
+     * @param suit
+     *     the suit to add
+     *
+     * @return {@code true} if the set changed
+     *
+     * @throws IllegalArgumentException
+     *     if the combination isn't part of a standard deck
+     */
+    public boolean add( final Rank rank,
+                        final Suit suit ) throws IllegalArgumentException
+        {
+
+        final int cardId = validCardId( rank, suit ) ;
+
+        final long bit = cardId == JOKER_CARD_ID
+                ? ( this.bits & FIRST_JOKER_BIT ) == 0
+                        ? FIRST_JOKER_BIT
+                        : SECOND_JOKER_BIT
+                : 1L << cardId ;
+
+        final long before = this.bits ;
+        this.bits |= bit ;
+
+        return this.bits != before ;
+
+        }   // end add() by components
+
+
+    /**
+     * remove all members
+     *
+     * @return this set (fluent)
+     */
+    public CardSet clear()
+        {
+
+        this.bits = 0L ;
+
+        return this ;
+
+        }   // end clear()
+
+
+    /**
+     * determine whether a card's face is in the set
+     *
+     * @param card
+     *     the card to look for
+     *
+     * @return {@code true} if the face is present
+     */
+    public boolean contains( final Card card )
+        {
+
+        Objects.requireNonNull( card, "card" ) ;
+
+        return contains( card.rank, card.suit ) ;
+
+        }   // end contains()
+
+
+    /**
+     * determine whether a face is in the set
+     *
+     * @param rank
+     *     the rank to look for
+     * @param suit
+     *     the suit to look for
+     *
+     * @return {@code true} if the face is present; {@code false} if not or if
+     *     the combination isn't part of a standard deck
+     */
+    public boolean contains( final Rank rank,
+                             final Suit suit )
+        {
+
+        final int cardId = Card.cardIdOf( rank, suit ) ;
+
+        return ( cardId != NO_IDENTITY ) && ( ( this.bits & ( 1L << cardId ) ) != 0 ) ;
+
+        }   // end contains() by components
+
+
+    /**
+     * remove a card's face
+     *
+     * @param card
+     *     the card to remove
+     *
+     * @return {@code true} if the set changed
+     */
+    public boolean remove( final Card card )
+        {
+
+        Objects.requireNonNull( card, "card" ) ;
+
+        return remove( card.rank, card.suit ) ;
+
+        }   // end remove()
+
+
+    /**
+     * remove a face - removes one Joker at a time
+     *
+     * @param rank
+     *     the rank to remove
+     * @param suit
+     *     the suit to remove
+     *
+     * @return {@code true} if the set changed
+     */
+    public boolean remove( final Rank rank,
+                           final Suit suit )
+        {
+
+        final int cardId = Card.cardIdOf( rank, suit ) ;
+
+        if ( cardId == NO_IDENTITY )
+            {
+            return false ;
+            }
+
+        final long bit = cardId == JOKER_CARD_ID
+                ? ( this.bits & SECOND_JOKER_BIT ) != 0
+                        ? SECOND_JOKER_BIT
+                        : FIRST_JOKER_BIT
+                : 1L << cardId ;
+
+        final long before = this.bits ;
+        this.bits &= ~bit ;
+
+        return this.bits != before ;
+
+        }   // end remove() by components
+
+
+    /*
+     * counting
+     */
+
+
+    /**
+     * @return {@code true} if the set has no members
+     */
+    public boolean isEmpty()
+        {
+
+        return this.bits == 0L ;
+
+        }   // end isEmpty()
+
+
+    /**
+     * @return the number of Jokers - 0..2
+     */
+    public int jokerCount()
+        {
+
+        return Long.bitCount( this.bits & JOKERS_MASK ) ;
+
+        }   // end jokerCount()
+
+
+    /**
+     * count the members with a given rank and/or suit, as {@code Card.matches()}
+     * would
+     *
+     * @param rank
+     *     the rank to match or {@code null} to match on suit only
+     * @param suit
+     *     the suit to match or {@code null} to match on rank only
+     *
+     * @return the number of members with the rank or the suit
+     */
+    public int matchCount( final Rank rank,
+                           final Suit suit )
+        {
+
+        long matching = 0L ;
+
+        if ( ( rank == Rank.JOKER ) || ( suit == Suit.NA ) )
+            {
+            matching |= JOKERS_MASK ;
+            }
+
+        if ( ( rank != null ) && ( rank != Rank.JOKER ) )
+            {
+
+            for ( final Suit aSuit : PLAYING_SUITS )
+                {
+                matching |= 1L << Card.cardIdOf( rank, aSuit ) ;
+                }
+
+            }
+
+        if ( ( suit != null ) && ( suit != Suit.NA ) )
+            {
+            matching |= (long) SUIT_RANKS_MASK << suitShift( suit ) ;
+            }
+
+        return Long.bitCount( this.bits & matching ) ;
+
+        }   // end matchCount()
+
+
+    /**
+     * @return the number of members
+     */
+    public int size()
+        {
+
+        return Long.bitCount( this.bits ) ;
+
+        }   // end size()
+
+
+    /*
+     * rank masks
+     */
+
+
+    /**
+     * retrieve the ranks present in a suit as a 13-bit mask - bit {@code n} is
+     * set if the rank with ordinal {@code n} is present (Ace is bit 0, King is
+     * bit 12)
+     *
+     * @param suit
+     *     a playing suit
+     *
+     * @return the mask; always 0 for {@code Suit.NA}
+     */
+    public int rankMask( final Suit suit )
+        {
+
+        Objects.requireNonNull( suit, "suit" ) ;
+
+        if ( suit == Suit.NA )
+            {
+            return 0 ;
+            }
+
+        return (int) ( this.bits >>> suitShift( suit ) ) & SUIT_RANKS_MASK ;
+
+        }   // end rankMask()
+
+
+    /**
+     * determine whether the members all have the same rank - including a set
+     * of only Jokers
+     *
+     * @return {@code true} if the set is non-empty and all members have the
+     *     same rank
+     */
+    public boolean isSingleRank()
+        {
+
+        final int ranks = allRanksMask() ;
+
+        if ( ( this.bits & JOKERS_MASK ) != 0 )
+            {
+            return ranks == 0 ;
+            }
+
+        return Integer.bitCount( ranks ) == 1 ;
+
+        }   // end isSingleRank()
+
+
+    /**
+     * determine whether the members form a run - a single suit, no Jokers, and
+     * ranks which are consecutive according to {@link Rank#getOrder()}
+     *
+     * @return {@code true} if the set is non-empty and forms a run
+     */
+    public boolean isRun()
+        {
+
+        return runSuit() != null ;
+
+        }   // end isRun()
+
+
+    /**
+     * determine whether adding a card would extend this set's run at either
+     * end
+     *
+     * @param card
+     *     the card to consider
+     *
+     * @return {@code true} if this set is a run and remains one with the card
+     *     added
+     */
+    public boolean canExtendRun( final Card card )
+        {
+
+        Objects.requireNonNull( card, "card" ) ;
+
+        final Suit suit = runSuit() ;
+
+        if ( ( suit == null ) || ( card.suit != suit ) || ( card.rank == Rank.JOKER ) )
+            {
+            return false ;
+            }
+
+        final int ranks = rankMask( suit ) ;
+        final int cardRank = 1 << card.rank.ordinal() ;
+
+        return ( ( ranks & cardRank ) == 0 ) && isConsecutive( ranks | cardRank ) ;
+
+        }   // end canExtendRun()
+
+
+    /*
+     * set algebra - these return new sets
+     */
+
+
+    /**
+     * @param otherSet
+     *     another set
+     *
+     * @return a new set containing the members of this set which aren't in
+     *     {@code otherSet}
+     */
+    public CardSet difference( final CardSet otherSet )
+        {
+
+        Objects.requireNonNull( otherSet, "otherSet" ) ;
+
+        final long playingCards = this.bits & ~otherSet.bits & PLAYING_CARDS_MASK ;
+        final int jokers = Math.max( 0, jokerCount() - otherSet.jokerCount() ) ;
+
+        return new CardSet( playingCards | jokerBits( jokers ) ) ;
+
+        }   // end difference()
+
+
+    /**
+     * @param otherSet
+     *     another set
+     *
+     * @return a new set containing the members common to both sets
+     */
+    public CardSet intersection( final CardSet otherSet )
+        {
+
+        Objects.requireNonNull( otherSet, "otherSet" ) ;
+
+        // Jokers fill from the first bit so AND yields the smaller count
+        return new CardSet( this.bits & otherSet.bits ) ;
+
+        }   // end intersection()
+
+
+    /**
+     * @param otherSet
+     *     another set
+     *
+     * @return a new set containing the members of either set
+     */
+    public CardSet union( final CardSet otherSet )
+        {
+
+        Objects.requireNonNull( otherSet, "otherSet" ) ;
+
+        // Jokers fill from the first bit so OR yields the larger count
+        return new CardSet( this.bits | otherSet.bits ) ;
+
+        }   // end union()
+
+
+    /*
+     * Object methods
+     */
+
+
+    @Override
+    public boolean equals( final Object otherObject )
+        {
+
+        return ( otherObject instanceof final CardSet otherSet ) && ( this.bits == otherSet.bits ) ;
+
+        }   // end equals()
+
+
+    @Override
+    public int hashCode()
+        {
+
+        return Long.hashCode( this.bits ) ;
+
+        }   // end hashCode()
+
+
+    @Override
+    public String toString()
+        {
+
+        final List<String> faces = new ArrayList<>( size() ) ;
+
+        for ( final Suit suit : PLAYING_SUITS )
+            {
+            final int ranks = rankMask( suit ) ;
+
+            for ( final Rank rank : Rank.values() )
+                {
+
+                if ( ( ranks & ( 1 << rank.ordinal() ) ) != 0 )
+                    {
+                    faces.add( rank.toString() + suit.toString() ) ;
+                    }
+
+                }
+
+            }
+
+        for ( int i = 0 ; i < jokerCount() ; i++ )
+            {
+            faces.add( Rank.JOKER.toString() + Suit.NA.toString() ) ;
+            }
+
+        return faces.toString() ;
+
+        }   // end toString()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * @return the ranks present in any playing suit as a 13-bit mask
+     */
+    private int allRanksMask()
+        {
+
+        int ranks = 0 ;
+
+        for ( final Suit suit : PLAYING_SUITS )
+            {
+            ranks |= rankMask( suit ) ;
+            }
+
+        return ranks ;
+
+        }   // end allRanksMask()
+
+
+    /**
+     * determine whether a rank mask holds consecutive ranks in the current
+     * rank order - Ace follows King when the alternate order is in effect
+     *
+     * @param ranks
+     *     a 13-bit rank mask
+     *
+     * @return {@code true} if the mask is non-zero and its ranks are
+     *     consecutive
+     */
+    private static boolean isConsecutive( final int ranks )
+        {
+
+        int ordered = ranks ;
+
+        if ( Rank.ACE.getOrder() > Rank.KING.getOrder() )
+            {
+            // rotate Ace from the bottom to above King
+            ordered = ( ranks >>> 1 ) | ( ( ranks & 1 ) << ( RANKS_PER_SUIT - 1 ) ) ;
+            }
+
+        if ( ordered == 0 )
+            {
+            return false ;
+            }
+
+        // a single run of 1s becomes a power of 2 when incremented
+        final int normalized = ordered >>> Integer.numberOfTrailingZeros( ordered ) ;
+
+        return ( normalized & ( normalized + 1 ) ) == 0 ;
+
+        }   // end isConsecutive()
+
+
+    /**
+     * @param jokers
+     *     0..2
+     *
+     * @return the bits representing that many Jokers
+     */
+    private static long jokerBits( final int jokers )
+        {
+
+        return switch ( jokers )
+            {
+            case 0 -> 0L ;
+            case 1 -> FIRST_JOKER_BIT ;
+            default -> JOKERS_MASK ;
+            } ;
+
+        }   // end jokerBits()
+
+
+    /**
+     * @return the suit of this set's run or {@code null} if it isn't a run
+     */
+    private Suit runSuit()
+        {
+
+        if ( ( this.bits & JOKERS_MASK ) != 0 )
+            {
+            return null ;
+            }
+
+        Suit found = null ;
+
+        for ( final Suit suit : PLAYING_SUITS )
+            {
+
+            if ( rankMask( suit ) != 0 )
+                {
+
+                if ( found != null )
+                    {
+                    return null ;
+                    }
+
+                found = suit ;
+                }
+
+            }
+
+        return ( found != null ) && isConsecutive( rankMask( found ) )
+                ? found
+                : null ;
+
+        }   // end runSuit()
+
+
+    /**
+     * @param suit
+     *     a playing suit
+     *
+     * @return the position of the suit's Ace
+     */
+    private static int suitShift( final Suit suit )
+        {
+
+        return Card.cardIdOf( Rank.ACE, suit ) ;
+
+        }   // end suitShift()
+
+
+    /**
+     * @param rank
+     *     the rank
+     * @param suit
+     *     the suit
+     *
+     * @return the card id
+     *
+     * @throws IllegalArgumentException
+     *     if the combination isn't part of a standard deck
+     */
+    private static int validCardId( final Rank rank,
+                                    final Suit suit ) throws IllegalArgumentException
+        {
+
+        final int cardId = Card.cardIdOf( rank, suit ) ;
+
+        if ( cardId == NO_IDENTITY )
+            {
+            throw new IllegalArgumentException( String.format( "%s of %s is not part of a standard deck",
+                                                               rank,
+                                                               suit ) ) ;
+            }
+
+        return cardId ;
+
+        }   // end validCardId()
+
+    }   // end class CardSet
\ No newline at end of file
@@ -30,6 +30,8 @@
 
 package edu.wit.scds.ds.lists.app.card_game.standard_cards.card ;
 
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
 import java.util.Arrays ;
 
 // do not modify this code
@@ -56,6 +58,10 @@ import java.util.Arrays ;
  *     <li>rename from {@code Rank} to {@code Rank} to track other class changes
  *     <li>swap (alt) point and (alt) order values
  *     </ul>
+ * @version 7.1 2026-10-17 add {@code getRegularPoints()} so both point
+ *     schemes can be totaled regardless of the current setting
+ * @version 7.2 2026-10-17 report a change to {@code useAltOrder} so piles which
+ *     keep their cards in order re-sort
  */
 public enum Rank
     {
@@ -299,6 +305,21 @@ public enum Rank
         } // end getPoints()
 
 
+    /**
+     * Retrieves the regular point value, regardless of {@code useAltPoints}
+     *
+     * @return the regular point value
+     *
+     * @since 7.1
+     */
+    public int getRegularPoints()
+        {
+
+        return this.points ;
+
+        } // end getRegularPoints()
+
+
     /**
      * Retrieves the current setting of {@code useAltOrder}
      *
@@ -340,6 +361,11 @@ public enum Rank
 
         Rank.useAltOrder = newUseAltOrder ;
 
+        if ( newUseAltOrder != wasUseAltOrder )
+            {
+            CardBase.orderingChanged() ;
+            }
+
         return wasUseAltOrder ;
 
         }   // setUseAltOrder()
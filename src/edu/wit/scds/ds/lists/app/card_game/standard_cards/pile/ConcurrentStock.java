@@ -0,0 +1,303 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.standard_cards.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
+
+import java.util.Arrays ;
+import java.util.List ;
+import java.util.Objects ;
+import java.util.concurrent.atomic.AtomicInteger ;
+
+
+/**
+ * A shoe-style stock which any number of threads can draw from at once
+ * without locking
+ * <p>
+ * the cards are loaded once, face down, into an array with the top card in
+ * the highest slot. The only shared, changing state is the number of cards
+ * remaining - the top index - which is advanced with compare-and-set: a
+ * thread which wins the CAS owns the slots it stepped over, so each card is
+ * drawn exactly once and no draw ever waits for another. The index only moves
+ * down, so there's no ABA problem and no slot is read after it's claimed.
+ * <p>
+ * cards can't be added once the stock is built - when a round is over,
+ * {@link #drainTo(Pile)} returns any cards left to an ordinary pile
+ * <p>
+ * unlike {@code Stock}, which checks {@code isEmpty()} then removes the top
+ * card with no synchronization, draws here are safe to race
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 throw {@code NoCardsException.emptyPile()}
+ */
+public final class ConcurrentStock
+    {
+
+    /*
+     * data fields
+     */
+
+
+    /**
+     * the cards, bottom card in slot 0 - a slot is cleared by the thread which
+     * draws it so the stock doesn't hold drawn cards
+     */
+    private final Card[] cards ;
+
+    /** the number of cards remaining - the slot above the top card */
+    private final AtomicInteger top ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize a stock by moving every card, in order, out of a pile and
+     * turning it face down
+     *
+     * @param sourcePile
+     *     the cards to draw, top card first - emptied
+     */
+    public ConcurrentStock( final Pile sourcePile )
+        {
+
+        Objects.requireNonNull( sourcePile, "sourcePile" ) ;
+
+        final int cardCount = sourcePile.cardCount() ;
+
+        this.cards = new Card[ cardCount ] ;
+
+        // the pile's top card goes in the highest slot so it's drawn first
+        for ( int slot = cardCount - 1 ; slot >= 0 ; slot-- )
+            {
+            this.cards[ slot ] = sourcePile.removeTopCard().hide() ;
+            }
+
+        this.top = new AtomicInteger( cardCount ) ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * public methods
+     */
+
+
+    /**
+     * determine the number of cards remaining
+     * <p>
+     * other threads may draw at any time so the count may already be stale
+     *
+     * @return the number of cards not yet drawn
+     */
+    public int cardCount()
+        {
+
+        return this.top.get() ;
+
+        }   // end cardCount()
+
+
+    /**
+     * atomically claim every card remaining and move it, top card first, to
+     * the bottom of a pile
+     * <p>
+     * draws which race with this either complete first or find the stock
+     * empty
+     *
+     * @param destination
+     *     the pile to receive the cards
+     *
+     * @return the number of cards moved
+     */
+    public int drainTo( final Pile destination )
+        {
+
+        Objects.requireNonNull( destination, "destination" ) ;
+
+        final int remaining = this.top.getAndSet( 0 ) ;
+
+        for ( int slot = remaining - 1 ; slot >= 0 ; slot-- )
+            {
+            destination.addToBottom( this.cards[ slot ] ) ;
+            this.cards[ slot ] = null ;
+            }
+
+        return remaining ;
+
+        }   // end drainTo()
+
+
+    /**
+     * atomically draw several cards - either all of them or none
+     * <p>
+     * the cards come from a contiguous range at the top of the stock reserved
+     * with a single compare-and-set, so no other thread's cards are
+     * interleaved with them
+     *
+     * @param count
+     *     the number of cards to draw
+     *
+     * @return the drawn cards, top card first
+     *
+     * @throws NoCardsException
+     *     if fewer than {@code count} cards remain - no cards are drawn
+     */
+    public List<Card> drawN( final int count ) throws NoCardsException
+        {
+
+        if ( count < 0 )
+            {
+            throw new IllegalArgumentException( String.format( "count must be non-negative, is %,d",
+                                                               count ) ) ;
+            }
+
+        int remaining ;
+
+        do
+            {
+            remaining = this.top.get() ;
+
+            if ( remaining < count )
+                {
+                throw new NoCardsException( String.format( "can't draw %,d cards from %,d",
+                                                           count,
+                                                           remaining ) ) ;
+                }
+
+            }
+        while ( !this.top.compareAndSet( remaining, remaining - count ) ) ;
+
+        // slots [remaining - count, remaining) are ours alone
+        final Card[] drawnCards = new Card[ count ] ;
+
+        for ( int i = 0 ; i < count ; i++ )
+            {
+            final int slot = remaining - 1 - i ;
+
+            drawnCards[ i ] = this.cards[ slot ] ;
+            this.cards[ slot ] = null ;
+            }
+
+        return Arrays.asList( drawnCards ) ;
+
+        }   // end drawN()
+
+
+    /**
+     * draw the top card
+     *
+     * @return the top card
+     *
+     * @throws NoCardsException
+     *     if the stock is empty
+     */
+    public Card drawTopCard() throws NoCardsException
+        {
+
+        final Card drawnCard = tryDraw() ;
+
+        if ( drawnCard == null )
+            {
+            throw NoCardsException.emptyPile() ;
+            }
+
+        return drawnCard ;
+
+        }   // end drawTopCard()
+
+
+    /**
+     * determine if all the cards have been drawn
+     * <p>
+     * other threads may draw at any time so a {@code false} result may already
+     * be stale - use {@link #tryDraw()} rather than checking first
+     *
+     * @return {@code true} if no cards remain, {@code false} otherwise
+     */
+    public boolean isEmpty()
+        {
+
+        return this.top.get() == 0 ;
+
+        }   // end isEmpty()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "ConcurrentStock[%,d of %,d cards remaining]",
+                              this.top.get(),
+                              this.cards.length ) ;
+
+        }   // end toString()
+
+
+    /**
+     * draw the top card if there is one
+     * <p>
+     * an empty stock is expected when many threads draw, so it isn't treated
+     * as an error
+     *
+     * @return the top card or {@code null} if the stock is empty
+     */
+    public Card tryDraw()
+        {
+
+        int remaining ;
+
+        do
+            {
+            remaining = this.top.get() ;
+
+            if ( remaining == 0 )
+                {
+                return null ;
+                }
+
+            }
+        while ( !this.top.compareAndSet( remaining, remaining - 1 ) ) ;
+
+        // slot remaining - 1 is ours alone
+        final Card drawnCard = this.cards[ remaining - 1 ] ;
+        this.cards[ remaining - 1 ] = null ;
+
+        return drawnCard ;
+
+        }   // end tryDraw()
+
+    }   // end class ConcurrentStock
\ No newline at end of file
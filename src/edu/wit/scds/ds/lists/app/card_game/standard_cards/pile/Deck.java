@@ -34,6 +34,8 @@ import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Suit ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.LinkedPileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.ScratchPilePool ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.Persistence ;
 
@@ -63,6 +65,12 @@ import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orienta
  *     <li>remove options to modify contents of deck on instantiation - a deck
  *     is a deck
  *     </ul>
+ * @version 1.3 2026-10-17 validate against an identity-indexed copy of the
+ *     cards so each template card is found in O(1)
+ * @version 1.4 2026-10-17 lease validation's temporary piles from per-thread
+ *     {@code ScratchPilePool}s
+ * @version 1.5 2026-10-17 empty the leased piles before reporting a failed
+ *     validation
  */
 public final class Deck extends Pile
     {
@@ -92,6 +100,14 @@ public final class Deck extends Pile
     /** number of cards in a deck (as deal) */
     public final static int CARD_COUNT_IN_A_DECK ;
 
+    /** piles of missing cards for {@code validateDeck()} */
+    private final static ThreadLocal<ScratchPilePool<Pile>> MISSING_CARD_PILES =
+            ScratchPilePool.perThread( Deck::newMissingCardPile ) ;
+
+    /** identity-indexed copies of a deck for {@code validateDeck()} */
+    private final static ThreadLocal<ScratchPilePool<Pile>> TEMPORARY_DECKS =
+            ScratchPilePool.perThread( Deck::newTemporaryDeck ) ;
+
     static
         {
         // instantiate a template deck
@@ -278,14 +294,65 @@ public final class Deck extends Pile
     public void validateDeck() throws IllegalStateException
         {
 
-        // utility piles of missing cards and remaining cards
+        // utility piles of missing cards and remaining cards - leased so
+        // repeated validations reuse them
+        try ( final ScratchPilePool.Lease<Pile> missingCardsLease = MISSING_CARD_PILES.get().lease() ;
+                final ScratchPilePool.Lease<Pile> temporaryDeckLease = TEMPORARY_DECKS.get().lease() ; )
+            {
+            validateDeck( missingCardsLease.getPile(), temporaryDeckLease.getPile() ) ;
+            }
+
+        }   // end validateDeck()
+
+
+    /**
+     * instantiate a pile for the cards {@code validateDeck()} finds missing
+     *
+     * @return an empty pile which accepts any card as is
+     */
+    private static Pile newMissingCardPile()
+        {
+
         final Pile missingCards = new Pile() {} ;
         missingCards.setDefaultOrientation( Orientation.AS_IS )
                     .setAcceptablePersistence( Persistence.UNRESTRICTED ) ;
 
+        return missingCards ;
 
-        // move all cards from this deck to a temporary collection
-        final Pile temporaryDeck = removeAllCards() ;
+        }   // end newMissingCardPile()
+
+
+    /**
+     * instantiate a pile for {@code validateDeck()} to hold a deck's cards -
+     * indexed by identity since every card is looked up in it
+     *
+     * @return an empty pile
+     */
+    private static Pile newTemporaryDeck()
+        {
+
+        return new Pile( FACE_DOWN, new LinkedPileStorage( true ) ) {} ;
+
+        }   // end newTemporaryDeck()
+
+
+    /**
+     * compare this deck with the template using two empty scratch piles
+     *
+     * @param missingCards
+     *     receives any cards missing from this deck
+     * @param temporaryDeck
+     *     receives any stray cards
+     *
+     * @throws IllegalStateException
+     *     if any cards are missing or contains any stray cards
+     */
+    private void validateDeck( final Pile missingCards,
+                               final Pile temporaryDeck ) throws IllegalStateException
+        {
+
+        // move all cards from this deck to the temporary collection
+        temporaryDeck.addAllToBottom( this ) ;
 
         // iterate over the template moving corresponding cards from
         // the temporary collection back into this deck
@@ -312,14 +379,20 @@ public final class Deck extends Pile
             missingCards.revealAll() ;
             temporaryDeck.revealAll() ;
 
+            final String failureMessage = String.format( "Deck validation failed; missing: %s; strays: %s",
+                                                         missingCards.cardCount() == 0
+                                                                 ? "none"
+                                                                 : missingCards,
+                                                         temporaryDeck.cardCount() == 0
+                                                                 ? "none"
+                                                                 : temporaryDeck ) ;
+
+            // the scratch piles go back to their pools empty
+            missingCards.clear() ;
+            temporaryDeck.clear() ;
+
             // failed validation - report it
-            throw new IllegalStateException( String.format( "Deck validation failed; missing: %s; strays: %s",
-                                                            missingCards.cardCount() == 0
-                                                                    ? "none"
-                                                                    : missingCards,
-                                                            temporaryDeck.cardCount() == 0
-                                                                    ? "none"
-                                                                    : temporaryDeck ) ) ;
+            throw new IllegalStateException( failureMessage ) ;
             }
 
         }   // end validateDeck()
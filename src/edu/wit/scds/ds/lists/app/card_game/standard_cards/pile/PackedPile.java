@@ -0,0 +1,851 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.standard_cards.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.CardCodec ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Suit ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation ;
+
+import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.CardCodec.NO_CARD ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.AS_IS ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_DOWN ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Persistence.PERMANENT ;
+
+import java.util.Objects ;
+import java.util.Random ;
+
+
+/**
+ * A pile of cards held as {@link CardCodec} codes in a circular {@code int[]}
+ * <p>
+ * intended for hot paths - simulations, shuffle analysis, dealing millions of
+ * hands - where allocating and chasing {@code Card} references dominates. The
+ * pile never holds a {@code Card}: codes go in and come out, and cards are
+ * only instantiated at the edge, by {@link #removeTopCardAsCard()} and
+ * {@link #moveCardsTo(Pile)}.
+ * <p>
+ * positions are 0-based with the top card at position 0, as in {@code Pile}.
+ * Additions and removals at either end are O(1) amortized; positional
+ * additions and removals shift the shorter side.
+ * <p>
+ * Note: decoded cards are new instances - they are equivalent to, but not the
+ * same objects as, the cards in any {@code Deck}
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 add {@code peekTopCard()} and
+ *     {@code tryRemoveTopCard()} which return {@code CardCodec.NO_CARD} for an
+ *     empty pile
+ */
+public final class PackedPile
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** initial number of slots - must be a power of 2 */
+    private final static int DEFAULT_INITIAL_CAPACITY = 64 ;
+
+    /** returned by searches which don't find a card */
+    public final static int NOT_FOUND = -1 ;
+
+    /** number of Jokers {@link #ofDecks(int)} adds to each deck */
+    private final static int JOKERS_PER_DECK = 2 ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** the slots - length is always a power of 2 */
+    private int[] codes ;
+
+    /** the slot holding the top card */
+    private int head ;
+
+    /** the number of cards in the pile */
+    private int size ;
+
+    /** orientation applied to each card added to this pile */
+    private final Orientation defaultOrientation ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize an empty pile which turns cards face down as they're added
+     */
+    public PackedPile()
+        {
+
+        this( FACE_DOWN ) ;
+
+        }   // end no-arg constructor
+
+
+    /**
+     * Initialize an empty pile
+     *
+     * @param initialDefaultOrientation
+     *     orientation applied to each card added to this pile
+     */
+    public PackedPile( final Orientation initialDefaultOrientation )
+        {
+
+        this.defaultOrientation = Objects.requireNonNull( initialDefaultOrientation,
+                                                          "initialDefaultOrientation" ) ;
+
+        this.codes = new int[ DEFAULT_INITIAL_CAPACITY ] ;
+        this.head = 0 ;
+        this.size = 0 ;
+
+        }   // end 1-arg constructor
+
+
+    /**
+     * instantiate a pile holding the contents of one or more standard decks -
+     * 52 playing cards and 2 Jokers per deck, permanent and face down, in deck
+     * order; each card's deck index is the deck it belongs to
+     *
+     * @param deckCount
+     *     the number of decks - {@code 1}..{@code CardCodec.MAX_DECK_INDEX + 1}
+     *
+     * @return the new pile
+     *
+     * @throws IllegalArgumentException
+     *     if the deck count can't be encoded
+     */
+    public static PackedPile ofDecks( final int deckCount ) throws IllegalArgumentException
+        {
+
+        if ( ( deckCount < 1 ) || ( deckCount > ( CardCodec.MAX_DECK_INDEX + 1 ) ) )
+            {
+            throw new IllegalArgumentException( String.format( "deck count must be 1..%,d, is %,d",
+                                                               CardCodec.MAX_DECK_INDEX + 1,
+                                                               deckCount ) ) ;
+            }
+
+        final PackedPile pile = new PackedPile() ;
+
+        for ( int deckIndex = 0 ; deckIndex < deckCount ; deckIndex++ )
+            {
+
+            for ( final Suit suit : Suit.values() )
+                {
+
+                if ( suit == Suit.NA )
+                    {
+                    continue ;
+                    }
+
+                for ( final Rank rank : Rank.values() )
+                    {
+
+                    if ( rank == Rank.JOKER )
+                        {
+                        continue ;
+                        }
+
+                    pile.addToBottom( CardCodec.encode( rank, suit, FACE_DOWN, PERMANENT, deckIndex ) ) ;
+                    }
+
+                }
+
+            for ( int i = 0 ; i < JOKERS_PER_DECK ; i++ )
+                {
+                pile.addToBottom( CardCodec.encode( Rank.JOKER, Suit.NA, FACE_DOWN, PERMANENT, deckIndex ) ) ;
+                }
+
+            }
+
+        return pile ;
+
+        }   // end ofDecks()
+
+
+    /*
+     * public methods
+     */
+
+
+    /**
+     * add a card at a specific position
+     *
+     * @param code
+     *     the card to add
+     * @param position
+     *     0-based position - {@code 0}..{@code cardCount()}
+     *
+     * @return this pile (fluent)
+     *
+     * @throws IndexOutOfBoundsException
+     *     if the position is out of range
+     */
+    public PackedPile addAtPosition( final int code,
+                                     final int position ) throws IndexOutOfBoundsException
+        {
+
+        if ( ( position < 0 ) || ( position > this.size ) )
+            {
+            throw new IndexOutOfBoundsException( String.format( "position: %,d, size: %,d",
+                                                                position,
+                                                                this.size ) ) ;
+            }
+
+        ensureCapacity( this.size + 1 ) ;
+
+        final int mask = this.codes.length - 1 ;
+
+        if ( position < ( this.size - position ) )
+            {
+            // shift the cards above the position toward the top
+            this.head = ( this.head - 1 ) & mask ;
+
+            for ( int i = 0 ; i < position ; i++ )
+                {
+                this.codes[ ( this.head + i ) & mask ] = this.codes[ ( this.head + i + 1 ) & mask ] ;
+                }
+
+            }
+        else
+            {
+            // shift the cards at and below the position toward the bottom
+            for ( int i = this.size ; i > position ; i-- )
+                {
+                this.codes[ ( this.head + i ) & mask ] = this.codes[ ( this.head + i - 1 ) & mask ] ;
+                }
+
+            }
+
+        this.codes[ ( this.head + position ) & mask ] = orient( code ) ;
+        this.size++ ;
+
+        return this ;
+
+        }   // end addAtPosition()
+
+
+    /**
+     * add a card below all others
+     *
+     * @param code
+     *     the card to add
+     *
+     * @return this pile (fluent)
+     */
+    public PackedPile addToBottom( final int code )
+        {
+
+        ensureCapacity( this.size + 1 ) ;
+
+        this.codes[ ( this.head + this.size ) & ( this.codes.length - 1 ) ] = orient( code ) ;
+        this.size++ ;
+
+        return this ;
+
+        }   // end addToBottom()
+
+
+    /**
+     * encode a card and add it below all others
+     *
+     * @param card
+     *     the card to add
+     * @param deckIndex
+     *     the deck the card came from
+     *
+     * @return this pile (fluent)
+     */
+    public PackedPile addToBottom( final Card card,
+                                   final int deckIndex )
+        {
+
+        return addToBottom( CardCodec.encode( card, deckIndex ) ) ;
+
+        }   // end addToBottom() from a card
+
+
+    /**
+     * add a card above all others
+     *
+     * @param code
+     *     the card to add
+     *
+     * @return this pile (fluent)
+     */
+    public PackedPile addToTop( final int code )
+        {
+
+        ensureCapacity( this.size + 1 ) ;
+
+        this.head = ( this.head - 1 ) & ( this.codes.length - 1 ) ;
+        this.codes[ this.head ] = orient( code ) ;
+        this.size++ ;
+
+        return this ;
+
+        }   // end addToTop()
+
+
+    /**
+     * @return the number of cards in the pile
+     */
+    public int cardCount()
+        {
+
+        return this.size ;
+
+        }   // end cardCount()
+
+
+    /**
+     * remove all cards from the pile
+     *
+     * @return this pile (fluent)
+     */
+    public PackedPile clear()
+        {
+
+        this.head = 0 ;
+        this.size = 0 ;
+
+        return this ;
+
+        }   // end clear()
+
+
+    /**
+     * count the cards with a given face, regardless of orientation,
+     * persistence, or deck
+     *
+     * @param cardId
+     *     the face to count (see {@link Card#cardIdOf(Rank, Suit)})
+     *
+     * @return the number of matching cards
+     */
+    public int countOf( final int cardId )
+        {
+
+        final int mask = this.codes.length - 1 ;
+        int count = 0 ;
+
+        for ( int i = 0 ; i < this.size ; i++ )
+            {
+
+            if ( CardCodec.cardIdOf( this.codes[ ( this.head + i ) & mask ] ) == cardId )
+                {
+                count++ ;
+                }
+
+            }
+
+        return count ;
+
+        }   // end countOf()
+
+
+    /**
+     * turn every card over
+     *
+     * @return this pile (fluent)
+     */
+    public PackedPile flipAll()
+        {
+
+        final int mask = this.codes.length - 1 ;
+
+        for ( int i = 0 ; i < this.size ; i++ )
+            {
+            final int slot = ( this.head + i ) & mask ;
+
+            this.codes[ slot ] = CardCodec.flip( this.codes[ slot ] ) ;
+            }
+
+        return this ;
+
+        }   // end flipAll()
+
+
+    /**
+     * retrieve a card without removing it
+     *
+     * @param position
+     *     0-based position
+     *
+     * @return the card's code
+     *
+     * @throws IndexOutOfBoundsException
+     *     if the position is out of range
+     */
+    public int getCardAt( final int position ) throws IndexOutOfBoundsException
+        {
+
+        Objects.checkIndex( position, this.size ) ;
+
+        return this.codes[ ( this.head + position ) & ( this.codes.length - 1 ) ] ;
+
+        }   // end getCardAt()
+
+
+    /**
+     * retrieve the top card without removing it
+     *
+     * @return the card's code
+     *
+     * @throws NoCardsException
+     *     if the pile is empty
+     */
+    public int getTopCard() throws NoCardsException
+        {
+
+        if ( this.size == 0 )
+            {
+            throw NoCardsException.emptyPile() ;
+            }
+
+        return this.codes[ this.head ] ;
+
+        }   // end getTopCard()
+
+
+    /**
+     * turn every card face down
+     *
+     * @return this pile (fluent)
+     */
+    public PackedPile hideAll()
+        {
+
+        final int mask = this.codes.length - 1 ;
+
+        for ( int i = 0 ; i < this.size ; i++ )
+            {
+            final int slot = ( this.head + i ) & mask ;
+
+            this.codes[ slot ] = CardCodec.faceDown( this.codes[ slot ] ) ;
+            }
+
+        return this ;
+
+        }   // end hideAll()
+
+
+    /**
+     * find the topmost card with a given face
+     *
+     * @param cardId
+     *     the face to find (see {@link Card#cardIdOf(Rank, Suit)})
+     *
+     * @return the card's position or {@code NOT_FOUND}
+     */
+    public int indexOfCardId( final int cardId )
+        {
+
+        final int mask = this.codes.length - 1 ;
+
+        for ( int i = 0 ; i < this.size ; i++ )
+            {
+
+            if ( CardCodec.cardIdOf( this.codes[ ( this.head + i ) & mask ] ) == cardId )
+                {
+                return i ;
+                }
+
+            }
+
+        return NOT_FOUND ;
+
+        }   // end indexOfCardId()
+
+
+    /**
+     * @return {@code true} if the pile contains no cards
+     */
+    public boolean isEmpty()
+        {
+
+        return this.size == 0 ;
+
+        }   // end isEmpty()
+
+
+    /**
+     * decode every card, top first, onto the bottom of a pile then empty this
+     * pile
+     *
+     * @param destination
+     *     the pile to receive the cards
+     *
+     * @return this pile (fluent)
+     */
+    public PackedPile moveCardsTo( final Pile destination )
+        {
+
+        Objects.requireNonNull( destination, "destination" ) ;
+
+        final int mask = this.codes.length - 1 ;
+
+        for ( int i = 0 ; i < this.size ; i++ )
+            {
+            destination.addToBottom( CardCodec.decode( this.codes[ ( this.head + i ) & mask ] ) ) ;
+            }
+
+        return clear() ;
+
+        }   // end moveCardsTo()
+
+
+    /**
+     * retrieve the top card, if any, without removing it
+     *
+     * @return the card's code or {@code CardCodec.NO_CARD} if the pile is
+     *     empty
+     *
+     * @since 1.1
+     */
+    public int peekTopCard()
+        {
+
+        return this.size == 0
+                ? NO_CARD
+                : this.codes[ this.head ] ;
+
+        }   // end peekTopCard()
+
+
+    /**
+     * remove a card from a specific position
+     *
+     * @param position
+     *     0-based position
+     *
+     * @return the card's code
+     *
+     * @throws IndexOutOfBoundsException
+     *     if the position is out of range
+     */
+    public int removeCardAt( final int position ) throws IndexOutOfBoundsException
+        {
+
+        Objects.checkIndex( position, this.size ) ;
+
+        final int mask = this.codes.length - 1 ;
+        final int removedCode = this.codes[ ( this.head + position ) & mask ] ;
+
+        if ( position < ( this.size - 1 - position ) )
+            {
+            // close the hole from the top
+            for ( int i = position ; i > 0 ; i-- )
+                {
+                this.codes[ ( this.head + i ) & mask ] = this.codes[ ( this.head + i - 1 ) & mask ] ;
+                }
+
+            this.head = ( this.head + 1 ) & mask ;
+            }
+        else
+            {
+            // close the hole from the bottom
+            for ( int i = position ; i < ( this.size - 1 ) ; i++ )
+                {
+                this.codes[ ( this.head + i ) & mask ] = this.codes[ ( this.head + i + 1 ) & mask ] ;
+                }
+
+            }
+
+        this.size-- ;
+
+        return removedCode ;
+
+        }   // end removeCardAt()
+
+
+    /**
+     * remove the topmost card with a given rank and suit
+     *
+     * @param rank
+     *     the rank to match
+     * @param suit
+     *     the suit to match
+     *
+     * @return the card's code or {@code CardCodec.NO_CARD}
+     */
+    public int removeCardLike( final Rank rank,
+                               final Suit suit )
+        {
+
+        final int position = indexOfCardId( Card.cardIdOf( rank, suit ) ) ;
+
+        return position == NOT_FOUND
+                ? NO_CARD
+                : removeCardAt( position ) ;
+
+        }   // end removeCardLike()
+
+
+    /**
+     * remove the top card
+     *
+     * @return the card's code
+     *
+     * @throws NoCardsException
+     *     if the pile is empty
+     */
+    public int removeTopCard() throws NoCardsException
+        {
+
+        if ( this.size == 0 )
+            {
+            throw NoCardsException.emptyPile() ;
+            }
+
+        final int removedCode = this.codes[ this.head ] ;
+
+        this.head = ( this.head + 1 ) & ( this.codes.length - 1 ) ;
+        this.size-- ;
+
+        return removedCode ;
+
+        }   // end removeTopCard()
+
+
+    /**
+     * remove the top card and instantiate the {@code Card} it represents
+     *
+     * @return the new card
+     *
+     * @throws NoCardsException
+     *     if the pile is empty
+     */
+    public Card removeTopCardAsCard() throws NoCardsException
+        {
+
+        return CardCodec.decode( removeTopCard() ) ;
+
+        }   // end removeTopCardAsCard()
+
+
+    /**
+     * turn every card face up
+     *
+     * @return this pile (fluent)
+     */
+    public PackedPile revealAll()
+        {
+
+        final int mask = this.codes.length - 1 ;
+
+        for ( int i = 0 ; i < this.size ; i++ )
+            {
+            final int slot = ( this.head + i ) & mask ;
+
+            this.codes[ slot ] = CardCodec.faceUp( this.codes[ slot ] ) ;
+            }
+
+        return this ;
+
+        }   // end revealAll()
+
+
+    /**
+     * rearrange the cards in random order (Fisher-Yates)
+     *
+     * @param random
+     *     the source of randomness
+     *
+     * @return this pile (fluent)
+     */
+    public PackedPile shuffle( final Random random )
+        {
+
+        Objects.requireNonNull( random, "random" ) ;
+
+        // unwrap so the swaps index the array directly
+        compact( this.codes.length ) ;
+
+        for ( int i = this.size - 1 ; i > 0 ; i-- )
+            {
+            final int j = random.nextInt( i + 1 ) ;
+            final int swap = this.codes[ i ] ;
+
+            this.codes[ i ] = this.codes[ j ] ;
+            this.codes[ j ] = swap ;
+            }
+
+        return this ;
+
+        }   // end shuffle()
+
+
+    /**
+     * @return a copy of the codes, top card first
+     */
+    public int[] toArray()
+        {
+
+        final int[] copy = new int[ this.size ] ;
+        final int firstRun = Math.min( this.size, this.codes.length - this.head ) ;
+
+        System.arraycopy( this.codes, this.head, copy, 0, firstRun ) ;
+        System.arraycopy( this.codes, 0, copy, firstRun, this.size - firstRun ) ;
+
+        return copy ;
+
+        }   // end toArray()
+
+
+    @Override
+    public String toString()
+        {
+
+        final StringBuilder text = new StringBuilder( "[" ) ;
+        final int mask = this.codes.length - 1 ;
+
+        for ( int i = 0 ; i < this.size ; i++ )
+            {
+
+            if ( i > 0 )
+                {
+                text.append( ", " ) ;
+                }
+
+            text.append( CardCodec.toString( this.codes[ ( this.head + i ) & mask ] ) ) ;
+            }
+
+        return text.append( ']' ).toString() ;
+
+        }   // end toString()
+
+
+    /**
+     * remove the top card, if any
+     *
+     * @return the card's code or {@code CardCodec.NO_CARD} if the pile is
+     *     empty
+     *
+     * @since 1.1
+     */
+    public int tryRemoveTopCard()
+        {
+
+        return this.size == 0
+                ? NO_CARD
+                : removeTopCard() ;
+
+        }   // end tryRemoveTopCard()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * copy the cards, top first, to the start of a new array
+     *
+     * @param newCapacity
+     *     the length of the new array - a power of 2 at least the number of
+     *     cards
+     */
+    private void compact( final int newCapacity )
+        {
+
+        if ( ( this.head == 0 ) && ( newCapacity == this.codes.length ) )
+            {
+            return ;
+            }
+
+        final int[] newCodes = new int[ newCapacity ] ;
+        final int firstRun = Math.min( this.size, this.codes.length - this.head ) ;
+
+        System.arraycopy( this.codes, this.head, newCodes, 0, firstRun ) ;
+        System.arraycopy( this.codes, 0, newCodes, firstRun, this.size - firstRun ) ;
+
+        this.codes = newCodes ;
+        this.head = 0 ;
+
+        }   // end compact()
+
+
+    /**
+     * grow the array, if necessary, to hold at least {@code minimumCapacity}
+     * cards
+     *
+     * @param minimumCapacity
+     *     the number of cards about to be held
+     */
+    private void ensureCapacity( final int minimumCapacity )
+        {
+
+        if ( minimumCapacity <= this.codes.length )
+            {
+            return ;
+            }
+
+        final int newCapacity = this.codes.length << 1 ;
+
+        if ( newCapacity <= 0 )
+            {
+            throw new IllegalStateException( "pile is too large" ) ;
+            }
+
+        compact( newCapacity ) ;
+
+        }   // end ensureCapacity()
+
+
+    /**
+     * apply this pile's default orientation to a card being added
+     *
+     * @param code
+     *     the card being added
+     *
+     * @return the card, reoriented
+     */
+    private int orient( final int code )
+        {
+
+        return this.defaultOrientation == AS_IS
+                ? code
+                : CardCodec.withOrientation( code, this.defaultOrientation ) ;
+
+        }   // end orient()
+
+    }   // end class PackedPile
\ No newline at end of file
@@ -31,17 +31,22 @@
 package edu.wit.scds.ds.lists.app.card_game.standard_cards.pile ;
 
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.CardSet ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Suit ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.PileBase ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.PileStorage ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation ;
 
-import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card.newCardLike ;
+import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card.lookupCard ;
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_DOWN ;
 
 import java.util.Iterator ;
 import java.util.ListIterator ;
+import java.util.Objects ;
+import java.util.function.Predicate ;
+import java.util.stream.Stream ;
 
 
 // you probably will not modify this code - talk to me first
@@ -62,6 +67,19 @@ import java.util.ListIterator ;
  *     <li>rename from {@code StandardPile} to {@code Pile}
  *     </ul>
  * @version 2.1 2025-11-19 extend functionality to support deck validation
+ * @version 2.2 2026-10-17 allow subclasses to select their {@code PileStorage}
+ * @version 2.3 2026-10-17 use the shared lookup cards rather than instantiating
+ *     a card for each rank/suit lookup
+ * @version 2.4 2026-10-17 add {@code toCardSet()}
+ * @version 2.5 2026-10-17 add {@code hasCardLike()} given rank and suit
+ * @version 2.6 2026-10-17 add {@code removeCardsIf()}
+ * @version 2.7 2026-10-17 {@code removeAllCards()} moves the cards in one
+ *     batch rather than re-adding them individually
+ * @version 2.8 2026-10-17 add {@code cardStream()} and
+ *     {@code parallelCardStream()}
+ * @version 2.9 2026-10-17 add {@code tally()}
+ * @version 2.10 2026-10-17 add {@code peekTopCard()} and
+ *     {@code tryRemoveTopCard()}
  */
 public abstract class Pile extends PileBase
     {
@@ -112,11 +130,49 @@ public abstract class Pile extends PileBase
         }	// end 1-arg constructor
 
 
+    /**
+     * Initialize the pile with cards placed face up/down as specified by
+     * default, holding them in the specified layout
+     *
+     * @param initialOrientation
+     *     specify whether cards will be face up or down by default
+     * @param storage
+     *     an empty {@code PileStorage} which will belong exclusively to this
+     *     pile
+     *
+     * @since 2.2
+     */
+    protected Pile( final Orientation initialOrientation,
+                    final PileStorage storage )
+        {
+
+        super( initialOrientation, storage ) ;
+
+        }	// end 2-arg constructor
+
+
     /*
      * public methods
      */
 
 
+    /**
+     * Stream the cards in the pile, top first, as {@code Card}s
+     * <p>
+     * see {@link PileBase#spliterator()}
+     *
+     * @return a sequential stream of the cards
+     *
+     * @since 2.8
+     */
+    public Stream<Card> cardStream()
+        {
+
+        return stream().map( Card.class::cast ) ;
+
+        }  // end cardStream()
+
+
     @Override
     public Card getCardLike( final CardBase likeCard )
         {
@@ -141,11 +197,33 @@ public abstract class Pile extends PileBase
                              final Suit suit )
         {
 
-        return getCardLike( newCardLike( rank, suit ) ) ;
+        return getCardLike( lookupCard( rank, suit ) ) ;
 
         }  // end getCardLike() given rank and suit
 
 
+    /**
+     * Determine whether the pile contains a card with the specified rank and
+     * suit
+     *
+     * @param rank
+     *     the rank of the desired card
+     * @param suit
+     *     the suit of the desired card
+     *
+     * @return {@code true} if the pile contains at least one such card
+     *
+     * @since 2.5
+     */
+    public boolean hasCardLike( final Rank rank,
+                                final Suit suit )
+        {
+
+        return hasCardLike( lookupCard( rank, suit ) ) ;
+
+        }  // end hasCardLike() given rank and suit
+
+
     @Override
     public Iterator<CardBase> iterator()
         {
@@ -169,6 +247,78 @@ public abstract class Pile extends PileBase
         }   // end listIterator()
 
 
+    /**
+     * Stream the cards in the pile, top first, as {@code Card}s, possibly in
+     * parallel
+     * <p>
+     * see {@link PileBase#spliterator()}
+     *
+     * @return a parallel stream of the cards
+     *
+     * @since 2.8
+     */
+    public Stream<Card> parallelCardStream()
+        {
+
+        return parallelStream().map( Card.class::cast ) ;
+
+        }  // end parallelCardStream()
+
+
+    @Override
+    public Card peekTopCard()
+        {
+
+        return (Card) super.peekTopCard() ;
+
+        }  // end peekTopCard()
+
+
+    /**
+     * Summarize the cards in this pile - rank and suit counts, point totals
+     * and the lowest and highest ranks
+     * <p>
+     * O(1) if the pile holds its cards in a {@link TallyingPileStorage}, in
+     * which case the tally is live: it changes as the pile does. Otherwise,
+     * the cards are counted in a single pass and the tally won't reflect
+     * later changes.
+     *
+     * @return a tally of the cards
+     *
+     * @since 2.9
+     */
+    public PileTally tally()
+        {
+
+        if ( this.cards instanceof final TallyingPileStorage talliedCards )
+            {
+            return talliedCards.getTally() ;
+            }
+
+        return PileTally.of( this.cards ) ;
+
+        }  // end tally()
+
+
+    /**
+     * Collect the faces of the cards in this pile in a single pass
+     * <p>
+     * the set holds at most one of each face (two Jokers) so, for piles drawn
+     * from multiple decks, compare its {@code size()} with {@code cardCount()}
+     * to detect duplicates
+     *
+     * @return a new set containing the faces in this pile
+     *
+     * @since 2.4
+     */
+    public CardSet toCardSet()
+        {
+
+        return CardSet.of( this ) ;
+
+        }  // end toCardSet()
+
+
     /**
      * Remove all cards from the pile
      *
@@ -179,10 +329,7 @@ public abstract class Pile extends PileBase
 
         final Pile allCards = new Pile() {} ;
 
-        for ( final CardBase card : super.removeAll() )
-            {
-            allCards.addToBottom( card ) ;
-            }
+        allCards.addAllToBottom( this ) ;
 
         return allCards ;
 
@@ -209,6 +356,32 @@ public abstract class Pile extends PileBase
         }  // end removeAllMatchingCards()
 
 
+    /**
+     * Remove every card which satisfies a condition in a single pass
+     *
+     * @param filter
+     *     selects the cards to remove
+     *
+     * @return a new pile containing the removed cards, in their original
+     *     order, if any
+     *
+     * @since 2.6
+     */
+    public Pile removeCardsIf( final Predicate<? super Card> filter )
+        {
+
+        Objects.requireNonNull( filter, "filter" ) ;
+
+        final Pile removedCards = new Pile() {} ;
+
+        super.removeCardsIf( card -> ( card instanceof final Card aCard ) && filter.test( aCard ),
+                             removedCards ) ;
+
+        return removedCards ;
+
+        }  // end removeCardsIf()
+
+
     @Override
     public Card removeCard( final CardBase card )
         {
@@ -232,7 +405,7 @@ public abstract class Pile extends PileBase
                             final Suit suit )
         {
 
-        return removeCard( newCardLike( rank, suit ) ) ;
+        return removeCard( lookupCard( rank, suit ) ) ;
 
         }  // end removeCard() given a suit and rank
 
@@ -255,6 +428,15 @@ public abstract class Pile extends PileBase
         }  // end removeTopCard()
 
 
+    @Override
+    public Card tryRemoveTopCard()
+        {
+
+        return (Card) super.tryRemoveTopCard() ;
+
+        }  // end tryRemoveTopCard()
+
+
     @Override
     public Pile setDefaultFaceDown()
         {
@@ -0,0 +1,528 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.standard_cards.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Suit ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
+import java.util.Arrays ;
+import java.util.Objects ;
+
+
+/**
+ * Summary of the standard cards in a pile: how many of each rank and suit,
+ * the total points under both {@link Rank} point schemes, and the lowest and
+ * highest ranks
+ * <p>
+ * a pile which holds its cards in a {@link TallyingPileStorage} keeps its
+ * tally up to date as cards are added and removed, so every query is O(1) -
+ * at most one check per rank. {@link Pile#tally()} counts any other pile's
+ * cards on demand.
+ * <p>
+ * cards which aren't {@code Card}s aren't tallied; see
+ * {@link #allCardsTallied()}.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class PileTally
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** the ranks, in ordinal order */
+    private final static Rank[] RANKS = Rank.values() ;
+
+    /** the number of suits */
+    private final static int SUIT_COUNT = Suit.values().length ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** number of cards of each rank, by ordinal */
+    private final int[] rankCounts ;
+
+    /** number of cards of each suit, by ordinal */
+    private final int[] suitCounts ;
+
+    /** one bit, by ordinal, for each rank present */
+    private int ranksPresent ;
+
+    /** one bit, by ordinal, for each suit present */
+    private int suitsPresent ;
+
+    /** number of cards tallied */
+    private int talliedCount ;
+
+    /** number of cards which aren't {@code Card}s */
+    private int untalliedCount ;
+
+    /** total of the cards' regular points */
+    private int regularPoints ;
+
+    /** total of the cards' alternate points */
+    private int altPoints ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize an empty tally
+     */
+    PileTally()
+        {
+
+        this.rankCounts = new int[ RANKS.length ] ;
+        this.suitCounts = new int[ SUIT_COUNT ] ;
+
+        clear() ;
+
+        }   // end no-arg constructor
+
+
+    /**
+     * tally a group of cards
+     *
+     * @param cards
+     *     the cards to tally
+     *
+     * @return a new tally of the cards - it won't reflect later changes to
+     *     {@code cards}
+     */
+    public static PileTally of( final Iterable<? extends CardBase> cards )
+        {
+
+        Objects.requireNonNull( cards, "cards" ) ;
+
+        final PileTally newTally = new PileTally() ;
+
+        for ( final CardBase card : cards )
+            {
+            newTally.countIn( card ) ;
+            }
+
+        return newTally ;
+
+        }   // end of()
+
+
+    /*
+     * queries
+     */
+
+
+    /**
+     * determine whether every card is reflected in the tally
+     *
+     * @return {@code true} if every card is a {@code Card}
+     */
+    public boolean allCardsTallied()
+        {
+
+        return this.untalliedCount == 0 ;
+
+        }   // end allCardsTallied()
+
+
+    /**
+     * determine whether adding a card would extend a run at either end - see
+     * {@link #isRun()}
+     *
+     * @param card
+     *     the card to consider
+     *
+     * @return {@code true} if the cards form a run and would still form one
+     *     with {@code card} added
+     */
+    public boolean canExtendRun( final Card card )
+        {
+
+        Objects.requireNonNull( card, "card" ) ;
+
+        if ( !isRun() || ( card.rank == Rank.JOKER ) || ( countOf( card.suit ) != this.talliedCount )
+             || ( countOf( card.rank ) != 0 ) )
+            {
+            return false ;
+            }
+
+        final int cardOrder = card.rank.getOrder() ;
+
+        return ( cardOrder == ( lowestRank().getOrder() - 1 ) )
+               || ( cardOrder == ( highestRank().getOrder() + 1 ) ) ;
+
+        }   // end canExtendRun()
+
+
+    /**
+     * retrieve the number of cards tallied
+     *
+     * @return the number of {@code Card}s
+     */
+    public int cardCount()
+        {
+
+        return this.talliedCount ;
+
+        }   // end cardCount()
+
+
+    /**
+     * retrieve the number of cards of a rank
+     *
+     * @param rank
+     *     the rank
+     *
+     * @return the number of cards with that rank
+     */
+    public int countOf( final Rank rank )
+        {
+
+        return this.rankCounts[ rank.ordinal() ] ;
+
+        }   // end countOf() given a rank
+
+
+    /**
+     * retrieve the number of cards of a suit
+     *
+     * @param suit
+     *     the suit
+     *
+     * @return the number of cards with that suit
+     */
+    public int countOf( final Suit suit )
+        {
+
+        return this.suitCounts[ suit.ordinal() ] ;
+
+        }   // end countOf() given a suit
+
+
+    /**
+     * retrieve the number of different ranks
+     *
+     * @return the number of ranks with at least one card
+     */
+    public int distinctRankCount()
+        {
+
+        return Integer.bitCount( this.ranksPresent ) ;
+
+        }   // end distinctRankCount()
+
+
+    /**
+     * retrieve the number of different suits
+     *
+     * @return the number of suits with at least one card
+     */
+    public int distinctSuitCount()
+        {
+
+        return Integer.bitCount( this.suitsPresent ) ;
+
+        }   // end distinctSuitCount()
+
+
+    /**
+     * retrieve the total points under the alternate scheme
+     *
+     * @return the sum of {@link Rank#getAltPoints()}
+     */
+    public int getAltPoints()
+        {
+
+        return this.altPoints ;
+
+        }   // end getAltPoints()
+
+
+    /**
+     * retrieve the total points under the scheme currently in effect (see
+     * {@link Rank#getUseAltPoints()})
+     *
+     * @return the sum of {@link Rank#getPoints()}
+     */
+    public int getPoints()
+        {
+
+        return Rank.getUseAltPoints() == Rank.USE_ALT_POINTS
+                ? this.altPoints
+                : this.regularPoints ;
+
+        }   // end getPoints()
+
+
+    /**
+     * retrieve the total points under the regular scheme
+     *
+     * @return the sum of {@link Rank#getRegularPoints()}
+     */
+    public int getRegularPoints()
+        {
+
+        return this.regularPoints ;
+
+        }   // end getRegularPoints()
+
+
+    /**
+     * retrieve the highest rank present according to the order currently in
+     * effect (see {@link Rank#getOrder()})
+     *
+     * @return the highest rank or {@code null} if there are no cards
+     */
+    public Rank highestRank()
+        {
+
+        Rank highest = null ;
+
+        for ( int ranks = this.ranksPresent ; ranks != 0 ; ranks &= ranks - 1 )
+            {
+            final Rank rank = RANKS[ Integer.numberOfTrailingZeros( ranks ) ] ;
+
+            if ( ( highest == null ) || ( rank.getOrder() > highest.getOrder() ) )
+                {
+                highest = rank ;
+                }
+
+            }
+
+        return highest ;
+
+        }   // end highestRank()
+
+
+    /**
+     * determine whether the cards form a run - a single suit, no Jokers, and
+     * ranks which are consecutive according to {@link Rank#getOrder()};
+     * duplicate cards are allowed
+     *
+     * @return {@code true} if there are cards and they form a run
+     */
+    public boolean isRun()
+        {
+
+        if ( ( this.talliedCount == 0 ) || ( distinctSuitCount() != 1 ) || ( countOf( Rank.JOKER ) != 0 ) )
+            {
+            return false ;
+            }
+
+        return ( ( highestRank().getOrder() - lowestRank().getOrder() ) + 1 ) == distinctRankCount() ;
+
+        }   // end isRun()
+
+
+    /**
+     * determine whether every card has the same rank
+     *
+     * @return {@code true} if there are cards and they all have one rank
+     */
+    public boolean isSingleRank()
+        {
+
+        return distinctRankCount() == 1 ;
+
+        }   // end isSingleRank()
+
+
+    /**
+     * retrieve the lowest rank present according to the order currently in
+     * effect (see {@link Rank#getOrder()})
+     *
+     * @return the lowest rank or {@code null} if there are no cards
+     */
+    public Rank lowestRank()
+        {
+
+        Rank lowest = null ;
+
+        for ( int ranks = this.ranksPresent ; ranks != 0 ; ranks &= ranks - 1 )
+            {
+            final Rank rank = RANKS[ Integer.numberOfTrailingZeros( ranks ) ] ;
+
+            if ( ( lowest == null ) || ( rank.getOrder() < lowest.getOrder() ) )
+                {
+                lowest = rank ;
+                }
+
+            }
+
+        return lowest ;
+
+        }   // end lowestRank()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "%,d cards, %,d points, ranks %s, suits %s",
+                              this.talliedCount,
+                              getPoints(),
+                              Arrays.toString( this.rankCounts ),
+                              Arrays.toString( this.suitCounts ) ) ;
+
+        }   // end toString()
+
+
+    /*
+     * maintenance - for TallyingPileStorage
+     */
+
+
+    /**
+     * add another tally to this one
+     *
+     * @param otherTally
+     *     the tally to add
+     */
+    void addAll( final PileTally otherTally )
+        {
+
+        for ( int i = 0 ; i < this.rankCounts.length ; i++ )
+            {
+            this.rankCounts[ i ] += otherTally.rankCounts[ i ] ;
+            }
+
+        for ( int i = 0 ; i < this.suitCounts.length ; i++ )
+            {
+            this.suitCounts[ i ] += otherTally.suitCounts[ i ] ;
+            }
+
+        this.ranksPresent |= otherTally.ranksPresent ;
+        this.suitsPresent |= otherTally.suitsPresent ;
+        this.talliedCount += otherTally.talliedCount ;
+        this.untalliedCount += otherTally.untalliedCount ;
+        this.regularPoints += otherTally.regularPoints ;
+        this.altPoints += otherTally.altPoints ;
+
+        }   // end addAll()
+
+
+    /**
+     * reset to an empty tally
+     */
+    void clear()
+        {
+
+        Arrays.fill( this.rankCounts, 0 ) ;
+        Arrays.fill( this.suitCounts, 0 ) ;
+
+        this.ranksPresent = 0 ;
+        this.suitsPresent = 0 ;
+        this.talliedCount = 0 ;
+        this.untalliedCount = 0 ;
+        this.regularPoints = 0 ;
+        this.altPoints = 0 ;
+
+        }   // end clear()
+
+
+    /**
+     * tally a card which was just added
+     *
+     * @param card
+     *     the card
+     */
+    void countIn( final CardBase card )
+        {
+
+        if ( !( card instanceof final Card standardCard ) )
+            {
+            this.untalliedCount++ ;
+
+            return ;
+            }
+
+        final int rankOrdinal = standardCard.rank.ordinal() ;
+        final int suitOrdinal = standardCard.suit.ordinal() ;
+
+        this.rankCounts[ rankOrdinal ]++ ;
+        this.suitCounts[ suitOrdinal ]++ ;
+        this.ranksPresent |= 1 << rankOrdinal ;
+        this.suitsPresent |= 1 << suitOrdinal ;
+
+        this.talliedCount++ ;
+        this.regularPoints += standardCard.rank.getRegularPoints() ;
+        this.altPoints += standardCard.rank.getAltPoints() ;
+
+        }   // end countIn()
+
+
+    /**
+     * un-tally a card which was just removed
+     *
+     * @param card
+     *     the card
+     */
+    void countOut( final CardBase card )
+        {
+
+        if ( !( card instanceof final Card standardCard ) )
+            {
+            this.untalliedCount-- ;
+
+            return ;
+            }
+
+        final int rankOrdinal = standardCard.rank.ordinal() ;
+        final int suitOrdinal = standardCard.suit.ordinal() ;
+
+        if ( --this.rankCounts[ rankOrdinal ] == 0 )
+            {
+            this.ranksPresent &= ~( 1 << rankOrdinal ) ;
+            }
+
+        if ( --this.suitCounts[ suitOrdinal ] == 0 )
+            {
+            this.suitsPresent &= ~( 1 << suitOrdinal ) ;
+            }
+
+        this.talliedCount-- ;
+        this.regularPoints -= standardCard.rank.getRegularPoints() ;
+        this.altPoints -= standardCard.rank.getAltPoints() ;
+
+        }   // end countOut()
+
+    }   // end class PileTally
\ No newline at end of file
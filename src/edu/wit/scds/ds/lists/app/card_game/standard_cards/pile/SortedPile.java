@@ -0,0 +1,459 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.standard_cards.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.PileBase ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.ShuffleModel ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.SortedPileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation ;
+
+import java.util.Collection ;
+import java.util.Objects ;
+import java.util.random.RandomGenerator ;
+
+
+/**
+ * A pile of standard playing cards which keeps its cards in order, lowest at
+ * the top and highest at the bottom
+ * <p>
+ * the pile decides where each card goes: {@code addToTop()} and
+ * {@code addToBottom()} place the card in order, after any which order the
+ * same, and the batch additions merge their cards into place.
+ * {@code addAtPosition()} only accepts a position which keeps the cards in
+ * order, and the shuffles throw {@code UnsupportedOperationException}.
+ * <p>
+ * cards replaced or added through an iterator stay where they're put until
+ * the next addition or removal of the highest/lowest card puts the pile back
+ * in order. A change to the comparison settings (e.g.
+ * {@code Card.setCompareOnAttributes()}) is picked up the same way.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation - extracted from the
+ *     {@code Hand}s
+ */
+public abstract class SortedPile extends Pile
+    {
+
+    /*
+     * data fields
+     */
+
+
+    /** our storage, or the storage we tally, which keeps the cards in order */
+    private final SortedPileStorage orderedCards ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize the pile with cards placed face up/down as specified by
+     * default
+     *
+     * @param initialOrientation
+     *     specify whether cards will be face up or down by default
+     */
+    protected SortedPile( final Orientation initialOrientation )
+        {
+
+        this( initialOrientation, false ) ;
+
+        }	// end 1-arg constructor
+
+
+    /**
+     * Initialize the pile with cards placed face up/down as specified by
+     * default, optionally keeping a running {@link PileTally} of its cards
+     *
+     * @param initialOrientation
+     *     specify whether cards will be face up or down by default
+     * @param tallied
+     *     {@code true} to keep a running tally, {@code false} otherwise
+     */
+    protected SortedPile( final Orientation initialOrientation,
+                          final boolean tallied )
+        {
+
+        this( initialOrientation, new SortedPileStorage(), tallied ) ;
+
+        }	// end 2-arg constructor
+
+
+    /**
+     * Initialize the pile with cards placed face up/down as specified by
+     * default, kept in order by the specified storage
+     *
+     * @param initialOrientation
+     *     specify whether cards will be face up or down by default
+     * @param ordering
+     *     an empty storage which keeps the cards in order
+     * @param tallied
+     *     {@code true} to keep a running tally, {@code false} otherwise
+     */
+    private SortedPile( final Orientation initialOrientation,
+                        final SortedPileStorage ordering,
+                        final boolean tallied )
+        {
+
+        super( initialOrientation,
+               tallied
+                   ? new TallyingPileStorage( ordering )
+                   : ordering ) ;
+
+        this.orderedCards = ordering ;
+
+        }	// end 3-arg constructor
+
+
+    /*
+     * public methods
+     */
+
+
+    @Override
+    public SortedPile addAllToBottom( final Collection<? extends CardBase> newCards )
+        {
+
+        super.addAllToBottom( newCards ) ;
+
+        // merge the new cards into place
+        this.orderedCards.restoreOrder() ;
+
+        return this ;
+
+        }  // end addAllToBottom()
+
+
+    @Override
+    public SortedPile addAllToTop( final Collection<? extends CardBase> newCards )
+        {
+
+        super.addAllToTop( newCards ) ;
+
+        // merge the new cards into place
+        this.orderedCards.restoreOrder() ;
+
+        return this ;
+
+        }  // end addAllToTop()
+
+
+    /**
+     * Add a single card at a specified position which keeps the cards in order
+     * - any position from the first card which orders the same as it to just
+     * after the last one
+     *
+     * @param newCard
+     *     the card to add - will be turned face up/down if necessary
+     * @param position
+     *     the 0-based position for the card where 0 is the top
+     *
+     * @return this pile (fluent)
+     *
+     * @throws IndexOutOfBoundsException
+     *     if the position is invalid given the current card count
+     * @throws IllegalArgumentException
+     *     if the card doesn't belong at the position
+     */
+    @Override
+    public SortedPile addAtPosition( final CardBase newCard,
+                                     final int position )
+            throws IndexOutOfBoundsException, IllegalArgumentException
+        {
+
+        Objects.requireNonNull( newCard, "newCard" ) ;
+
+        if ( ( position < 0 ) || ( position > cardCount() ) )
+            {
+            throw new IndexOutOfBoundsException( String.format( "position: %,d, card count: %,d",
+                                                                position,
+                                                                cardCount() ) ) ;
+            }
+
+        final int firstPosition = this.orderedCards.lowerBound( newCard ) ;
+        final int lastPosition = this.orderedCards.upperBound( newCard ) ;
+
+        if ( ( position < firstPosition ) || ( position > lastPosition ) )
+            {
+            throw new IllegalArgumentException( String.format( "%s belongs at position %,d through %,d, not %,d",
+                                                               newCard,
+                                                               firstPosition,
+                                                               lastPosition,
+                                                               position ) ) ;
+            }
+
+        super.addAtPosition( newCard, position ) ;
+
+        return this ;
+
+        }  // end addAtPosition()
+
+
+    /**
+     * Add a single card in order - after any cards which order the same as it
+     * - rather than at the bottom
+     * <p>
+     * O(log n) comparisons
+     *
+     * @param newCard
+     *     the card to add - will be turned face up/down if necessary
+     *
+     * @return this pile (fluent)
+     */
+    @Override
+    public SortedPile addToBottom( final CardBase newCard )
+        {
+
+        return addInOrder( newCard ) ;
+
+        }  // end addToBottom()
+
+
+    /**
+     * Add a single card in order - after any cards which order the same as it
+     * - rather than at the top
+     * <p>
+     * O(log n) comparisons
+     *
+     * @param newCard
+     *     the card to add - will be turned face up/down if necessary
+     *
+     * @return this pile (fluent)
+     */
+    @Override
+    public SortedPile addToTop( final CardBase newCard )
+        {
+
+        return addInOrder( newCard ) ;
+
+        }  // end addToTop()
+
+
+    @Override
+    public SortedPile moveCardsToBottom( final PileBase otherCards )
+        {
+
+        super.moveCardsToBottom( otherCards ) ;
+
+        // merge the new cards into place
+        this.orderedCards.restoreOrder() ;
+
+        return this ;
+
+        }  // end moveCardsToBottom()
+
+
+    @Override
+    public SortedPile moveCardsToTop( final PileBase otherCards )
+        {
+
+        super.moveCardsToTop( otherCards ) ;
+
+        // merge the new cards into place
+        this.orderedCards.restoreOrder() ;
+
+        return this ;
+
+        }  // end moveCardsToTop()
+
+
+    /**
+     * retrieve and remove the highest value card in the pile - the first of
+     * them if several are equally high
+     * <p>
+     * O(log n) to find it
+     *
+     * @return the highest value card
+     *
+     * @throws NoCardsException
+     *     if the pile is empty
+     */
+    public Card removeHighestCard() throws NoCardsException
+        {
+
+        if ( isEmpty() )
+            {
+            throw NoCardsException.emptyPile() ;
+            }
+
+        this.orderedCards.restoreOrder() ;
+
+        // the highest cards are at the bottom
+        return removeCardAt( this.orderedCards.lowerBound( super.cards.getLast() ) ) ;
+
+        }  // end removeHighestCard()
+
+
+    /**
+     * retrieve and remove the lowest value card in the pile - the first of
+     * them if several are equally low
+     * <p>
+     * O(1) to find it
+     *
+     * @return the lowest value card
+     *
+     * @throws NoCardsException
+     *     if the pile is empty
+     */
+    public Card removeLowestCard() throws NoCardsException
+        {
+
+        if ( isEmpty() )
+            {
+            throw NoCardsException.emptyPile() ;
+            }
+
+        this.orderedCards.restoreOrder() ;
+
+        // the lowest card is at the top
+        return removeTopCard() ;
+
+        }  // end removeLowestCard()
+
+
+    /**
+     * The pile keeps its cards in order so it can't be shuffled
+     *
+     * @param random
+     *     -unused-
+     *
+     * @return -never returns-
+     *
+     * @throws UnsupportedOperationException
+     *     always
+     */
+    @Override
+    public SortedPile shuffle( final RandomGenerator random ) throws UnsupportedOperationException
+        {
+
+        throw unshuffleable() ;
+
+        }   // end shuffle() with generator
+
+
+    /**
+     * The pile keeps its cards in order so it can't be shuffled
+     *
+     * @param model
+     *     -unused-
+     * @param repetitions
+     *     -unused-
+     * @param random
+     *     -unused-
+     *
+     * @return -never returns-
+     *
+     * @throws UnsupportedOperationException
+     *     always
+     */
+    @Override
+    public SortedPile shuffle( final ShuffleModel model,
+                               final int repetitions,
+                               final RandomGenerator random )
+            throws UnsupportedOperationException
+        {
+
+        throw unshuffleable() ;
+
+        }   // end shuffle() with model
+
+
+    /**
+     * The pile keeps its cards in order so it can't be shuffled
+     *
+     * @param count
+     *     -unused-
+     * @param random
+     *     -unused-
+     *
+     * @return -never returns-
+     *
+     * @throws UnsupportedOperationException
+     *     always
+     */
+    @Override
+    public SortedPile shuffleTop( final int count,
+                                  final RandomGenerator random )
+            throws UnsupportedOperationException
+        {
+
+        throw unshuffleable() ;
+
+        }   // end shuffleTop() with generator
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * add a single card in order, after any cards which order the same as it
+     * <p>
+     * O(log n) comparisons
+     *
+     * @param newCard
+     *     the card to add
+     *
+     * @return this pile (fluent)
+     */
+    private SortedPile addInOrder( final CardBase newCard )
+        {
+
+        Objects.requireNonNull( newCard, "newCard" ) ;
+
+        super.addAtPosition( newCard, this.orderedCards.upperBound( newCard ) ) ;
+
+        return this ;
+
+        }  // end addInOrder()
+
+
+    /**
+     * build the exception the shuffles throw
+     *
+     * @return the exception
+     */
+    private UnsupportedOperationException unshuffleable()
+        {
+
+        return new UnsupportedOperationException( String.format( "%s keeps its cards in order - it can't be shuffled",
+                                                                 getClass().getSimpleName() ) ) ;
+
+        }   // end unshuffleable()
+
+    }	// end class SortedPile
\ No newline at end of file
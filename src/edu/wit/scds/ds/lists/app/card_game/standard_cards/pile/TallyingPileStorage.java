@@ -0,0 +1,694 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.standard_cards.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.PileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.RingBufferPileStorage ;
+
+import java.util.AbstractList ;
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.Collection ;
+import java.util.Comparator ;
+import java.util.Iterator ;
+import java.util.List ;
+import java.util.ListIterator ;
+import java.util.Objects ;
+import java.util.Spliterator ;
+import java.util.function.Predicate ;
+import java.util.random.RandomGenerator ;
+
+
+/**
+ * Any layout plus a running {@link PileTally} of its cards
+ * <p>
+ * the cards are held, in order, by another {@code PileStorage} - so a pile
+ * keeps the performance of its chosen layout - and every addition and
+ * removal also adjusts the tally. Moving every card from one tallying
+ * storage to another moves the tally too, without re-counting.
+ * <p>
+ * the wrapped storage must not be changed other than through this one.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class TallyingPileStorage extends AbstractList<CardBase> implements PileStorage
+    {
+
+    /*
+     * data fields
+     */
+
+
+    /** the cards in order */
+    private final PileStorage order ;
+
+    /** the running summary of the cards */
+    private final PileTally tally ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize an empty storage which holds its cards in a ring buffer
+     */
+    public TallyingPileStorage()
+        {
+
+        this( new RingBufferPileStorage() ) ;
+
+        }   // end no-arg constructor
+
+
+    /**
+     * Initialize an empty storage which holds its cards in the specified
+     * layout
+     *
+     * @param orderedStorage
+     *     an empty {@code PileStorage} which will belong exclusively to this
+     *     storage
+     */
+    public TallyingPileStorage( final PileStorage orderedStorage )
+        {
+
+        this.order = Objects.requireNonNull( orderedStorage, "orderedStorage" ) ;
+        this.tally = new PileTally() ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * tally
+     */
+
+
+    /**
+     * retrieve the running tally
+     *
+     * @return the tally, which changes as the cards do
+     */
+    public PileTally getTally()
+        {
+
+        return this.tally ;
+
+        }   // end getTally()
+
+
+    /*
+     * List methods
+     */
+
+
+    @Override
+    public void add( final int position,
+                     final CardBase newCard )
+        {
+
+        this.order.add( position, newCard ) ;
+        this.tally.countIn( newCard ) ;
+
+        this.modCount++ ;
+
+        }   // end add()
+
+
+    @Override
+    public boolean addAll( final Collection<? extends CardBase> newCards )
+        {
+
+        return addAll( size(), newCards ) ;
+
+        }   // end addAll()
+
+
+    @Override
+    public boolean addAll( final int position,
+                           final Collection<? extends CardBase> newCards )
+        {
+
+        // snapshot in case newCards is this storage
+        final CardBase[] toAdd = newCards.toArray( new CardBase[ 0 ] ) ;
+
+        if ( !this.order.addAll( position, Arrays.asList( toAdd ) ) )
+            {
+            return false ;
+            }
+
+        for ( final CardBase newCard : toAdd )
+            {
+            this.tally.countIn( newCard ) ;
+            }
+
+        this.modCount++ ;
+
+        return true ;
+
+        }   // end addAll() at position
+
+
+    @Override
+    public void addFirst( final CardBase newCard )
+        {
+
+        this.order.addFirst( newCard ) ;
+        this.tally.countIn( newCard ) ;
+
+        this.modCount++ ;
+
+        }   // end addFirst()
+
+
+    @Override
+    public void addLast( final CardBase newCard )
+        {
+
+        this.order.addLast( newCard ) ;
+        this.tally.countIn( newCard ) ;
+
+        this.modCount++ ;
+
+        }   // end addLast()
+
+
+    @Override
+    public void clear()
+        {
+
+        this.order.clear() ;
+        this.tally.clear() ;
+
+        this.modCount++ ;
+
+        }   // end clear()
+
+
+    @Override
+    public boolean contains( final Object lookFor )
+        {
+
+        return this.order.contains( lookFor ) ;
+
+        }   // end contains()
+
+
+    @Override
+    public CardBase get( final int position )
+        {
+
+        return this.order.get( position ) ;
+
+        }   // end get()
+
+
+    @Override
+    public CardBase getFirst()
+        {
+
+        return this.order.getFirst() ;
+
+        }   // end getFirst()
+
+
+    @Override
+    public CardBase getLast()
+        {
+
+        return this.order.getLast() ;
+
+        }   // end getLast()
+
+
+    @Override
+    public int indexOf( final Object lookFor )
+        {
+
+        return this.order.indexOf( lookFor ) ;
+
+        }   // end indexOf()
+
+
+    @Override
+    public Iterator<CardBase> iterator()
+        {
+
+        return listIterator( 0 ) ;
+
+        }   // end iterator()
+
+
+    @Override
+    public ListIterator<CardBase> listIterator( final int position )
+        {
+
+        return new TallyingIterator( this.order.listIterator( position ) ) ;
+
+        }   // end listIterator()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * moves the tally along with the cards when {@code source} is also a
+     * {@code TallyingPileStorage}; the cards move as the wrapped layouts allow
+     */
+    @Override
+    public void moveAllToBottom( final PileStorage source )
+        {
+
+        if ( source == this )
+            {
+            PileStorage.super.moveAllToBottom( source ) ;
+
+            return ;
+            }
+
+        moveTallyFrom( source ) ;
+
+        this.order.moveAllToBottom( unwrap( source ) ) ;
+
+        }   // end moveAllToBottom()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * moves the tally along with the cards when {@code source} is also a
+     * {@code TallyingPileStorage}; the cards move as the wrapped layouts allow
+     */
+    @Override
+    public void moveAllToTop( final PileStorage source )
+        {
+
+        if ( source == this )
+            {
+            PileStorage.super.moveAllToTop( source ) ;
+
+            return ;
+            }
+
+        moveTallyFrom( source ) ;
+
+        this.order.moveAllToTop( unwrap( source ) ) ;
+
+        }   // end moveAllToTop()
+
+
+    @Override
+    public CardBase remove( final int position )
+        {
+
+        final CardBase removedCard = this.order.remove( position ) ;
+
+        this.tally.countOut( removedCard ) ;
+        this.modCount++ ;
+
+        return removedCard ;
+
+        }   // end remove()
+
+
+    @Override
+    public CardBase removeFirst()
+        {
+
+        final CardBase removedCard = this.order.removeFirst() ;
+
+        this.tally.countOut( removedCard ) ;
+        this.modCount++ ;
+
+        return removedCard ;
+
+        }   // end removeFirst()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * a single pass over the cards; the tally is adjusted once the removal
+     * has succeeded
+     */
+    @Override
+    public boolean removeIf( final Predicate<? super CardBase> filter )
+        {
+
+        Objects.requireNonNull( filter, "filter" ) ;
+
+        // remember which cards go so we can un-tally them - add() is always true
+        final List<CardBase> removedCards = new ArrayList<>() ;
+        final Predicate<CardBase> recordingFilter = card -> filter.test( card ) && removedCards.add( card ) ;
+
+        if ( !this.order.removeIf( recordingFilter ) )
+            {
+            return false ;
+            }
+
+        for ( final CardBase removedCard : removedCards )
+            {
+            this.tally.countOut( removedCard ) ;
+            }
+
+        this.modCount++ ;
+
+        return true ;
+
+        }   // end removeIf()
+
+
+    @Override
+    public CardBase removeLast()
+        {
+
+        final CardBase removedCard = this.order.removeLast() ;
+
+        this.tally.countOut( removedCard ) ;
+        this.modCount++ ;
+
+        return removedCard ;
+
+        }   // end removeLast()
+
+
+    @Override
+    public CardBase set( final int position,
+                         final CardBase replacementCard )
+        {
+
+        final CardBase replacedCard = this.order.set( position, replacementCard ) ;
+
+        this.tally.countOut( replacedCard ) ;
+        this.tally.countIn( replacementCard ) ;
+
+        return replacedCard ;
+
+        }   // end set()
+
+
+    @Override
+    public void shuffle( final RandomGenerator random,
+                         final int count )
+        {
+
+        // reordering doesn't change the tally
+        this.order.shuffle( random, count ) ;
+
+        this.modCount++ ;
+
+        }   // end shuffle()
+
+
+    @Override
+    public int size()
+        {
+
+        return this.order.size() ;
+
+        }   // end size()
+
+
+    @Override
+    public void sort( final Comparator<? super CardBase> comparator )
+        {
+
+        // reordering doesn't change the tally
+        this.order.sort( comparator ) ;
+
+        this.modCount++ ;
+
+        }   // end sort()
+
+
+    @Override
+    public Spliterator<CardBase> spliterator()
+        {
+
+        return this.order.spliterator() ;
+
+        }   // end spliterator()
+
+
+    @Override
+    public Object[] toArray()
+        {
+
+        return this.order.toArray() ;
+
+        }   // end toArray()
+
+
+    @Override
+    public <T> T[] toArray( final T[] destination )
+        {
+
+        return this.order.toArray( destination ) ;
+
+        }   // end toArray() into an array
+
+
+    /*
+     * protected methods
+     */
+
+
+    @Override
+    protected void removeRange( final int fromPosition,
+                                final int toPosition )
+        {
+
+        final List<CardBase> range = this.order.subList( fromPosition, toPosition ) ;
+
+        for ( final CardBase removedCard : range )
+            {
+            this.tally.countOut( removedCard ) ;
+            }
+
+        range.clear() ;
+
+        this.modCount++ ;
+
+        }   // end removeRange()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * tally the cards about to be moved here from another storage and, if it
+     * keeps a tally, empty that
+     *
+     * @param source
+     *     the storage the cards are coming from
+     */
+    private void moveTallyFrom( final PileStorage source )
+        {
+
+        if ( source instanceof final TallyingPileStorage talliedSource )
+            {
+            this.tally.addAll( talliedSource.tally ) ;
+            talliedSource.tally.clear() ;
+            talliedSource.modCount++ ;
+            }
+        else
+            {
+
+            for ( final CardBase movingCard : source )
+                {
+                this.tally.countIn( movingCard ) ;
+                }
+
+            }
+
+        this.modCount++ ;
+
+        }   // end moveTallyFrom()
+
+
+    /**
+     * find the layout which actually holds a storage's cards
+     *
+     * @param storage
+     *     a storage
+     *
+     * @return the wrapped layout if {@code storage} is a
+     *     {@code TallyingPileStorage}; otherwise {@code storage}
+     */
+    private static PileStorage unwrap( final PileStorage storage )
+        {
+
+        return storage instanceof final TallyingPileStorage talliedStorage
+                ? talliedStorage.order
+                : storage ;
+
+        }   // end unwrap()
+
+
+    /*
+     * utility classes
+     */
+
+
+    /**
+     * the wrapped layout's iterator, adjusting the tally for changes made
+     * through it
+     */
+    private final class TallyingIterator implements ListIterator<CardBase>
+        {
+
+        /** the wrapped layout's iterator */
+        private final ListIterator<CardBase> cardIterator ;
+
+        /** the card most recently returned by {@code next()} or {@code previous()} */
+        private CardBase lastReturned ;
+
+
+        /**
+         * wrap an iterator
+         *
+         * @param orderIterator
+         *     an iterator over the wrapped layout
+         */
+        private TallyingIterator( final ListIterator<CardBase> orderIterator )
+            {
+
+            this.cardIterator = orderIterator ;
+
+            }   // end constructor
+
+
+        @Override
+        public void add( final CardBase newCard )
+            {
+
+            this.cardIterator.add( newCard ) ;
+
+            TallyingPileStorage.this.tally.countIn( newCard ) ;
+            TallyingPileStorage.this.modCount++ ;
+
+            this.lastReturned = null ;
+
+            }   // end add()
+
+
+        @Override
+        public boolean hasNext()
+            {
+
+            return this.cardIterator.hasNext() ;
+
+            }   // end hasNext()
+
+
+        @Override
+        public boolean hasPrevious()
+            {
+
+            return this.cardIterator.hasPrevious() ;
+
+            }   // end hasPrevious()
+
+
+        @Override
+        public CardBase next()
+            {
+
+            this.lastReturned = this.cardIterator.next() ;
+
+            return this.lastReturned ;
+
+            }   // end next()
+
+
+        @Override
+        public int nextIndex()
+            {
+
+            return this.cardIterator.nextIndex() ;
+
+            }   // end nextIndex()
+
+
+        @Override
+        public CardBase previous()
+            {
+
+            this.lastReturned = this.cardIterator.previous() ;
+
+            return this.lastReturned ;
+
+            }   // end previous()
+
+
+        @Override
+        public int previousIndex()
+            {
+
+            return this.cardIterator.previousIndex() ;
+
+            }   // end previousIndex()
+
+
+        @Override
+        public void remove()
+            {
+
+            this.cardIterator.remove() ;
+
+            TallyingPileStorage.this.tally.countOut( this.lastReturned ) ;
+            TallyingPileStorage.this.modCount++ ;
+
+            this.lastReturned = null ;
+
+            }   // end remove()
+
+
+        @Override
+        public void set( final CardBase replacementCard )
+            {
+
+            this.cardIterator.set( replacementCard ) ;
+
+            TallyingPileStorage.this.tally.countOut( this.lastReturned ) ;
+            TallyingPileStorage.this.tally.countIn( replacementCard ) ;
+
+            this.lastReturned = replacementCard ;
+
+            }   // end set()
+
+        }   // end inner class TallyingIterator
+
+    }   // end class TallyingPileStorage
\ No newline at end of file
@@ -39,15 +39,18 @@ import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
 import edu.wit.scds.ds.lists.app.card_game.top_this.pile.Hand ;
 import edu.wit.scds.ds.lists.app.card_game.top_this.pile.Meld ;
 import edu.wit.scds.ds.lists.app.card_game.top_this.pile.Stock ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.LinkedPileStorage ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
 
-import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card.newCardLike ;
+import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card.lookupCard ;
 import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank.JOKER ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.AS_IS ;
 
 import java.io.File ;
 import java.io.FileNotFoundException ;
 import java.util.ArrayList ;
 import java.util.List ;
+import java.util.Objects ;
 import java.util.Random ;
 import java.util.Scanner ;
 
@@ -59,6 +62,16 @@ import java.util.Scanner ;
  * @version 1.0 2021-12-08 Initial implementation
  * @version 2.0 2025-06-28 track changes to other classes
  * @version 2.1 2025-11-04 track changes to other classes
+ * @version 2.2 2026-10-17 look up cards with the shared {@code Card.lookupCard()}
+ *     instances rather than instantiating a card per lookup
+ * @version 2.3 2026-10-17 collect turned-in cards in a linked pile so melds
+ *     splice into it
+ * @version 2.4 2026-10-17 expose the hand to the game so it can be dealt to
+ *     in one batch, then sorted once
+ * @version 2.5 2026-10-17 the hand keeps itself in order so it's no longer
+ *     sorted after each card (removes {@code sortHand()})
+ * @version 2.6 2026-10-17 add {@code turnInAllCards( Pile )} so the game can
+ *     return cards straight to the stock
  */
 public final class Player
     {
@@ -115,12 +128,27 @@ public final class Player
     public void dealtACard( final Card dealt )
         {
 
+        // the hand places the card in order
         this.hand.addToBottom( dealt ) ;
-        this.hand.sort() ;
 
         }  // end dealtACard()
 
 
+    /**
+     * Retrieve our hand so the game can deal to it
+     *
+     * @return the player's hand
+     *
+     * @since 2.4
+     */
+    Hand getHand()
+        {
+
+        return this.hand ;
+
+        }  // end getHand()
+
+
     /**
      * retrieve the number of melds
      *
@@ -184,7 +212,7 @@ public final class Player
                            final Suit suit )
         {
 
-        return playACard( newCardLike( rank, suit ) ) ;
+        return playACard( lookupCard( rank, suit ) ) ;
 
         }  // end playACard()
 
@@ -250,22 +278,42 @@ public final class Player
         {
 
         // local temporary class (pile) to hold our cards
-        final Pile allCards = new Pile() {} ;
+        return turnInAllCards( new Pile( AS_IS, new LinkedPileStorage() ) {} ) ;
+
+        }  // end turnInAllCards()
+
+
+    /**
+     * Move all cards from our hand and our collected cards to another pile,
+     * such as the stock, without collecting them in a pile of their own
+     *
+     * @param destination
+     *     the pile to receive our cards, on its bottom
+     *
+     * @return the destination pile (fluent) - order and orientation of our
+     *     cards may be inconsistent
+     *
+     * @since 2.6
+     */
+    public Pile turnInAllCards( final Pile destination )
+        {
+
+        Objects.requireNonNull( destination, "destination" ) ;
 
         // we may be holding cards - collect them
 
-        allCards.moveCardsToBottom( this.hand ) ;
+        destination.moveCardsToBottom( this.hand ) ;
 
         for ( final Pile aMeld : this.melds )
             {
-            allCards.moveCardsToBottom( aMeld ) ;
+            destination.moveCardsToBottom( aMeld ) ;
             }
 
         this.melds.clear() ;
 
-        // assertion: we have no cards, any we had will be returned via allCards
+        // assertion: we have no cards, any we had are in destination
 
-        return allCards ;
+        return destination ;
 
         }  // end turnInAllCards()
 
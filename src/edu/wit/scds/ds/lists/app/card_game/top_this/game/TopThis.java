@@ -36,7 +36,10 @@ import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Suit ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Deck ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
 import edu.wit.scds.ds.lists.app.card_game.top_this.pile.DiscardPile ;
+import edu.wit.scds.ds.lists.app.card_game.top_this.pile.Hand ;
 import edu.wit.scds.ds.lists.app.card_game.top_this.pile.Stock ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.DealPattern ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.ScratchPilePool ;
 
 import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank.JOKER ;
 
@@ -91,6 +94,20 @@ import java.util.Scanner ;
  * @version 1.0 2025-03-27 Initial implementation
  * @version 2.0 2025-06-28 track changes to other classes
  * @version 2.1 2025-11-19 validate the deck(s) at the end of the game
+ * @version 2.2 2026-10-17 look up cards with the shared {@code Card.lookupCard()}
+ *     instances rather than instantiating a card per lookup
+ * @version 2.3 2026-10-17 deal all hands from the stock in one batch
+ * @version 2.4 2026-10-17 hands keep themselves in order - no sorting after
+ *     the deal
+ * @version 2.5 2026-10-17 lease temporary piles from a per-game
+ *     {@code ScratchPilePool}; players turn their cards in straight to the
+ *     stock
+ * @version 2.6 2026-10-17 lease the cards in play from a face-down pool so
+ *     played cards stay hidden until every player has taken their turn
+ * @version 2.7 2026-10-17 show the high card as revealed with the rest of the
+ *     cards in play
+ * @version 2.8 2026-10-17 return each round's cards in play lease once its
+ *     cards have moved on
  */
 public final class TopThis
     {
@@ -127,6 +144,12 @@ public final class TopThis
     private final Stock stock ;
     private final DiscardPile discardPile ;
 
+    /** temporary piles, as is - reused from game to game */
+    private final ScratchPilePool<Pile> scratchPiles ;
+
+    /** the cards in play, face down - reused from round to round */
+    private final ScratchPilePool<Pile> cardsInPlayPiles ;
+
     private boolean running = false ;
 
 
@@ -160,6 +183,9 @@ public final class TopThis
 
         this.discardPile = new DiscardPile() ;
 
+        this.scratchPiles = new ScratchPilePool<>( () -> new Pile() {} ) ;
+        this.cardsInPlayPiles = new ScratchPilePool<>( () -> new Pile() {}.setDefaultFaceDown() ) ;
+
 
         this.numberOfDecks = -1 ;
 
@@ -375,18 +401,17 @@ public final class TopThis
     private void dealHands()
         {
 
-        // deal one card to each player in turn
-        for ( int i = 1 ; i <= this.numberOfCardsPerHand ; i++ )
-            {
-
-            for ( final Player aPlayer : this.players )
-                {
-                final Card dealt = this.stock.drawTopCard().hide() ;
-                aPlayer.dealtACard( dealt ) ;
-                }
+        final List<Hand> hands = new ArrayList<>( this.players.size() ) ;
 
+        for ( final Player aPlayer : this.players )
+            {
+            hands.add( aPlayer.getHand() ) ;
             }
 
+        // deal one card to each player in turn - the hands turn them face down
+        // and keep them in order
+        this.stock.deal( this.numberOfCardsPerHand, hands, DealPattern.ROUND_ROBIN ) ;
+
         }   // end dealHands()
 
 
@@ -447,22 +472,29 @@ public final class TopThis
         // hands and # of
         // cards/hand
 
-        final Card joker = new Card( JOKER ) ;    // for lookup
+        final Card joker = Card.lookupCard( JOKER, Suit.NA ) ;
 
         for ( int i = 1 ; i <= this.numberOfDecks ; i++ )
             {
             // 'open' a 'box' of cards
             final Deck newDeck = new Deck() ;
 
-            // take the cards out of the box
-            final Pile newCards = newDeck.removeAllCards() ;
-
-            // pull out the jokers, turn them face up and put them back in the
-            // 'box'
-            newDeck.moveCardsToBottom( newCards.removeAllMatchingCards( joker ).revealAll() ) ;
-
-            // add this set of cards to the stock
-            this.stock.moveCardsToBottom( newCards ) ;
+            try ( final ScratchPilePool.Lease<Pile> newCardsLease = this.scratchPiles.lease() ;
+                    final ScratchPilePool.Lease<Pile> jokersLease = this.scratchPiles.lease() ; )
+                {
+                // take the cards out of the box
+                final Pile newCards = newCardsLease.getPile() ;
+                newCards.addAllToBottom( newDeck ) ;
+
+                // pull out the jokers, turn them face up and put them back in
+                // the 'box'
+                final Pile jokers = jokersLease.getPile() ;
+                newCards.removeAllMatchingCards( joker, jokers ) ;
+                newDeck.moveCardsToBottom( jokers.revealAll() ) ;
+
+                // add this set of cards to the stock
+                this.stock.moveCardsToBottom( newCards ) ;
+                }
 
             // save the 'box'
             this.decks.add( newDeck ) ;
@@ -487,7 +519,7 @@ public final class TopThis
 
         for ( final Player aPlayer : this.players )
             {
-            this.stock.moveCardsToBottom( aPlayer.turnInAllCards() ) ;
+            aPlayer.turnInAllCards( this.stock ) ;
             }
 
         this.stock.shuffle() ;
@@ -536,11 +568,13 @@ public final class TopThis
                 return ;
                 }
 
-            // make new pile to hold the cards played during this round
+            // lease a pile to hold the cards played during this round - it
+            // goes back, empty, at the end of the round
             // cards will be added face down
             // after all players have taken their turn, the cards will all be
             // turned face up
-            final Pile cardsInPlay = new Pile() {}.setDefaultFaceDown() ;
+            final ScratchPilePool.Lease<Pile> cardsInPlayLease = this.cardsInPlayPiles.lease() ;
+            final Pile cardsInPlay = cardsInPlayLease.getPile() ;
 
 
             displayDivider() ;
@@ -567,6 +601,7 @@ public final class TopThis
                     if ( !this.running )
                         {
                         this.stock.moveCardsToBottom( cardsInPlay ) ;
+                        cardsInPlayLease.close() ;
 
                         return ;
                         }
@@ -618,6 +653,9 @@ public final class TopThis
             // reveal all the cards that were played this round
             cardsInPlay.revealAll() ;
 
+            // we kept the high card from before the reveal
+            cardsInPlay.showHeldCard( highCard ) ;
+
             displayDivider() ;
 
             final int highCardHolderCount = highCardHolders.size() ;
@@ -679,6 +717,9 @@ public final class TopThis
                 this.discardPile.moveCardsToTop( cardsInPlay ) ;
                 }
 
+            // the cards have gone to the winner or the discard pile
+            cardsInPlayLease.close() ;
+
             displayStandings() ;
 
             // start the next round with the next player
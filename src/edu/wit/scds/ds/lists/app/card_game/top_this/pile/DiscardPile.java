@@ -32,6 +32,7 @@ package edu.wit.scds.ds.lists.app.card_game.top_this.pile ;
 
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.LinkedPileStorage ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
 
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_DOWN ;
@@ -44,6 +45,8 @@ import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orienta
  * @version 1.0 2021-12-08 Initial implementation
  * @version 2.0 2025-03-30 track changes to all classes
  * @version 3.0 2025-06-26 track changes to all classes
+ * @version 3.1 2026-10-17 hold the cards in a {@code LinkedPileStorage} so
+ *     returning them to the stock splices rather than copies
  */
 public final class DiscardPile extends Pile
     {
@@ -60,7 +63,7 @@ public final class DiscardPile extends Pile
     public DiscardPile()
         {
 
-        super( FACE_DOWN ) ;
+        super( FACE_DOWN, new LinkedPileStorage() ) ;
 
         }   // end no-arg constructor
 
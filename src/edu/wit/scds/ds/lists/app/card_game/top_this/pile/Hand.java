@@ -30,16 +30,15 @@
 
 package edu.wit.scds.ds.lists.app.card_game.top_this.pile ;
 
-import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
-import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
-import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.SortedPile ;
 
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_DOWN ;
 
-import java.util.Collections ;
-
 /**
  * Representation of a hand of cards
+ * <p>
+ * a hand keeps its cards in order, lowest at the top and highest at the
+ * bottom - see {@link SortedPile}
  *
  * @author Dave Rosenberg
  *
@@ -51,8 +50,21 @@ import java.util.Collections ;
  *     <li>switch {@code remove[Highest,Lowest]Card()} from manual loops to
  *     {@code Collections.[max,min]()}
  *     </ul>
+ * @version 3.1 2026-10-17 hold the cards in a gap buffer - players insert and
+ *     remove cards at arbitrary positions, usually near where they last did
+ * @version 3.2 2026-10-17 keep the cards in order as they're added (binary
+ *     search in a {@code SortedPileStorage}) so the hand never needs
+ *     re-sorting; the lowest card is always at the top and the highest at the
+ *     bottom
+ * @version 3.3 2026-10-17 place cards in order in the hand rather than in
+ *     its storage, which now honors positions - additions anywhere go in order
+ *     and shuffling sorts
+ * @version 3.4 2026-10-17 throw {@code NoCardsException.emptyPile()} when
+ *     empty, like every other draw
+ * @version 3.5 2026-10-17 extend {@code SortedPile}, which throws on a
+ *     shuffle or a position which would put the cards out of order
  */
-public final class Hand extends Pile
+public final class Hand extends SortedPile
     {
 
     // no additional data fields
@@ -74,53 +86,6 @@ public final class Hand extends Pile
         }	// end no-arg constructor
 
 
-    /*
-     * public methods
-     */
-
-
-    /**
-     * retrieve and remove the highest value card in the hand
-     *
-     * @return the highest value card
-     *
-     * @throws NoCardsException
-     *     if the hand is empty
-     */
-    public Card removeHighestCard() throws NoCardsException
-        {
-
-        if ( isEmpty() )
-            {
-            throw new NoCardsException() ;
-            }
-
-        return removeCard( Collections.max( super.cards ) ) ;
-
-        }  // end removeHighestCard()
-
-
-    /**
-     * retrieve and remove the lowest value card in the hand
-     *
-     * @return the lowest value card
-     *
-     * @throws NoCardsException
-     *     if the hand is empty
-     */
-    public Card removeLowestCard() throws NoCardsException
-        {
-
-        if ( isEmpty() )
-            {
-            throw new NoCardsException() ;
-            }
-
-        return removeCard( Collections.min( super.cards ) ) ;
-
-        }  // end removeLowestCard()
-
-
     /*
      * testing/debugging
      */
@@ -31,6 +31,7 @@
 package edu.wit.scds.ds.lists.app.card_game.top_this.pile ;
 
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.LinkedPileStorage ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation ;
 
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_UP ;
@@ -42,6 +43,8 @@ import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orienta
  * @author Dave Rosenberg
  *
  * @version 1.0 2025-06-28 Initial implementation (taken from {@code Field}
+ * @version 1.1 2026-10-17 hold the cards in a {@code LinkedPileStorage} so
+ *     turning in a meld splices rather than copies
  */
 public final class Meld extends Pile
     {
@@ -64,7 +67,7 @@ public final class Meld extends Pile
     public Meld()
         {
 
-        super( DEFAULT_CARD_ORIENTATION ) ;
+        super( DEFAULT_CARD_ORIENTATION, new LinkedPileStorage() ) ;
 
         }	// end no-arg constructor
 
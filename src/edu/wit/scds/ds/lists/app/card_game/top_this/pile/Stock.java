@@ -34,16 +34,27 @@ import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Suit ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Deck ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.DealPattern ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.LinkedPileStorage ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
 
 import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card.newCardLike ;
 import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank.JOKER ;
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_DOWN ;
 
+import java.util.List ;
+
 /**
  * Representation of a stock of cards
  * <p>
  * this is the source of all cards available to the game during gameplay
+ * <p>
+ * the cards are held in an identity-indexed {@code LinkedPileStorage}, which
+ * keeps draw order and also counts the cards with each identity: piles
+ * returned to the stock splice in, {@code getCardLike()}, {@code hasCardLike()}
+ * and {@code removeCard()} find a card, e.g. a joker, through the index in
+ * O(1), {@code matchCount()} sums the counts rather than scanning, and
+ * {@code removeAllMatchingCards()} removes k copies in O(k).
  *
  * @author Dave Rosenberg
  *
@@ -53,6 +64,20 @@ import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orienta
  *     <li>track changes to other classes
  *     <li>add constructor that provides source cards
  *     </ul>
+ * @version 2.1 2026-10-17 count cards by identity ({@code CountingPileStorage})
+ *     so joker and duplicate lookups across several decks don't scan the stock
+ *     - replaced in 2.2
+ * @version 2.2 2026-10-17 hold the cards in an identity-indexed
+ *     {@code LinkedPileStorage} instead of counting them, so whole piles
+ *     splice in and joker lookups are O(1); duplicate counts scan the stock
+ * @version 2.3 2026-10-17 add {@code deal()} which deals to every hand in one
+ *     batch
+ * @version 2.4 2026-10-17 add {@code tryDraw()} for callers which expect the
+ *     stock to run out
+ * @version 2.5 2026-10-17 the source-pile constructor initializes the pile
+ *     directly, face down as {@code Pile} does by default
+ * @version 2.6 2026-10-17 describe the storage layout the stock uses now
+ * @version 2.7 2026-10-17 the stock's storage counts its cards by identity
  */
 public final class Stock extends Pile
     {
@@ -80,8 +105,9 @@ public final class Stock extends Pile
     public Stock()
         {
 
-        // initialize the pile
-        super( FACE_DOWN ) ;
+        // initialize the pile - preserves draw order, accepts returned piles
+        // by splicing and indexes each card
+        super( FACE_DOWN, new LinkedPileStorage( true ) ) ;
 
         }	// end no-arg constructor
 
@@ -97,7 +123,9 @@ public final class Stock extends Pile
     public Stock( final Pile sourcePile )
         {
 
-        super() ;
+        // initialize the pile - face down, as Pile() does, in the same layout
+        // as an empty stock
+        super( FACE_DOWN, new LinkedPileStorage( true ) ) ;
 
         moveCardsToBottom( sourcePile ) ;
 
@@ -125,6 +153,39 @@ public final class Stock extends Pile
         }  // end drawTopCard()
 
 
+    /**
+     * Deal cards from the top of the stock to several piles, such as the
+     * players' hands, in one batch
+     * <p>
+     * each pile receives its cards turned face up/down by its own rules; the
+     * piles aren't sorted
+     *
+     * @param cardsPerHand
+     *     the number of cards each pile receives
+     * @param targets
+     *     the piles to deal to, in dealing order
+     * @param pattern
+     *     the order in which the cards are handed out
+     *
+     * @return this stock (fluent)
+     *
+     * @throws NoCardsException
+     *     if the stock doesn't hold enough cards - no cards are dealt
+     *
+     * @since 2.3
+     */
+    public Stock deal( final int cardsPerHand,
+                       final List<? extends Pile> targets,
+                       final DealPattern pattern ) throws NoCardsException
+        {
+
+        dealTo( cardsPerHand, targets, pattern ) ;
+
+        return this ;
+
+        }  // end deal()
+
+
     /**
      * turn the top card face-up
      */
@@ -133,7 +194,7 @@ public final class Stock extends Pile
 
         if ( super.cards.isEmpty() )
             {
-            throw new NoCardsException() ;
+            throw NoCardsException.emptyPile() ;
             }
 
         getTopCard().reveal() ;
@@ -141,6 +202,23 @@ public final class Stock extends Pile
         }  // end revealTopCard()
 
 
+    /**
+     * Pick the top card from the deck, if any
+     * <p>
+     * for callers which expect the stock to run out - nothing is thrown
+     *
+     * @return the top card or {@code null} if the stock is empty
+     *
+     * @since 2.4
+     */
+    public Card tryDraw()
+        {
+
+        return tryRemoveTopCard() ;
+
+        }  // end tryDraw()
+
+
     /*
      * private utility methods
      */
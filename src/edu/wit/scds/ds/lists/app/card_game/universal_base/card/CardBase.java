@@ -67,6 +67,24 @@ import java.util.Objects ;
  *     {@code CardBase} - less of a mouthful
  * @version 3.1 2025-11-11 add {get,set}FaceUpTextLocked()
  * @version 3.2 2025-11-19 add template card support
+ * @version 3.3 2026-10-17
+ *     <ul>
+ *     <li>add {@code getIdentity()} and {@code equalityUsesIdentity()} so
+ *     piles can locate cards by comparing small integers
+ *     <li>share the decoration arrays rather than copying them into every
+ *     instance
+ *     </ul>
+ * @version 3.4 2026-10-17 add {@code matchesIdentity()} so piles which count
+ *     their cards by identity can answer {@code matchCount()} from the counts
+ * @version 3.5 2026-10-17 add {@code toString( Orientation )} so a pile can
+ *     render its cards as it would show them without turning them over
+ * @version 3.6 2026-10-17 add {@code getSortKey()} so piles can sort by
+ *     counting rather than comparing
+ * @version 3.7 2026-10-17 add {@code orderingChanged()} and
+ *     {@code getOrderingGeneration()} so piles which keep their cards in order
+ *     know when to re-sort
+ * @version 3.8 2026-10-17 add lookup-only cards, which can't be changed or
+ *     added to a pile ({@code makeLookupOnly()}, {@code isLookupOnly()})
  */
 public abstract class CardBase implements Comparable<CardBase>
     {
@@ -118,6 +136,22 @@ public abstract class CardBase implements Comparable<CardBase>
      */
     protected static final String[] DEFAULT_UNKNOWN_DECORATION = { "??", "??" } ;
 
+    /**
+     * returned by {@code getIdentity()} for cards which don't have a compact
+     * identity
+     *
+     * @since 3.3
+     */
+    public static final int NO_IDENTITY = -1 ;
+
+    /**
+     * returned by {@code getSortKey()} for cards which must be sorted by
+     * comparison
+     *
+     * @since 3.6
+     */
+    public static final int NO_SORT_KEY = -1 ;
+
 
     /*
      * static fields
@@ -182,6 +216,14 @@ public abstract class CardBase implements Comparable<CardBase>
     protected static EnabledDisabled includeDecoration = EnabledDisabled.ENABLED ;
 
 
+    /**
+     * incremented each time a setting which affects how cards order changes
+     *
+     * @since 3.7
+     */
+    private static int orderingGeneration = 0 ;
+
+
     /*
      * data fields
      */
@@ -199,13 +241,25 @@ public abstract class CardBase implements Comparable<CardBase>
     /** control display - face up/down */
     protected Orientation orientation ;
 
+    /**
+     * {@code true} if the card is only for finding/matching cards - it can't be
+     * changed or added to a pile
+     *
+     * @since 3.8
+     */
+    private boolean lookupOnly ;
+
     /**
      * permanent, template (used during deck instantiation), temporary (used for
      * lookup/matching)
      */
     private final Persistence persistence ;
 
-    /** decoration applied before/after the face text */
+    /**
+     * decoration applied before/after the face text - shared by all cards
+     * instantiated with the same persistence and decoration settings, never
+     * modified
+     */
     private final String[] decoration ;
 
     /*
@@ -250,8 +304,7 @@ public abstract class CardBase implements Comparable<CardBase>
 
         this.persistence = cardPersistence ;
 
-        this.decoration = new String[ DEFAULT_UNKNOWN_DECORATION.length ] ;
-        setDecoration() ;
+        this.decoration = decorationFor( cardPersistence ) ;
 
         }   // end 1-arg constructor w/ persistence
 
@@ -305,8 +358,7 @@ public abstract class CardBase implements Comparable<CardBase>
 
         this.persistence = cardPersistence ;
 
-        this.decoration = new String[ DEFAULT_UNKNOWN_DECORATION.length ] ;
-        setDecoration() ;
+        this.decoration = decorationFor( cardPersistence ) ;
 
         }   // end cloning constructor
 
@@ -316,6 +368,28 @@ public abstract class CardBase implements Comparable<CardBase>
      */
 
 
+    /**
+     * report whether {@code equals()} currently reduces to comparing
+     * identities, that is, whether two cards of the same class with the same
+     * non-negative {@code getIdentity()} are guaranteed to be equal and two
+     * with different identities are guaranteed not to be
+     * <p>
+     * Note: this implementation returns {@code false}; subclasses which
+     * override {@code getIdentity()} should override this as well
+     *
+     * @return {@code true} if identities may be compared in place of
+     *     {@code equals()}, {@code false} otherwise
+     *
+     * @since 3.3
+     */
+    public boolean equalityUsesIdentity()
+        {
+
+        return false ;
+
+        }   // end equalityUsesIdentity()
+
+
     /**
      * Flip a card over
      *
@@ -324,6 +398,8 @@ public abstract class CardBase implements Comparable<CardBase>
     public CardBase flip()
         {
 
+        checkChangeable() ;
+
         this.orientation = this.orientation.flip() ;
 
         return this ;
@@ -402,6 +478,69 @@ public abstract class CardBase implements Comparable<CardBase>
         }  // end getFaceDownText()
 
 
+    /**
+     * retrieve a compact identifier for this card's face value
+     * <p>
+     * cards of the same class with the same face (e.g., the two of hearts from
+     * two different decks) share an identity. Identities are small,
+     * non-negative, and dense so they can be used as array indices.
+     * <p>
+     * Note: this implementation returns {@link #NO_IDENTITY}; subclasses
+     * which can enumerate their faces should override it
+     *
+     * @return this card's identity or {@code NO_IDENTITY}
+     *
+     * @since 3.3
+     */
+    public int getIdentity()
+        {
+
+        return NO_IDENTITY ;
+
+        }   // end getIdentity()
+
+
+    /**
+     * retrieve a small integer which orders this card as {@code compareTo()}
+     * currently would
+     * <p>
+     * for two cards of the same class which both have a sort key,
+     * {@code a.compareTo( b )} has the same sign as
+     * {@code a.getSortKey() - b.getSortKey()}. Keys are small and non-negative
+     * so piles can sort cards by counting them.
+     * <p>
+     * Note: this implementation returns {@link #NO_SORT_KEY}; subclasses with
+     * few distinct orderings should override it
+     *
+     * @return this card's sort key or {@code NO_SORT_KEY}
+     *
+     * @since 3.6
+     */
+    public int getSortKey()
+        {
+
+        return NO_SORT_KEY ;
+
+        }   // end getSortKey()
+
+
+    /**
+     * retrieve a number which changes each time a setting which affects how
+     * cards order changes - a pile which keeps its cards in order compares it
+     * with the number it last sorted under to tell if it must re-sort
+     *
+     * @return the current ordering generation
+     *
+     * @since 3.7
+     */
+    public static int getOrderingGeneration()
+        {
+
+        return orderingGeneration ;
+
+        }   // end getOrderingGeneration()
+
+
     /**
      * Retrieve a card's orientation (face up/down)
      *
@@ -486,6 +625,8 @@ public abstract class CardBase implements Comparable<CardBase>
     public CardBase hide()
         {
 
+        checkChangeable() ;
+
         this.orientation = FACE_DOWN ;
 
         return this ;
@@ -493,6 +634,22 @@ public abstract class CardBase implements Comparable<CardBase>
         }  // end hide()
 
 
+    /**
+     * determine if this card is only for finding/matching cards
+     *
+     * @return {@code true} if the card can't be changed or added to a pile,
+     *     {@code false} otherwise
+     *
+     * @since 3.8
+     */
+    public boolean isLookupOnly()
+        {
+
+        return this.lookupOnly ;
+
+        }   // end isLookupOnly()
+
+
     /**
      * Compare two cards to see if they match, which may be different from them
      * being {@code equal()}
@@ -519,6 +676,54 @@ public abstract class CardBase implements Comparable<CardBase>
         }  // end matches()
 
 
+    /**
+     * determine whether this card matches (see {@code matches()}) a card of the
+     * same class with the specified identity, without needing that card
+     * <p>
+     * Note: this implementation is only able to answer when
+     * {@code equalityUsesIdentity()}; subclasses which override
+     * {@code getIdentity()} and {@code matches()} should override this as well
+     *
+     * @param identity
+     *     a valid identity for this class of card
+     *
+     * @return {@code true} if this card matches a card with that identity,
+     *     {@code false} otherwise
+     *
+     * @throws UnsupportedOperationException
+     *     if matching can't be determined from an identity
+     *
+     * @since 3.4
+     */
+    public boolean matchesIdentity( final int identity ) throws UnsupportedOperationException
+        {
+
+        if ( !equalityUsesIdentity() || ( getIdentity() == NO_IDENTITY ) )
+            {
+            throw new UnsupportedOperationException( String.format( "%s can't match by identity",
+                                                                    this.getClass().getSimpleName() ) ) ;
+            }
+
+        return identity == getIdentity() ;
+
+        }  // end matchesIdentity()
+
+
+    /**
+     * record that {@code compareTo()}, or a comparator a pile orders its cards
+     * by, may now order cards differently - piles which keep their cards in
+     * order will re-sort before relying on it
+     *
+     * @since 3.7
+     */
+    public static void orderingChanged()
+        {
+
+        CardBase.orderingGeneration++ ;
+
+        }   // end orderingChanged()
+
+
     /**
      * reset the default text to display when the card is face down to the
      * system default
@@ -586,6 +791,8 @@ public abstract class CardBase implements Comparable<CardBase>
     public CardBase resetFaceDownText()
         {
 
+        checkChangeable() ;
+
         this.faceDownText = defaultFaceDownText ;
 
         return this ;
@@ -601,6 +808,8 @@ public abstract class CardBase implements Comparable<CardBase>
     public CardBase resetOrientation()
         {
 
+        checkChangeable() ;
+
         this.orientation = defaultOrientation ;
 
         return this ;
@@ -616,6 +825,8 @@ public abstract class CardBase implements Comparable<CardBase>
     public CardBase reveal()
         {
 
+        checkChangeable() ;
+
         this.orientation = FACE_UP ;
 
         return this ;
@@ -759,6 +970,8 @@ public abstract class CardBase implements Comparable<CardBase>
 
         Objects.requireNonNull( newFaceDownText, "newFaceDownText" ) ;
 
+        checkChangeable() ;
+
         this.faceDownText = newFaceDownText ;
 
         return this ;
@@ -827,6 +1040,8 @@ public abstract class CardBase implements Comparable<CardBase>
 
         Objects.requireNonNull( newOrientation, "newOrientation" ) ;
 
+        checkChangeable() ;
+
         // only FACE_UP and FACE_DOWN are defined for cards
         if ( ( newOrientation != FACE_UP ) && ( newOrientation != FACE_DOWN ) )
             {
@@ -994,18 +1209,41 @@ public abstract class CardBase implements Comparable<CardBase>
     public String toString()
         {
 
+        return toString( this.orientation ) ;
+
+        }   // end toString()
+
+
+    /**
+     * render the card as though it had the specified orientation - the card's
+     * orientation is unchanged
+     *
+     * @param asIf
+     *     the orientation to render - {@code AS_IS} uses the card's own
+     *
+     * @return the text {@code toString()} would return for that orientation
+     *
+     * @since 3.5
+     */
+    public String toString( final Orientation asIf )
+        {
+
+        final Orientation shown = asIf == Orientation.AS_IS
+                ? this.orientation
+                : asIf ;
+
         return String.format( "%s%s%s",
                               includeDecoration == EnabledDisabled.ENABLED
                                       ? this.decoration[ 0 ]
                                       : "",
-                              this.orientation == FACE_UP
+                              shown == FACE_UP
                                       ? this.faceUpText
                                       : this.faceDownText,
                               includeDecoration == EnabledDisabled.ENABLED
                                       ? this.decoration[ 1 ]
                                       : "" ) ;
 
-        }   // end toString()
+        }   // end toString() as if oriented
 
 
     /*
@@ -1027,12 +1265,40 @@ public abstract class CardBase implements Comparable<CardBase>
 
 
     /**
-     * set the decoration according to the persistence
+     * make sure this card may be changed
+     *
+     * @throws UnsupportedOperationException
+     *     if the card is lookup-only
+     *
+     * @since 3.8
      */
-    private void setDecoration()
+    private void checkChangeable() throws UnsupportedOperationException
         {
 
-        System.arraycopy( switch ( this.persistence )
+        if ( this.lookupOnly )
+            {
+            throw new UnsupportedOperationException( String.format( "lookup card %s can't be changed",
+                                                                    this.faceUpText ) ) ;
+            }
+
+        }   // end checkChangeable()
+
+
+    /**
+     * select the decoration according to the persistence
+     * <p>
+     * the {@code set...Decoration()} methods always replace the default arrays
+     * rather than modifying them so cards can safely share them
+     *
+     * @param cardPersistence
+     *     the card's persistence
+     *
+     * @return the current default decoration for that persistence
+     */
+    private static String[] decorationFor( final Persistence cardPersistence )
+        {
+
+        return switch ( cardPersistence )
             {
             case Persistence.PERMANENT
                 -> defaultPermanentCardDecoration ;
@@ -1041,10 +1307,28 @@ public abstract class CardBase implements Comparable<CardBase>
             case Persistence.TEMPORARY
                 -> defaultTemporaryCardDecoration ;
             default
-                -> throw new IllegalStateException( this.persistence.toString() ) ;
-            }, 0, this.decoration, 0, this.decoration.length ) ;
+                -> throw new IllegalStateException( cardPersistence.toString() ) ;
+            } ;
+
+        }   // end decorationFor()
+
+
+    /**
+     * make this card lookup-only: from now on it can't be changed or added to
+     * a pile - for instances shared by every lookup
+     *
+     * @return this card (fluent)
+     *
+     * @since 3.8
+     */
+    protected CardBase makeLookupOnly()
+        {
+
+        this.lookupOnly = true ;
+
+        return this ;
 
-        }   // end setDecoration()
+        }   // end makeLookupOnly()
 
 
     /**
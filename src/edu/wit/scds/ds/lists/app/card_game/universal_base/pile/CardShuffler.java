@@ -0,0 +1,234 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
+import java.util.List ;
+import java.util.ListIterator ;
+import java.util.Objects ;
+import java.util.RandomAccess ;
+import java.util.random.RandomGenerator ;
+import java.util.random.RandomGeneratorFactory ;
+
+
+/**
+ * Shuffle engine used by {@link PileBase#shuffle()} and the
+ * {@link PileStorage} implementations
+ * <p>
+ * every shuffle takes its randomness from a caller-supplied
+ * {@link RandomGenerator} so a game can select the algorithm (e.g.
+ * {@code L64X128MixRandom}, {@code SplittableRandom}) and, by seeding it,
+ * reproduce a shuffle exactly. Shuffles are Fisher-Yates, performed in place
+ * on array storage.
+ * <p>
+ * a partial shuffle randomizes only the first {@code count} positions: they
+ * receive a uniformly random selection, in uniformly random order, of all the
+ * cards - exactly what a full shuffle would have put there - while the rest of
+ * the cards are left in an unspecified order. Dealing {@code count} cards from
+ * the top of a partially shuffled pile is indistinguishable from dealing from
+ * a fully shuffled one, and costs O(count) rather than O(n).
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class CardShuffler
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** the algorithm used for seeded shuffles */
+    public final static String SEEDED_ALGORITHM = "L64X128MixRandom" ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * prevent instantiation
+     */
+    private CardShuffler()
+        {
+        // can't instantiate outside of this class
+
+        }   // end no-arg constructor
+
+
+    /*
+     * utility methods
+     */
+
+
+    /**
+     * create a generator which will produce the same sequence, and therefore
+     * the same shuffles, every time it's created with the same seed
+     *
+     * @param seed
+     *     the seed
+     *
+     * @return a new {@code SEEDED_ALGORITHM} generator
+     */
+    public static RandomGenerator seeded( final long seed )
+        {
+
+        return RandomGeneratorFactory.of( SEEDED_ALGORITHM ).create( seed ) ;
+
+        }   // end seeded()
+
+
+    /**
+     * shuffle the first {@code count} positions of a list of cards
+     * <p>
+     * random access lists are shuffled in place; others are copied to an
+     * array, shuffled, and written back in a single pass
+     *
+     * @param cards
+     *     the cards to shuffle
+     * @param count
+     *     the number of positions, from position 0, to randomize - any value
+     *     at least {@code cards.size() - 1} shuffles the entire list
+     * @param random
+     *     the source of randomness
+     */
+    public static void shuffle( final List<CardBase> cards,
+                                final int count,
+                                final RandomGenerator random )
+        {
+
+        Objects.requireNonNull( random, "random" ) ;
+
+        final int size = cards.size() ;
+        final int limit = positionsToShuffle( size, count ) ;
+
+        if ( cards instanceof RandomAccess )
+            {
+
+            for ( int i = 0 ; i < limit ; i++ )
+                {
+                final int j = random.nextInt( i, size ) ;
+
+                if ( j != i )
+                    {
+                    cards.set( i, cards.set( j, cards.get( i ) ) ) ;
+                    }
+
+                }
+
+            return ;
+            }
+
+        final CardBase[] shuffled = cards.toArray( new CardBase[ size ] ) ;
+
+        shuffle( shuffled, size, count, random ) ;
+
+        final ListIterator<CardBase> cardIterator = cards.listIterator() ;
+
+        for ( final CardBase card : shuffled )
+            {
+            cardIterator.next() ;
+            cardIterator.set( card ) ;
+            }
+
+        }   // end shuffle() for a list
+
+
+    /**
+     * shuffle the first {@code count} positions of an array
+     *
+     * @param <T>
+     *     the type of the elements
+     * @param elements
+     *     the elements to shuffle - positions 0 through {@code length - 1} are
+     *     in use
+     * @param length
+     *     the number of elements in use
+     * @param count
+     *     the number of positions, from position 0, to randomize - any value
+     *     at least {@code length - 1} shuffles all the elements
+     * @param random
+     *     the source of randomness
+     */
+    public static <T> void shuffle( final T[] elements,
+                                    final int length,
+                                    final int count,
+                                    final RandomGenerator random )
+        {
+
+        Objects.requireNonNull( random, "random" ) ;
+
+        final int limit = positionsToShuffle( length, count ) ;
+
+        for ( int i = 0 ; i < limit ; i++ )
+            {
+            final int j = random.nextInt( i, length ) ;
+
+            final T swap = elements[ i ] ;
+            elements[ i ] = elements[ j ] ;
+            elements[ j ] = swap ;
+            }
+
+        }   // end shuffle() for an array
+
+
+    /**
+     * determine how many positions a Fisher-Yates pass must visit
+     *
+     * @param size
+     *     the number of elements
+     * @param count
+     *     the number of positions requested
+     *
+     * @return the number of positions to visit - the last position never
+     *     needs to be
+     *
+     * @throws IllegalArgumentException
+     *     if {@code count} is negative
+     */
+    static int positionsToShuffle( final int size,
+                                   final int count )
+        {
+
+        if ( count < 0 )
+            {
+            throw new IllegalArgumentException( "count must be non-negative, was " + count ) ;
+            }
+
+        return Math.min( count, size - 1 ) ;
+
+        }   // end positionsToShuffle()
+
+    }   // end class CardShuffler
\ No newline at end of file
@@ -0,0 +1,140 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+/**
+ * The order in which cards dealt from a pile are handed out to several target
+ * piles
+ * <p>
+ * cards are numbered in the order they're taken from the top of the source
+ * pile; each target receives its cards in that order, at its bottom
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public enum DealPattern
+    {
+
+    // @formatter:off
+
+    /** one card to each target in turn, repeated until every target is full */
+    ROUND_ROBIN ( "Round robin" )
+
+    , /** all of the first target's cards, then all of the next target's, ... */
+    BLOCK ( "Block" )
+
+    ;
+    // @formatter:on
+
+
+    /*
+     * data fields
+     */
+
+
+    /** 'pretty' (capitalized) form of the pattern name */
+    private final String displayName ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * constructor
+     *
+     * @param theDisplayName
+     *     'pretty' (capitalized) form of the pattern's name
+     */
+    private DealPattern( final String theDisplayName )
+        {
+
+        this.displayName = theDisplayName ;
+
+        }   // end constructor
+
+
+    /*
+     * public methods
+     */
+
+
+    /**
+     * retrieve the display name
+     *
+     * @return the 'pretty' name
+     */
+    public String getDisplayName()
+        {
+
+        return this.displayName ;
+
+        }   // end getDisplayName()
+
+
+    /**
+     * determine which target receives a dealt card
+     *
+     * @param cardNumber
+     *     the card's position among all the cards dealt (0 is the first card
+     *     taken from the top)
+     * @param targetCount
+     *     the number of targets
+     * @param cardsPerTarget
+     *     the number of cards each target receives
+     *
+     * @return the index of the target which receives the card
+     */
+    public int targetOf( final int cardNumber,
+                         final int targetCount,
+                         final int cardsPerTarget )
+        {
+
+        return switch ( this )
+            {
+            case ROUND_ROBIN -> cardNumber % targetCount ;
+            case BLOCK -> cardNumber / cardsPerTarget ;
+            } ;
+
+        }   // end targetOf()
+
+
+    @Override
+    public String toString()
+        {
+
+        return this.displayName ;
+
+        }   // end toString()
+
+    }   // end enum DealPattern
\ No newline at end of file
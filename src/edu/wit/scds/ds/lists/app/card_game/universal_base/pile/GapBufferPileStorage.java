@@ -0,0 +1,498 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
+import java.util.AbstractList ;
+import java.util.Arrays ;
+import java.util.BitSet ;
+import java.util.Collection ;
+import java.util.Comparator ;
+import java.util.Objects ;
+import java.util.RandomAccess ;
+import java.util.function.Predicate ;
+
+
+/**
+ * Growable array with a movable gap holding the cards in a pile
+ * <p>
+ * the cards occupy {@code [0, gapStart)} and {@code [gapEnd, length)}; the
+ * unused slots sit between them. Each insertion or removal first moves the gap
+ * to the affected position, so a run of edits at or near the same position -
+ * typical when a player arranges a hand - costs O(1) each after the first.
+ * Positional access is always O(1).
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 remove all matching cards in a single compacting pass
+ */
+public final class GapBufferPileStorage extends AbstractList<CardBase> implements PileStorage, RandomAccess
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** initial number of slots */
+    private final static int DEFAULT_INITIAL_CAPACITY = 16 ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** the slots */
+    private CardBase[] elements ;
+
+    /** the first unused slot - also the position the gap is at */
+    private int gapStart ;
+
+    /** the first slot after the gap */
+    private int gapEnd ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize an empty buffer with the default capacity
+     */
+    public GapBufferPileStorage()
+        {
+
+        this.elements = new CardBase[ DEFAULT_INITIAL_CAPACITY ] ;
+        this.gapStart = 0 ;
+        this.gapEnd = DEFAULT_INITIAL_CAPACITY ;
+
+        }   // end no-arg constructor
+
+
+    /*
+     * List methods
+     */
+
+
+    @Override
+    public void add( final int position,
+                     final CardBase newCard )
+        {
+
+        checkPositionForAdd( position ) ;
+
+        ensureGap( 1 ) ;
+        moveGapTo( position ) ;
+
+        this.elements[ this.gapStart++ ] = newCard ;
+        this.modCount++ ;
+
+        }   // end add()
+
+
+    @Override
+    public boolean addAll( final Collection<? extends CardBase> newCards )
+        {
+
+        return addAll( size(), newCards ) ;
+
+        }   // end addAll()
+
+
+    @Override
+    public boolean addAll( final int position,
+                           final Collection<? extends CardBase> newCards )
+        {
+
+        checkPositionForAdd( position ) ;
+
+        final Object[] toAdd = newCards.toArray() ;
+        final int count = toAdd.length ;
+
+        if ( count == 0 )
+            {
+            return false ;
+            }
+
+        ensureGap( count ) ;
+        moveGapTo( position ) ;
+
+        for ( final Object newCard : toAdd )
+            {
+            this.elements[ this.gapStart++ ] = (CardBase) newCard ;
+            }
+
+        this.modCount++ ;
+
+        return true ;
+
+        }   // end addAll() at position
+
+
+    @Override
+    public void clear()
+        {
+
+        Arrays.fill( this.elements, 0, this.gapStart, null ) ;
+        Arrays.fill( this.elements, this.gapEnd, this.elements.length, null ) ;
+
+        this.gapStart = 0 ;
+        this.gapEnd = this.elements.length ;
+        this.modCount++ ;
+
+        }   // end clear()
+
+
+    @Override
+    public CardBase get( final int position )
+        {
+
+        Objects.checkIndex( position, size() ) ;
+
+        return this.elements[ slot( position ) ] ;
+
+        }   // end get()
+
+
+    @Override
+    public CardBase remove( final int position )
+        {
+
+        Objects.checkIndex( position, size() ) ;
+
+        moveGapTo( position ) ;
+
+        // the card is now immediately after the gap - absorb it
+        final CardBase removedCard = this.elements[ this.gapEnd ] ;
+
+        this.elements[ this.gapEnd++ ] = null ;
+        this.modCount++ ;
+
+        return removedCard ;
+
+        }   // end remove()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * moves the gap to the end, tests each card once, top first, before
+     * removing any, then slides the remaining cards over the removed ones in a
+     * single pass - O(n) however many cards are removed
+     */
+    @Override
+    public boolean removeIf( final Predicate<? super CardBase> filter )
+        {
+
+        Objects.requireNonNull( filter, "filter" ) ;
+
+        moveGapTo( size() ) ;
+
+        // assertion: the cards occupy [0, gapStart)
+
+        // find the first card to remove - often there are none
+        int first = 0 ;
+
+        while ( ( first < this.gapStart ) && !filter.test( this.elements[ first ] ) )
+            {
+            first++ ;
+            }
+
+        if ( first == this.gapStart )
+            {
+            return false ;
+            }
+
+        // note the rest of the cards to remove before changing anything
+        final BitSet toRemove = new BitSet( this.gapStart - first ) ;
+
+        for ( int i = first + 1 ; i < this.gapStart ; i++ )
+            {
+
+            if ( filter.test( this.elements[ i ] ) )
+                {
+                toRemove.set( i - first ) ;
+                }
+
+            }
+
+        // slide the cards we're keeping toward the top
+        int kept = first ;
+
+        for ( int i = first + 1 ; i < this.gapStart ; i++ )
+            {
+
+            if ( !toRemove.get( i - first ) )
+                {
+                this.elements[ kept++ ] = this.elements[ i ] ;
+                }
+
+            }
+
+        Arrays.fill( this.elements, kept, this.gapStart, null ) ;
+
+        this.gapStart = kept ;
+        this.modCount++ ;
+
+        return true ;
+
+        }   // end removeIf()
+
+
+    @Override
+    public CardBase set( final int position,
+                         final CardBase replacementCard )
+        {
+
+        Objects.checkIndex( position, size() ) ;
+
+        final int index = slot( position ) ;
+        final CardBase replacedCard = this.elements[ index ] ;
+
+        this.elements[ index ] = replacementCard ;
+
+        return replacedCard ;
+
+        }   // end set()
+
+
+    @Override
+    public int size()
+        {
+
+        return this.elements.length - ( this.gapEnd - this.gapStart ) ;
+
+        }   // end size()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * sorts in place - the gap is moved to the end first so the cards form a
+     * single contiguous run
+     */
+    @Override
+    public void sort( final Comparator<? super CardBase> comparator )
+        {
+
+        moveGapTo( size() ) ;
+
+        Arrays.sort( this.elements, 0, this.gapStart, comparator ) ;
+
+        this.modCount++ ;
+
+        }   // end sort()
+
+
+    @Override
+    public Object[] toArray()
+        {
+
+        final int afterGap = this.elements.length - this.gapEnd ;
+        final Object[] copy = new Object[ this.gapStart + afterGap ] ;
+
+        System.arraycopy( this.elements, 0, copy, 0, this.gapStart ) ;
+        System.arraycopy( this.elements, this.gapEnd, copy, this.gapStart, afterGap ) ;
+
+        return copy ;
+
+        }   // end toArray()
+
+
+    /*
+     * protected methods
+     */
+
+
+    @Override
+    protected void removeRange( final int fromPosition,
+                                final int toPosition )
+        {
+
+        if ( ( fromPosition < 0 ) || ( toPosition > size() ) || ( fromPosition > toPosition ) )
+            {
+            throw new IndexOutOfBoundsException( String.format( "range [%,d, %,d) of %,d",
+                                                                fromPosition,
+                                                                toPosition,
+                                                                size() ) ) ;
+            }
+
+        if ( fromPosition == toPosition )
+            {
+            return ;
+            }
+
+        moveGapTo( fromPosition ) ;
+
+        final int newGapEnd = this.gapEnd + ( toPosition - fromPosition ) ;
+
+        Arrays.fill( this.elements, this.gapEnd, newGapEnd, null ) ;
+
+        this.gapEnd = newGapEnd ;
+        this.modCount++ ;
+
+        }   // end removeRange()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * ensure a position is valid for an insertion
+     *
+     * @param position
+     *     the position to check
+     *
+     * @throws IndexOutOfBoundsException
+     *     if the position is negative or greater than the number of cards
+     */
+    private void checkPositionForAdd( final int position ) throws IndexOutOfBoundsException
+        {
+
+        if ( ( position < 0 ) || ( position > size() ) )
+            {
+            throw new IndexOutOfBoundsException( String.format( "position: %,d, size: %,d",
+                                                                position,
+                                                                size() ) ) ;
+            }
+
+        }   // end checkPositionForAdd()
+
+
+    /**
+     * grow the buffer, if necessary, so the gap holds at least
+     * {@code minimumGap} slots
+     *
+     * @param minimumGap
+     *     the number of cards about to be inserted
+     */
+    private void ensureGap( final int minimumGap )
+        {
+
+        final int currentGap = this.gapEnd - this.gapStart ;
+
+        if ( minimumGap <= currentGap )
+            {
+            return ;
+            }
+
+        final int cardCount = size() ;
+        int newCapacity = Math.max( this.elements.length, 1 ) ;
+
+        while ( ( newCapacity - cardCount ) < minimumGap )
+            {
+            newCapacity <<= 1 ;
+
+            if ( newCapacity <= 0 )
+                {
+                throw new IllegalStateException( "pile is too large" ) ;
+                }
+
+            }
+
+        final int afterGap = this.elements.length - this.gapEnd ;
+        final CardBase[] newElements = new CardBase[ newCapacity ] ;
+
+        System.arraycopy( this.elements, 0, newElements, 0, this.gapStart ) ;
+        System.arraycopy( this.elements,
+                          this.gapEnd,
+                          newElements,
+                          newCapacity - afterGap,
+                          afterGap ) ;
+
+        this.elements = newElements ;
+        this.gapEnd = newCapacity - afterGap ;
+
+        }   // end ensureGap()
+
+
+    /**
+     * slide cards across the gap so it starts at {@code position}
+     *
+     * @param position
+     *     a valid 0-based insertion position
+     */
+    private void moveGapTo( final int position )
+        {
+
+        if ( position < this.gapStart )
+            {
+            // move the cards in [position, gapStart) to just before gapEnd
+            final int count = this.gapStart - position ;
+
+            System.arraycopy( this.elements, position, this.elements, this.gapEnd - count, count ) ;
+            Arrays.fill( this.elements, position, Math.min( this.gapStart, this.gapEnd - count ), null ) ;
+
+            this.gapStart -= count ;
+            this.gapEnd -= count ;
+            }
+        else if ( position > this.gapStart )
+            {
+            // move the cards just after the gap to gapStart
+            final int count = position - this.gapStart ;
+
+            System.arraycopy( this.elements, this.gapEnd, this.elements, this.gapStart, count ) ;
+            Arrays.fill( this.elements,
+                         Math.max( this.gapEnd, this.gapStart + count ),
+                         this.gapEnd + count,
+                         null ) ;
+
+            this.gapStart += count ;
+            this.gapEnd += count ;
+            }
+
+        }   // end moveGapTo()
+
+
+    /**
+     * map a position in the pile to a slot in the array
+     *
+     * @param position
+     *     a valid 0-based position
+     *
+     * @return the corresponding slot
+     */
+    private int slot( final int position )
+        {
+
+        return position < this.gapStart
+                ? position
+                : position + ( this.gapEnd - this.gapStart ) ;
+
+        }   // end slot()
+
+    }   // end class GapBufferPileStorage
\ No newline at end of file
@@ -0,0 +1,1502 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase.NO_IDENTITY ;
+
+import java.util.AbstractSequentialList ;
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.Comparator ;
+import java.util.ConcurrentModificationException ;
+import java.util.List ;
+import java.util.ListIterator ;
+import java.util.NoSuchElementException ;
+import java.util.random.RandomGenerator ;
+
+
+/**
+ * Doubly-linked storage for the cards in a pile
+ * <p>
+ * the nodes form a ring through a sentinel: the sentinel's {@code next} is the
+ * top card (position 0) and its {@code previous} is the bottom card. Adding or
+ * removing at the top, the bottom, or an iterator's position is O(1);
+ * positional access walks from whichever end is closer.
+ * <p>
+ * optionally, the storage also indexes its cards by identity (see
+ * {@link CardBase#getIdentity()}): the nodes holding each identity are chained
+ * together, top to bottom, so the topmost card with an identity can be found
+ * and unlinked in O(1). Adding or removing at either end keeps the chains
+ * current; any other change (inserting mid-pile, replacing, reordering) just
+ * marks the index stale and the next lookup rebuilds it in a single pass, so
+ * lookups are O(1) amortized. Only the first class of card with an identity
+ * that is added is indexed; other cards are found by walking the pile.
+ * <p>
+ * an indexed storage also counts the cards with each identity. The counts are
+ * adjusted as each card is added, removed or replaced - reordering doesn't
+ * change them - so how many copies of a card the storage holds is known in
+ * O(1), and all of them can be removed in O(k) by following their chain.
+ * <p>
+ * moving every card from one {@code LinkedPileStorage} to another relinks the
+ * source's chain of nodes into the target in O(1) regardless of the number of
+ * cards.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 add the optional identity index
+ * @version 1.2 2026-10-17 splice whole storages in O(1)
+ * @version 1.3 2026-10-17 shuffle a copy of the cards then rewrite the nodes
+ * @version 1.4 2026-10-17 count the cards with each identity when indexed;
+ *     add {@code getAllWithIdentity()} and {@code removeAllWithIdentity()}
+ */
+public class LinkedPileStorage extends AbstractSequentialList<CardBase> implements PileStorage
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** initial number of chains in the index - enough for a standard deck */
+    private final static int DEFAULT_INDEX_CAPACITY = 64 ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** marks both ends of the ring - never holds a card */
+    private final Node sentinel ;
+
+    /** the number of cards currently stored */
+    private int size ;
+
+    /** {@code true} if this storage indexes its cards by identity */
+    private final boolean indexed ;
+
+    /** the topmost node holding each identity - {@code null} if not indexed */
+    private Node[] firstWithIdentity ;
+
+    /** the bottommost node holding each identity - {@code null} if not indexed */
+    private Node[] lastWithIdentity ;
+
+    /** the class of card the index describes - set by the first one added */
+    private Class<? extends CardBase> indexedClass ;
+
+    /** {@code true} if the chains no longer reflect the order of the cards */
+    private boolean indexStale ;
+
+    /**
+     * the number of cards of the indexed class with each identity -
+     * {@code null} if not indexed
+     */
+    private int[] countWithIdentity ;
+
+    /** the number of cards the counts don't describe */
+    private int uncountedCount ;
+
+    /**
+     * {@code true} if the counts must be recomputed - cards were spliced in
+     * from a storage which didn't count them
+     */
+    private boolean countsStale ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize an empty list of cards which isn't indexed
+     */
+    public LinkedPileStorage()
+        {
+
+        this( false ) ;
+
+        }   // end no-arg constructor
+
+
+    /**
+     * Initialize an empty list of cards, optionally indexed by identity
+     *
+     * @param indexByIdentity
+     *     {@code true} to maintain the identity index
+     *
+     * @since 1.1
+     */
+    public LinkedPileStorage( final boolean indexByIdentity )
+        {
+
+        this.sentinel = new Node( null ) ;
+        this.sentinel.next = this.sentinel ;
+        this.sentinel.previous = this.sentinel ;
+
+        this.size = 0 ;
+
+        this.indexed = indexByIdentity ;
+        resetIndex() ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * identity lookup
+     */
+
+
+    /**
+     * determine whether this storage maintains the identity index
+     *
+     * @return {@code true} if lookups by identity are O(1) amortized
+     *
+     * @since 1.1
+     */
+    public boolean isIndexed()
+        {
+
+        return this.indexed ;
+
+        }   // end isIndexed()
+
+
+    /**
+     * retrieve the topmost card with an identity and class
+     *
+     * @param identity
+     *     the identity to look for
+     * @param cardClass
+     *     the class of card to look for
+     *
+     * @return the card or {@code null} if there isn't one
+     *
+     * @since 1.1
+     */
+    public CardBase getFirstWithIdentity( final int identity,
+                                          final Class<? extends CardBase> cardClass )
+        {
+
+        final Node found = firstNodeWithIdentity( identity, cardClass ) ;
+
+        return found == null
+                ? null
+                : found.card ;
+
+        }   // end getFirstWithIdentity()
+
+
+    /**
+     * remove the topmost card with an identity and class
+     *
+     * @param identity
+     *     the identity to look for
+     * @param cardClass
+     *     the class of card to look for
+     *
+     * @return the card or {@code null} if there isn't one
+     *
+     * @since 1.1
+     */
+    public CardBase removeFirstWithIdentity( final int identity,
+                                             final Class<? extends CardBase> cardClass )
+        {
+
+        final Node found = firstNodeWithIdentity( identity, cardClass ) ;
+
+        return found == null
+                ? null
+                : unlink( found ) ;
+
+        }   // end removeFirstWithIdentity()
+
+
+    /**
+     * retrieve every card with an identity and class, top to bottom
+     * <p>
+     * O(k) for k cards when the class is indexed
+     *
+     * @param identity
+     *     the identity to look for
+     * @param cardClass
+     *     the class of card to look for
+     *
+     * @return the cards - empty if there aren't any
+     *
+     * @since 1.4
+     */
+    public List<CardBase> getAllWithIdentity( final int identity,
+                                              final Class<? extends CardBase> cardClass )
+        {
+
+        final List<CardBase> found = new ArrayList<>() ;
+
+        for ( Node current = firstNodeWithIdentity( identity, cardClass ) ;
+              current != null ;
+              current = nextNodeWithIdentity( current, identity, cardClass ) )
+            {
+            found.add( current.card ) ;
+            }
+
+        return found ;
+
+        }   // end getAllWithIdentity()
+
+
+    /**
+     * remove every card with an identity and class
+     * <p>
+     * O(k) for k cards when the class is indexed
+     *
+     * @param identity
+     *     the identity to look for
+     * @param cardClass
+     *     the class of card to look for
+     *
+     * @return the number of cards removed
+     *
+     * @since 1.4
+     */
+    public int removeAllWithIdentity( final int identity,
+                                      final Class<? extends CardBase> cardClass )
+        {
+
+        int removedCount = 0 ;
+        Node current = firstNodeWithIdentity( identity, cardClass ) ;
+
+        while ( current != null )
+            {
+            // find the next one before this one is unlinked
+            final Node following = nextNodeWithIdentity( current, identity, cardClass ) ;
+
+            unlink( current ) ;
+            removedCount++ ;
+
+            current = following ;
+            }
+
+        return removedCount ;
+
+        }   // end removeAllWithIdentity()
+
+
+    /*
+     * identity counts
+     */
+
+
+    /**
+     * determine whether every card in the storage is reflected in the counts
+     *
+     * @return {@code true} if {@code countOf()} accounts for every card -
+     *     always {@code false} if the storage isn't indexed
+     *
+     * @since 1.4
+     */
+    public boolean allCardsCounted()
+        {
+
+        if ( !this.indexed )
+            {
+            return false ;
+            }
+
+        refreshCounts() ;
+
+        return this.uncountedCount == 0 ;
+
+        }   // end allCardsCounted()
+
+
+    /**
+     * retrieve the number of cards with an identity
+     *
+     * @param identity
+     *     a card identity
+     *
+     * @return the number of cards of the indexed class with that identity -
+     *     always 0 if the storage isn't indexed
+     *
+     * @since 1.4
+     */
+    public int countOf( final int identity )
+        {
+
+        if ( !this.indexed )
+            {
+            return 0 ;
+            }
+
+        refreshCounts() ;
+
+        return ( identity >= 0 ) && ( identity < this.countWithIdentity.length )
+                ? this.countWithIdentity[ identity ]
+                : 0 ;
+
+        }   // end countOf()
+
+
+    /**
+     * retrieve the number of counters - every counted identity is less than
+     * this
+     *
+     * @return the number of counters - 0 if the storage isn't indexed
+     *
+     * @since 1.4
+     */
+    public int counterCount()
+        {
+
+        return this.indexed
+                ? this.countWithIdentity.length
+                : 0 ;
+
+        }   // end counterCount()
+
+
+    /**
+     * determine whether a card is of the class the counts describe
+     *
+     * @param card
+     *     the card to check
+     *
+     * @return {@code true} if the storage is indexed and the card has an
+     *     identity and is of the indexed class
+     *
+     * @since 1.4
+     */
+    public boolean isCounted( final CardBase card )
+        {
+
+        if ( !this.indexed )
+            {
+            return false ;
+            }
+
+        refreshCounts() ;
+
+        return ( card != null )
+               && ( card.getIdentity() != NO_IDENTITY )
+               && ( card.getClass() == this.indexedClass ) ;
+
+        }   // end isCounted()
+
+
+    /*
+     * List methods
+     */
+
+
+    @Override
+    public void addFirst( final CardBase newCard )
+        {
+
+        linkBefore( this.sentinel.next, newCard ) ;
+
+        }   // end addFirst()
+
+
+    @Override
+    public void addLast( final CardBase newCard )
+        {
+
+        linkBefore( this.sentinel, newCard ) ;
+
+        }   // end addLast()
+
+
+    @Override
+    public void clear()
+        {
+
+        // break the links so discarded nodes don't hold onto each other
+        Node current = this.sentinel.next ;
+
+        while ( current != this.sentinel )
+            {
+            final Node following = current.next ;
+
+            current.card = null ;
+            current.next = null ;
+            current.previous = null ;
+            current.nextSame = null ;
+            current.previousSame = null ;
+
+            current = following ;
+            }
+
+        this.sentinel.next = this.sentinel ;
+        this.sentinel.previous = this.sentinel ;
+
+        this.size = 0 ;
+        this.modCount++ ;
+
+        resetIndex() ;
+
+        }   // end clear()
+
+
+    @Override
+    public CardBase getFirst()
+        {
+
+        if ( this.size == 0 )
+            {
+            throw new NoSuchElementException() ;
+            }
+
+        return this.sentinel.next.card ;
+
+        }   // end getFirst()
+
+
+    @Override
+    public CardBase getLast()
+        {
+
+        if ( this.size == 0 )
+            {
+            throw new NoSuchElementException() ;
+            }
+
+        return this.sentinel.previous.card ;
+
+        }   // end getLast()
+
+
+    @Override
+    public ListIterator<CardBase> listIterator( final int position )
+        {
+
+        if ( ( position < 0 ) || ( position > this.size ) )
+            {
+            throw new IndexOutOfBoundsException( String.format( "position: %,d, size: %,d",
+                                                                position,
+                                                                this.size ) ) ;
+            }
+
+        return new NodeIterator( position ) ;
+
+        }   // end listIterator()
+
+
+    @Override
+    public CardBase removeFirst()
+        {
+
+        if ( this.size == 0 )
+            {
+            throw new NoSuchElementException() ;
+            }
+
+        return unlink( this.sentinel.next ) ;
+
+        }   // end removeFirst()
+
+
+    @Override
+    public CardBase removeLast()
+        {
+
+        if ( this.size == 0 )
+            {
+            throw new NoSuchElementException() ;
+            }
+
+        return unlink( this.sentinel.previous ) ;
+
+        }   // end removeLast()
+
+
+    @Override
+    public int size()
+        {
+
+        return this.size ;
+
+        }   // end size()
+
+
+    /*
+     * PileStorage methods
+     */
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O(1) when {@code source} is also a {@code LinkedPileStorage}
+     */
+    @Override
+    public void moveAllToBottom( final PileStorage source )
+        {
+
+        if ( ( source instanceof final LinkedPileStorage linkedSource ) && ( source != this ) )
+            {
+            spliceBefore( this.sentinel, linkedSource ) ;
+            }
+        else
+            {
+            PileStorage.super.moveAllToBottom( source ) ;
+            }
+
+        }   // end moveAllToBottom()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * shuffles a copy of the cards then rewrites the nodes in a single pass
+     */
+    @Override
+    public void shuffle( final RandomGenerator random,
+                         final int count )
+        {
+
+        final CardBase[] shuffled = toArray( new CardBase[ this.size ] ) ;
+
+        CardShuffler.shuffle( shuffled, this.size, count, random ) ;
+
+        rewrite( shuffled ) ;
+
+        }   // end shuffle()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O(1) when {@code source} is also a {@code LinkedPileStorage}
+     */
+    @Override
+    public void moveAllToTop( final PileStorage source )
+        {
+
+        if ( ( source instanceof final LinkedPileStorage linkedSource ) && ( source != this ) )
+            {
+            spliceBefore( this.sentinel.next, linkedSource ) ;
+            }
+        else
+            {
+            PileStorage.super.moveAllToTop( source ) ;
+            }
+
+        }   // end moveAllToTop()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * sorts a copy of the cards then rewrites the nodes in a single pass
+     */
+    @Override
+    public void sort( final Comparator<? super CardBase> comparator )
+        {
+
+        final CardBase[] sorted = toArray( new CardBase[ this.size ] ) ;
+
+        Arrays.sort( sorted, comparator ) ;
+
+        rewrite( sorted ) ;
+
+        }   // end sort()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * insert a card immediately before an existing node
+     *
+     * @param successor
+     *     the node which will follow the new one - may be the sentinel
+     * @param newCard
+     *     the card to insert
+     */
+    private void linkBefore( final Node successor,
+                             final CardBase newCard )
+        {
+
+        final Node newNode = new Node( newCard ) ;
+
+        newNode.previous = successor.previous ;
+        newNode.next = successor ;
+        successor.previous.next = newNode ;
+        successor.previous = newNode ;
+
+        this.size++ ;
+        this.modCount++ ;
+
+        if ( this.indexed && countIn( newCard ) && !this.indexStale )
+            {
+
+            if ( successor == this.sentinel )
+                {
+                // new bottom card
+                chainLast( newNode ) ;
+                }
+            else if ( newNode.previous == this.sentinel )
+                {
+                // new top card
+                chainFirst( newNode ) ;
+                }
+            else
+                {
+                // finding its place in the chain could mean a long walk
+                this.indexStale = true ;
+                }
+
+            }
+
+        }   // end linkBefore()
+
+
+    /**
+     * replace the cards in the nodes, top to bottom, with a reordering of the
+     * same cards
+     *
+     * @param reordered
+     *     the cards in their new order - exactly {@code size} of them
+     */
+    private void rewrite( final CardBase[] reordered )
+        {
+
+        Node current = this.sentinel.next ;
+
+        for ( final CardBase card : reordered )
+            {
+            current.card = card ;
+            current = current.next ;
+            }
+
+        this.indexStale = true ;
+        this.modCount++ ;
+
+        }   // end rewrite()
+
+
+    /**
+     * relink all of another storage's nodes into this one, leaving it empty
+     *
+     * @param successor
+     *     the node which will follow the spliced nodes
+     * @param source
+     *     the storage to empty - not this storage
+     */
+    private void spliceBefore( final Node successor,
+                               final LinkedPileStorage source )
+        {
+
+        if ( source.size == 0 )
+            {
+            return ;
+            }
+
+        final Node first = source.sentinel.next ;
+        final Node last = source.sentinel.previous ;
+
+        // detach the nodes from the source
+        source.sentinel.next = source.sentinel ;
+        source.sentinel.previous = source.sentinel ;
+
+        // attach them here
+        first.previous = successor.previous ;
+        last.next = successor ;
+        successor.previous.next = first ;
+        successor.previous = last ;
+
+        this.size += source.size ;
+        this.modCount++ ;
+
+        if ( this.indexed )
+            {
+            countSplicedCards( source ) ;
+            }
+
+        source.size = 0 ;
+        source.modCount++ ;
+        source.resetIndex() ;
+
+        // the spliced nodes may carry the source's chains - or none at all
+        if ( this.indexed )
+            {
+            this.indexStale = true ;
+            }
+
+        }   // end spliceBefore()
+
+
+    /**
+     * add a node to the top of the chain for its identity
+     *
+     * @param node
+     *     the new topmost node with its identity
+     */
+    private void chainFirst( final Node node )
+        {
+
+        final int identity = node.card.getIdentity() ;
+
+        ensureIndexCapacity( identity ) ;
+
+        node.nextSame = this.firstWithIdentity[ identity ] ;
+
+        if ( node.nextSame == null )
+            {
+            this.lastWithIdentity[ identity ] = node ;
+            }
+        else
+            {
+            node.nextSame.previousSame = node ;
+            }
+
+        this.firstWithIdentity[ identity ] = node ;
+        node.chained = true ;
+
+        }   // end chainFirst()
+
+
+    /**
+     * add a node to the bottom of the chain for its identity
+     *
+     * @param node
+     *     the new bottommost node with its identity
+     */
+    private void chainLast( final Node node )
+        {
+
+        final int identity = node.card.getIdentity() ;
+
+        ensureIndexCapacity( identity ) ;
+
+        node.previousSame = this.lastWithIdentity[ identity ] ;
+
+        if ( node.previousSame == null )
+            {
+            this.firstWithIdentity[ identity ] = node ;
+            }
+        else
+            {
+            node.previousSame.nextSame = node ;
+            }
+
+        this.lastWithIdentity[ identity ] = node ;
+        node.chained = true ;
+
+        }   // end chainLast()
+
+
+    /**
+     * count a card which was just added, adopting its class as the indexed
+     * class if there isn't one yet
+     *
+     * @param card
+     *     the card
+     *
+     * @return {@code true} if the card should be chained
+     */
+    private boolean countIn( final CardBase card )
+        {
+
+        final boolean indexable = isIndexable( card ) ;
+
+        if ( this.countsStale )
+            {
+            // they'll all be counted when the counts are recomputed
+            return indexable ;
+            }
+
+        if ( indexable )
+            {
+            final int identity = card.getIdentity() ;
+
+            ensureIndexCapacity( identity ) ;
+            this.countWithIdentity[ identity ]++ ;
+            }
+        else
+            {
+            this.uncountedCount++ ;
+            }
+
+        return indexable ;
+
+        }   // end countIn()
+
+
+    /**
+     * un-count a card which was just removed or replaced
+     *
+     * @param card
+     *     the card
+     */
+    private void countOut( final CardBase card )
+        {
+
+        if ( this.countsStale )
+            {
+            return ;
+            }
+
+        if ( ( card != null )
+             && ( card.getIdentity() != NO_IDENTITY )
+             && ( card.getClass() == this.indexedClass ) )
+            {
+            this.countWithIdentity[ card.getIdentity() ]-- ;
+            }
+        else
+            {
+            this.uncountedCount-- ;
+            }
+
+        }   // end countOut()
+
+
+    /**
+     * add the counts of a storage whose cards were just spliced in - the
+     * counters are summed, so this doesn't depend on the number of cards
+     *
+     * @param source
+     *     the storage the cards came from, before it's emptied
+     */
+    private void countSplicedCards( final LinkedPileStorage source )
+        {
+
+        if ( this.countsStale )
+            {
+            return ;
+            }
+
+        if ( !source.indexed || source.countsStale )
+            {
+            // count them when they're next needed
+            this.countsStale = true ;
+
+            return ;
+            }
+
+        if ( this.indexedClass == null )
+            {
+            this.indexedClass = source.indexedClass ;
+            }
+
+        if ( ( source.indexedClass == null ) || ( source.indexedClass == this.indexedClass ) )
+            {
+            ensureIndexCapacity( source.countWithIdentity.length - 1 ) ;
+
+            for ( int identity = 0 ; identity < source.countWithIdentity.length ; identity++ )
+                {
+                this.countWithIdentity[ identity ] += source.countWithIdentity[ identity ] ;
+                }
+
+            this.uncountedCount += source.uncountedCount ;
+            }
+        else
+            {
+            // none of them are of the class we count
+            this.uncountedCount += source.size ;
+            }
+
+        }   // end countSplicedCards()
+
+
+    /**
+     * grow the index, if necessary, to hold an identity
+     *
+     * @param identity
+     *     a non-negative identity
+     */
+    private void ensureIndexCapacity( final int identity )
+        {
+
+        if ( identity >= this.firstWithIdentity.length )
+            {
+            final int newLength = Math.max( identity + 1, this.firstWithIdentity.length * 2 ) ;
+
+            this.firstWithIdentity = Arrays.copyOf( this.firstWithIdentity, newLength ) ;
+            this.lastWithIdentity = Arrays.copyOf( this.lastWithIdentity, newLength ) ;
+            this.countWithIdentity = Arrays.copyOf( this.countWithIdentity, newLength ) ;
+            }
+
+        }   // end ensureIndexCapacity()
+
+
+    /**
+     * locate the topmost node holding a card with an identity and class
+     *
+     * @param identity
+     *     the identity to look for
+     * @param cardClass
+     *     the class of card to look for
+     *
+     * @return the node or {@code null} if there isn't one
+     */
+    private Node firstNodeWithIdentity( final int identity,
+                                        final Class<? extends CardBase> cardClass )
+        {
+
+        if ( identity == NO_IDENTITY )
+            {
+            return null ;
+            }
+
+        if ( this.indexed && this.indexStale )
+            {
+            rebuildIndex() ;
+            }
+
+        if ( this.indexed && ( cardClass == this.indexedClass ) )
+            {
+            return identity < this.firstWithIdentity.length
+                    ? this.firstWithIdentity[ identity ]
+                    : null ;
+            }
+
+        // not indexed - walk the pile
+        for ( Node current = this.sentinel.next ; current != this.sentinel ; current = current.next )
+            {
+
+            if ( ( current.card != null )
+                 && ( current.card.getIdentity() == identity )
+                 && ( current.card.getClass() == cardClass ) )
+                {
+                return current ;
+                }
+
+            }
+
+        return null ;
+
+        }   // end firstNodeWithIdentity()
+
+
+    /**
+     * locate the next node, closer to the bottom, holding a card with the same
+     * identity and class
+     *
+     * @param node
+     *     a node returned by {@code firstNodeWithIdentity()} or this method
+     * @param identity
+     *     the identity of the node's card
+     * @param cardClass
+     *     the class of the node's card
+     *
+     * @return the node or {@code null} if there isn't one
+     */
+    private Node nextNodeWithIdentity( final Node node,
+                                       final int identity,
+                                       final Class<? extends CardBase> cardClass )
+        {
+
+        // firstNodeWithIdentity() brought the index up to date
+        if ( this.indexed && ( cardClass == this.indexedClass ) )
+            {
+            return node.nextSame ;
+            }
+
+        // not indexed - walk the rest of the pile
+        for ( Node current = node.next ; current != this.sentinel ; current = current.next )
+            {
+
+            if ( ( current.card != null )
+                 && ( current.card.getIdentity() == identity )
+                 && ( current.card.getClass() == cardClass ) )
+                {
+                return current ;
+                }
+
+            }
+
+        return null ;
+
+        }   // end nextNodeWithIdentity()
+
+
+    /**
+     * determine whether a card belongs in the index, adopting its class as the
+     * indexed class if there isn't one yet
+     *
+     * @param card
+     *     the card to check
+     *
+     * @return {@code true} if the card should be chained
+     */
+    private boolean isIndexable( final CardBase card )
+        {
+
+        if ( ( card == null ) || ( card.getIdentity() == NO_IDENTITY ) )
+            {
+            return false ;
+            }
+
+        if ( this.indexedClass == null )
+            {
+            this.indexedClass = card.getClass() ;
+            }
+
+        return card.getClass() == this.indexedClass ;
+
+        }   // end isIndexable()
+
+
+    /**
+     * rebuild every chain, and the counts, in a single pass over the cards
+     */
+    private void rebuildIndex()
+        {
+
+        Arrays.fill( this.firstWithIdentity, null ) ;
+        Arrays.fill( this.lastWithIdentity, null ) ;
+        Arrays.fill( this.countWithIdentity, 0 ) ;
+        this.uncountedCount = 0 ;
+        this.countsStale = false ;
+
+        for ( Node current = this.sentinel.next ; current != this.sentinel ; current = current.next )
+            {
+            current.previousSame = null ;
+            current.nextSame = null ;
+            current.chained = false ;
+
+            if ( countIn( current.card ) )
+                {
+                chainLast( current ) ;
+                }
+
+            }
+
+        this.indexStale = false ;
+
+        }   // end rebuildIndex()
+
+
+    /**
+     * recompute the counts, and the chains, if cards were spliced in without
+     * them
+     */
+    private void refreshCounts()
+        {
+
+        if ( this.countsStale )
+            {
+            rebuildIndex() ;
+            }
+
+        }   // end refreshCounts()
+
+
+    /**
+     * empty the index
+     */
+    private void resetIndex()
+        {
+
+        if ( !this.indexed )
+            {
+            return ;
+            }
+
+        this.firstWithIdentity = new Node[ DEFAULT_INDEX_CAPACITY ] ;
+        this.lastWithIdentity = new Node[ DEFAULT_INDEX_CAPACITY ] ;
+        this.countWithIdentity = new int[ DEFAULT_INDEX_CAPACITY ] ;
+        this.uncountedCount = 0 ;
+        this.countsStale = false ;
+        this.indexedClass = null ;
+        this.indexStale = false ;
+
+        }   // end resetIndex()
+
+
+    /**
+     * locate the node at a position, walking from the nearer end
+     *
+     * @param position
+     *     a valid 0-based position or {@code size} for the sentinel
+     *
+     * @return the node
+     */
+    private Node nodeAt( final int position )
+        {
+
+        Node current = this.sentinel ;
+
+        if ( position < ( this.size >> 1 ) )
+            {
+            for ( int i = 0 ; i <= position ; i++ )
+                {
+                current = current.next ;
+                }
+
+            }
+        else
+            {
+            for ( int i = this.size ; i > position ; i-- )
+                {
+                current = current.previous ;
+                }
+
+            }
+
+        return current ;
+
+        }   // end nodeAt()
+
+
+    /**
+     * remove a node from the ring
+     *
+     * @param node
+     *     the node to remove - must not be the sentinel
+     *
+     * @return the card the node held
+     */
+    private CardBase unlink( final Node node )
+        {
+
+        final CardBase removedCard = node.card ;
+
+        node.previous.next = node.next ;
+        node.next.previous = node.previous ;
+
+        // nodes spliced in from elsewhere may still be marked as chained
+        if ( this.indexed && node.chained && !this.indexStale )
+            {
+            unchain( node ) ;
+            }
+
+        if ( this.indexed )
+            {
+            countOut( removedCard ) ;
+            }
+
+        node.card = null ;
+        node.next = null ;
+        node.previous = null ;
+        node.nextSame = null ;
+        node.previousSame = null ;
+
+        this.size-- ;
+        this.modCount++ ;
+
+        if ( this.size == 0 )
+            {
+            // nothing left to describe - the next card may be of any class
+            resetIndex() ;
+            }
+
+        return removedCard ;
+
+        }   // end unlink()
+
+
+    /**
+     * remove a node from the chain for its identity
+     *
+     * @param node
+     *     a chained node
+     */
+    private void unchain( final Node node )
+        {
+
+        final int identity = node.card.getIdentity() ;
+
+        if ( node.previousSame == null )
+            {
+            this.firstWithIdentity[ identity ] = node.nextSame ;
+            }
+        else
+            {
+            node.previousSame.nextSame = node.nextSame ;
+            }
+
+        if ( node.nextSame == null )
+            {
+            this.lastWithIdentity[ identity ] = node.previousSame ;
+            }
+        else
+            {
+            node.nextSame.previousSame = node.previousSame ;
+            }
+
+        node.chained = false ;
+
+        }   // end unchain()
+
+
+    /*
+     * utility classes
+     */
+
+
+    /**
+     * a link in the ring
+     */
+    private static final class Node
+        {
+
+        /** the card at this position */
+        CardBase card ;
+
+        /** the node closer to the top */
+        Node previous ;
+
+        /** the node closer to the bottom */
+        Node next ;
+
+        /** the next node closer to the top with the same identity */
+        Node previousSame ;
+
+        /** the next node closer to the bottom with the same identity */
+        Node nextSame ;
+
+        /** {@code true} if this node is part of its identity's chain */
+        boolean chained ;
+
+
+        /**
+         * initialize an unlinked node
+         *
+         * @param theCard
+         *     the card to hold
+         */
+        Node( final CardBase theCard )
+            {
+
+            this.card = theCard ;
+
+            }   // end constructor
+
+        }   // end inner class Node
+
+
+    /**
+     * fail-fast iteration over the nodes
+     */
+    private final class NodeIterator implements ListIterator<CardBase>
+        {
+
+        /** the node which {@code next()} will return */
+        private Node nextNode ;
+
+        /** the position of {@code nextNode} */
+        private int nextPosition ;
+
+        /** the node most recently returned or {@code null} */
+        private Node lastReturned ;
+
+        /** the modification count we expect the list to have */
+        private int expectedModCount ;
+
+
+        /**
+         * position the iterator
+         *
+         * @param position
+         *     the position of the first card {@code next()} will return
+         */
+        private NodeIterator( final int position )
+            {
+
+            this.nextNode = nodeAt( position ) ;
+            this.nextPosition = position ;
+            this.lastReturned = null ;
+            this.expectedModCount = LinkedPileStorage.this.modCount ;
+
+            }   // end constructor
+
+
+        @Override
+        public boolean hasNext()
+            {
+
+            return this.nextPosition < LinkedPileStorage.this.size ;
+
+            }   // end hasNext()
+
+
+        @Override
+        public CardBase next()
+            {
+
+            checkForComodification() ;
+
+            if ( !hasNext() )
+                {
+                throw new NoSuchElementException() ;
+                }
+
+            this.lastReturned = this.nextNode ;
+            this.nextNode = this.nextNode.next ;
+            this.nextPosition++ ;
+
+            return this.lastReturned.card ;
+
+            }   // end next()
+
+
+        @Override
+        public boolean hasPrevious()
+            {
+
+            return this.nextPosition > 0 ;
+
+            }   // end hasPrevious()
+
+
+        @Override
+        public CardBase previous()
+            {
+
+            checkForComodification() ;
+
+            if ( !hasPrevious() )
+                {
+                throw new NoSuchElementException() ;
+                }
+
+            this.nextNode = this.nextNode.previous ;
+            this.lastReturned = this.nextNode ;
+            this.nextPosition-- ;
+
+            return this.lastReturned.card ;
+
+            }   // end previous()
+
+
+        @Override
+        public int nextIndex()
+            {
+
+            return this.nextPosition ;
+
+            }   // end nextIndex()
+
+
+        @Override
+        public int previousIndex()
+            {
+
+            return this.nextPosition - 1 ;
+
+            }   // end previousIndex()
+
+
+        @Override
+        public void remove()
+            {
+
+            checkForComodification() ;
+
+            if ( this.lastReturned == null )
+                {
+                throw new IllegalStateException() ;
+                }
+
+            if ( this.lastReturned == this.nextNode )
+                {
+                // previous() was called last
+                this.nextNode = this.nextNode.next ;
+                }
+            else
+                {
+                this.nextPosition-- ;
+                }
+
+            unlink( this.lastReturned ) ;
+
+            this.lastReturned = null ;
+            this.expectedModCount = LinkedPileStorage.this.modCount ;
+
+            }   // end remove()
+
+
+        @Override
+        public void set( final CardBase replacementCard )
+            {
+
+            checkForComodification() ;
+
+            if ( this.lastReturned == null )
+                {
+                throw new IllegalStateException() ;
+                }
+
+            if ( LinkedPileStorage.this.indexed )
+                {
+                countOut( this.lastReturned.card ) ;
+                countIn( replacementCard ) ;
+                }
+
+            this.lastReturned.card = replacementCard ;
+
+            // the replaced card's chain no longer describes this node
+            LinkedPileStorage.this.indexStale = true ;
+
+            }   // end set()
+
+
+        @Override
+        public void add( final CardBase newCard )
+            {
+
+            checkForComodification() ;
+
+            linkBefore( this.nextNode, newCard ) ;
+
+            this.nextPosition++ ;
+            this.lastReturned = null ;
+            this.expectedModCount = LinkedPileStorage.this.modCount ;
+
+            }   // end add()
+
+
+        /**
+         * make sure the list hasn't been changed other than through us
+         *
+         * @throws ConcurrentModificationException
+         *     if the list was modified
+         */
+        private void checkForComodification() throws ConcurrentModificationException
+            {
+
+            if ( LinkedPileStorage.this.modCount != this.expectedModCount )
+                {
+                throw new ConcurrentModificationException() ;
+                }
+
+            }   // end checkForComodification()
+
+        }   // end inner class NodeIterator
+
+    }   // end class LinkedPileStorage
\ No newline at end of file
@@ -0,0 +1,394 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
+import java.util.AbstractList ;
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.Collection ;
+import java.util.Comparator ;
+import java.util.List ;
+import java.util.Objects ;
+import java.util.Spliterator ;
+import java.util.function.Predicate ;
+import java.util.random.RandomGenerator ;
+
+
+/**
+ * Cards held in a persistent tree: every change produces a new
+ * {@link PileSnapshot} which shares all but O(log n) of its structure with the
+ * previous one
+ * <p>
+ * adds, removes and positional access are O(log n) rather than the O(1) of the
+ * array layouts, but {@link #snapshot()} is O(1) and a snapshot stays valid -
+ * and unchanged - however the pile changes afterward. Moving every card from
+ * one persistent storage to another is O(log n).
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 traverse the current snapshot when spliterating
+ */
+public final class PersistentPileStorage extends AbstractList<CardBase> implements PileStorage
+    {
+
+    /*
+     * data fields
+     */
+
+
+    /** the cards as they are now */
+    private PileSnapshot current ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize an empty storage
+     */
+    public PersistentPileStorage()
+        {
+
+        this.current = PileSnapshot.empty() ;
+
+        }   // end no-arg constructor
+
+
+    /*
+     * snapshots
+     */
+
+
+    /**
+     * capture the cards as they are now
+     * <p>
+     * O(1) - later changes to this storage don't affect the snapshot
+     *
+     * @return the current contents
+     */
+    public PileSnapshot snapshot()
+        {
+
+        return this.current ;
+
+        }   // end snapshot()
+
+
+    /*
+     * List methods
+     */
+
+
+    @Override
+    public void add( final int position,
+                     final CardBase newCard )
+        {
+
+        update( this.current.withCardAt( position, newCard ) ) ;
+
+        }   // end add()
+
+
+    @Override
+    public boolean addAll( final Collection<? extends CardBase> newCards )
+        {
+
+        return addAll( size(), newCards ) ;
+
+        }   // end addAll()
+
+
+    @Override
+    public boolean addAll( final int position,
+                           final Collection<? extends CardBase> newCards )
+        {
+
+        final Collection<? extends CardBase> toAdd = newCards == this
+                ? this.current
+                : newCards ;
+
+        if ( toAdd.isEmpty() )
+            {
+            return false ;
+            }
+
+        update( this.current.withCardsAt( position, toAdd ) ) ;
+
+        return true ;
+
+        }   // end addAll() at position
+
+
+    @Override
+    public void clear()
+        {
+
+        update( PileSnapshot.empty() ) ;
+
+        }   // end clear()
+
+
+    @Override
+    public CardBase get( final int position )
+        {
+
+        return this.current.get( position ) ;
+
+        }   // end get()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O(log n) when {@code source} is also a {@code PersistentPileStorage}
+     */
+    @Override
+    public void moveAllToBottom( final PileStorage source )
+        {
+
+        if ( ( source instanceof final PersistentPileStorage persistentSource ) && ( source != this ) )
+            {
+            update( this.current.withCardsAt( size(), persistentSource.current ) ) ;
+            persistentSource.clear() ;
+            }
+        else
+            {
+            PileStorage.super.moveAllToBottom( source ) ;
+            }
+
+        }   // end moveAllToBottom()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O(log n) when {@code source} is also a {@code PersistentPileStorage}
+     */
+    @Override
+    public void moveAllToTop( final PileStorage source )
+        {
+
+        if ( ( source instanceof final PersistentPileStorage persistentSource ) && ( source != this ) )
+            {
+            update( this.current.withCardsAt( 0, persistentSource.current ) ) ;
+            persistentSource.clear() ;
+            }
+        else
+            {
+            PileStorage.super.moveAllToTop( source ) ;
+            }
+
+        }   // end moveAllToTop()
+
+
+    @Override
+    public CardBase remove( final int position )
+        {
+
+        final CardBase removedCard = this.current.get( position ) ;
+
+        update( this.current.withoutCardAt( position ) ) ;
+
+        return removedCard ;
+
+        }   // end remove()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * a single pass over the cards, then one rebuild if any were removed
+     */
+    @Override
+    public boolean removeIf( final Predicate<? super CardBase> filter )
+        {
+
+        Objects.requireNonNull( filter, "filter" ) ;
+
+        final List<CardBase> keptCards = new ArrayList<>( size() ) ;
+
+        for ( final CardBase card : this.current )
+            {
+
+            if ( !filter.test( card ) )
+                {
+                keptCards.add( card ) ;
+                }
+
+            }
+
+        if ( keptCards.size() == size() )
+            {
+            return false ;
+            }
+
+        update( PileSnapshot.of( keptCards ) ) ;
+
+        return true ;
+
+        }   // end removeIf()
+
+
+    @Override
+    public CardBase set( final int position,
+                         final CardBase replacementCard )
+        {
+
+        final CardBase replacedCard = this.current.get( position ) ;
+
+        // replacing a card isn't a structural change
+        this.current = this.current.withCardReplacedAt( position, replacementCard ) ;
+
+        return replacedCard ;
+
+        }   // end set()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * shuffles a copy of the cards then rebuilds the tree in a single pass
+     */
+    @Override
+    public void shuffle( final RandomGenerator random,
+                         final int count )
+        {
+
+        final CardBase[] shuffled = toArray( new CardBase[ size() ] ) ;
+
+        CardShuffler.shuffle( shuffled, shuffled.length, count, random ) ;
+
+        update( PileSnapshot.of( Arrays.asList( shuffled ) ) ) ;
+
+        }   // end shuffle()
+
+
+    @Override
+    public int size()
+        {
+
+        return this.current.size() ;
+
+        }   // end size()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * sorts a copy of the cards then rebuilds the tree in a single pass
+     */
+    @Override
+    public void sort( final Comparator<? super CardBase> comparator )
+        {
+
+        final CardBase[] sorted = toArray( new CardBase[ size() ] ) ;
+
+        Arrays.sort( sorted, comparator ) ;
+
+        update( PileSnapshot.of( Arrays.asList( sorted ) ) ) ;
+
+        }   // end sort()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * traverses the current snapshot, so it's unaffected by later changes
+     * rather than fail-fast
+     */
+    @Override
+    public Spliterator<CardBase> spliterator()
+        {
+
+        return this.current.spliterator() ;
+
+        }   // end spliterator()
+
+
+    @Override
+    public Object[] toArray()
+        {
+
+        return this.current.toArray() ;
+
+        }   // end toArray()
+
+
+    @Override
+    public <T> T[] toArray( final T[] destination )
+        {
+
+        return this.current.toArray( destination ) ;
+
+        }   // end toArray() into an array
+
+
+    /*
+     * protected methods
+     */
+
+
+    @Override
+    protected void removeRange( final int fromPosition,
+                                final int toPosition )
+        {
+
+        update( this.current.withoutCards( fromPosition, toPosition ) ) ;
+
+        }   // end removeRange()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * install a new version of the cards after a structural change
+     *
+     * @param newVersion
+     *     the new contents
+     */
+    private void update( final PileSnapshot newVersion )
+        {
+
+        this.current = newVersion ;
+
+        this.modCount++ ;
+
+        }   // end update()
+
+    }   // end class PersistentPileStorage
\ No newline at end of file
@@ -35,16 +35,27 @@ import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsExcepti
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.Persistence ;
 
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase.NO_IDENTITY ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase.NO_SORT_KEY ;
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.AS_IS ;
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Persistence.PERMANENT ;
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Persistence.UNRESTRICTED ;
 
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.BitSet ;
+import java.util.Collection ;
 import java.util.Collections ;
 import java.util.Iterator ;
-import java.util.LinkedList ;
 import java.util.List ;
 import java.util.ListIterator ;
 import java.util.Objects ;
+import java.util.Spliterator ;
+import java.util.concurrent.ThreadLocalRandom ;
+import java.util.function.Predicate ;
+import java.util.random.RandomGenerator ;
+import java.util.stream.Stream ;
+import java.util.stream.StreamSupport ;
 
 
 // do not modify this code
@@ -102,6 +113,61 @@ import java.util.Objects ;
  * @version 6.2 2025-11-19 add support for verification of decks that they have
  *     the correct contents, typically at the end of a game to determine if any
  *     cards have been lost
+ * @version 7.0 2026-10-17 switch from {@code LinkedList} to a circular array
+ *     ({@code RingBufferPileStorage}) so adding/removing at the top and bottom
+ *     remains O(1) while positional access also becomes O(1)
+ * @version 7.1 2026-10-17 hold the cards in a pluggable {@code PileStorage} so
+ *     each kind of pile can select the layout which suits its access pattern
+ * @version 7.2 2026-10-17 locate cards by comparing identities when the card
+ *     type supports it rather than calling {@code equals()} on every card
+ * @version 7.3 2026-10-17 answer {@code matchCount()}, {@code hasCardLike()}
+ *     and {@code removeAllMatchingCards()} from the per-identity counts when
+ *     the pile uses a {@code CountingPileStorage}
+ * @version 7.4 2026-10-17 add {@code removeCardsIf()} which extracts all
+ *     matching cards in a single pass; {@code removeAllMatchingCards()} uses it
+ * @version 7.5 2026-10-17 answer {@code getCardLike()}, {@code hasCardLike()}
+ *     and {@code removeCard()} from the identity index when the pile uses an
+ *     indexed {@code LinkedPileStorage}
+ * @version 7.6 2026-10-17 move whole piles through the storage so linked
+ *     layouts splice rather than copy
+ * @version 7.7 2026-10-17 add {@code addAllToBottom()} and
+ *     {@code addAllToTop()} which validate and orient a batch of cards in one
+ *     sweep each
+ * @version 7.8 2026-10-17 {@code revealAll()}, {@code hideAll()} and
+ *     {@code flipAll()} record a pile-wide orientation in O(1) which is applied
+ *     to a card when it leaves the pile or is handed out, and to the whole pile
+ *     only when cards are added or iterated
+ * @version 7.9 2026-10-17 shuffle with a caller-selected
+ *     {@code RandomGenerator}, optionally seeded, in place in the storage;
+ *     add {@code shuffleTop()} which randomizes only the cards about to be
+ *     dealt
+ * @version 7.10 2026-10-17 add shuffles which follow a {@code ShuffleModel} -
+ *     riffle, overhand or cut
+ * @version 7.11 2026-10-17 add {@code dealTo()} which deals to several piles
+ *     in one batch
+ * @version 7.12 2026-10-17 sort by counting when every card has a sort key
+ * @version 7.13 2026-10-17 add {@code snapshot()}
+ * @version 7.14 2026-10-17 add live views - {@code view()}, {@code topView()}
+ *     and {@code bottomView()}
+ * @version 7.15 2026-10-17 add {@code spliterator()}, {@code stream()} and
+ *     {@code parallelStream()}
+ * @version 7.16 2026-10-17 report changes to registered {@code PileListener}s
+ * @version 7.17 2026-10-17 add {@code peekTopCard()} and
+ *     {@code tryRemoveTopCard()} which return {@code null} for an empty pile;
+ *     throw {@code NoCardsException.emptyPile()}
+ * @version 7.18 2026-10-17 reject lookup-only cards
+ *     ({@code CardBase.isLookupOnly()})
+ * @version 7.19 2026-10-17 take the per-identity counts from an indexed
+ *     {@code LinkedPileStorage}, which replaces {@code CountingPileStorage};
+ *     {@code removeAllMatchingCards()} follows the identity index so removing
+ *     k cards is O(k)
+ * @version 7.20 2026-10-17 {@code removeCardsIf()} hands the removed cards to
+ *     the other pile's {@code addAllToBottom()} and marks their positions
+ *     rather than collecting them in an identity set
+ * @version 7.21 2026-10-17 add {@code showHeldCard()} for callers which kept
+ *     a reference to a card across a pile-wide orientation change
+ * @version 7.22 2026-10-17 document how a pile which keeps its cards in order
+ *     (e.g. {@code SortedPile}) treats additions and shuffles
  */
 public abstract class PileBase implements Iterable<CardBase>
     {
@@ -119,6 +185,15 @@ public abstract class PileBase implements Iterable<CardBase>
     /** by default, piles will only accept permanent cards */
     protected final static Persistence DEFAULT_ACCEPTABLE_CARD_PERSISTENCE = PERMANENT ;
 
+    /** the pile can't count cards without examining them */
+    private final static int UNKNOWN_COUNT = -1 ;
+
+    /** piles with fewer cards than this are sorted by comparison */
+    private final static int COUNTING_SORT_MINIMUM = 16 ;
+
+    /** cards with larger sort keys than this are sorted by comparison */
+    private final static int COUNTING_SORT_KEY_LIMIT = 1_024 ;
+
 
     /*
      * data fields
@@ -129,7 +204,7 @@ public abstract class PileBase implements Iterable<CardBase>
      * the list of cards where the top is in position 0 and the bottom is the
      * highest position
      */
-    protected List<CardBase> cards ;
+    protected PileStorage cards ;
 
     /**
      * indicate whether added cards should be face up or down or left as-is by
@@ -143,6 +218,21 @@ public abstract class PileBase implements Iterable<CardBase>
      */
     private Persistence acceptablePersistence ;
 
+    /**
+     * orientation of every card in the pile, overriding the cards' own, or
+     * {@code AS_IS} if the cards' own orientations stand
+     */
+    private Orientation pileOrientation ;
+
+    /** {@code true} if every card is flipped relative to its own orientation */
+    private boolean flipPending ;
+
+    /**
+     * the listeners to notify of changes or {@code null} if there are none -
+     * replaced, never modified, so listeners can unregister while notified
+     */
+    private PileListener[] listeners ;
+
 
     /*
      * constructors
@@ -157,13 +247,45 @@ public abstract class PileBase implements Iterable<CardBase>
     protected PileBase()
         {
 
-        this.cards = new LinkedList<>() ;
+        this( new RingBufferPileStorage() ) ;
+
+        }   // end no-arg constructor
+
+
+    /**
+     * Initialize the pile with default configuration, holding its cards in the
+     * specified layout
+     *
+     * @param storage
+     *     an empty {@code PileStorage} which will belong exclusively to this
+     *     pile
+     *
+     * @throws IllegalArgumentException
+     *     if {@code storage} already contains cards
+     *
+     * @since 7.1
+     */
+    protected PileBase( final PileStorage storage )
+        {
+
+        Objects.requireNonNull( storage, "storage must be non-null" ) ;
+
+        if ( !storage.isEmpty() )
+            {
+            throw new IllegalArgumentException( "storage must be empty" ) ;
+            }
+
+        this.cards = storage ;
+
+        this.pileOrientation = AS_IS ;
+        this.flipPending = false ;
+        this.listeners = null ;
 
         resetDefaultOrientation() ;
 
         setAcceptablePersistence( DEFAULT_ACCEPTABLE_CARD_PERSISTENCE ) ;
 
-        }   // end no-arg constructor
+        }   // end 1-arg constructor w/ storage
 
 
     /**
@@ -184,6 +306,29 @@ public abstract class PileBase implements Iterable<CardBase>
         }   // end 1-arg constructor w/ orientation
 
 
+    /**
+     * Initialize the pile with added cards placed face up/down/as-is by default,
+     * holding its cards in the specified layout
+     *
+     * @param initialOrientation
+     *     specify the default orientation for newly added cards
+     * @param storage
+     *     an empty {@code PileStorage} which will belong exclusively to this
+     *     pile
+     *
+     * @since 7.1
+     */
+    protected PileBase( final Orientation initialOrientation,
+                        final PileStorage storage )
+        {
+
+        this( storage ) ;
+
+        setDefaultOrientation( initialOrientation ) ;
+
+        }   // end 2-arg constructor w/ orientation and storage
+
+
     /**
      * initialize this pile with added cards required to be compatible with the
      * specified persistence
@@ -256,8 +401,148 @@ public abstract class PileBase implements Iterable<CardBase>
      */
 
 
+    /**
+     * Add a batch of cards to the bottom of the pile, in their original order
+     * <p>
+     * every card's persistence is checked before any card is added, then the
+     * cards are turned face up/down if necessary and added as a block
+     *
+     * @param newCards
+     *     the cards to add
+     *
+     * @return this pile (fluent)
+     *
+     * @throws IllegalArgumentException
+     *     if {@code newCards} is this pile's storage or any card isn't
+     *     acceptable - no cards are added
+     *
+     * @since 7.7
+     */
+    public PileBase addAllToBottom( final Collection<? extends CardBase> newCards )
+        {
+
+        applyPileOrientation() ;
+        prepareCardsToAdd( newCards ) ;   // checks for null arguments
+
+        this.cards.addAll( nextBottomPosition(), newCards ) ;
+
+        notifyListeners( PileChange.ADDED, newCards.size(), null ) ;
+
+        return this ;
+
+        }  // end addAllToBottom()
+
+
+    /**
+     * Move all cards from another pile to the bottom of this pile, applying
+     * this pile's rules
+     * <p>
+     * unlike {@code moveCardsToBottom()}, every card's persistence is checked
+     * (before any card is moved) and each card is turned face up/down if
+     * necessary
+     *
+     * @param sourcePile
+     *     another pile of cards
+     *     <p>
+     *     post-condition: {@code sourcePile} will be empty
+     *
+     * @return this pile (fluent)
+     *
+     * @throws IllegalArgumentException
+     *     if {@code sourcePile} is this pile or any card isn't acceptable - no
+     *     cards are moved
+     *
+     * @since 7.7
+     */
+    public PileBase addAllToBottom( final PileBase sourcePile )
+        {
+
+        Objects.requireNonNull( sourcePile, "sourcePile" ) ;
+
+        // our own default orientation (if any) wins over the source's
+        applyPileOrientation() ;
+        sourcePile.applyPileOrientation() ;
+        prepareCardsToAdd( sourcePile.cards ) ;
+
+        return moveCardsToBottom( sourcePile ) ;
+
+        }  // end addAllToBottom() from a pile
+
+
+    /**
+     * Add a batch of cards to the top of the pile, in their original order
+     * (the first card will be the new top card)
+     * <p>
+     * every card's persistence is checked before any card is added, then the
+     * cards are turned face up/down if necessary and added as a block
+     *
+     * @param newCards
+     *     the cards to add
+     *
+     * @return this pile (fluent)
+     *
+     * @throws IllegalArgumentException
+     *     if {@code newCards} is this pile's storage or any card isn't
+     *     acceptable - no cards are added
+     *
+     * @since 7.7
+     */
+    public PileBase addAllToTop( final Collection<? extends CardBase> newCards )
+        {
+
+        applyPileOrientation() ;
+        prepareCardsToAdd( newCards ) ;   // checks for null arguments
+
+        this.cards.addAll( nextTopPosition(), newCards ) ;
+
+        notifyListeners( PileChange.ADDED, newCards.size(), null ) ;
+
+        return this ;
+
+        }  // end addAllToTop()
+
+
+    /**
+     * Move all cards from another pile to the top of this pile, in their
+     * original order, applying this pile's rules
+     * <p>
+     * unlike {@code moveCardsToTop()}, every card's persistence is checked
+     * (before any card is moved) and each card is turned face up/down if
+     * necessary
+     *
+     * @param sourcePile
+     *     another pile of cards
+     *     <p>
+     *     post-condition: {@code sourcePile} will be empty
+     *
+     * @return this pile (fluent)
+     *
+     * @throws IllegalArgumentException
+     *     if {@code sourcePile} is this pile or any card isn't acceptable - no
+     *     cards are moved
+     *
+     * @since 7.7
+     */
+    public PileBase addAllToTop( final PileBase sourcePile )
+        {
+
+        Objects.requireNonNull( sourcePile, "sourcePile" ) ;
+
+        // our own default orientation (if any) wins over the source's
+        applyPileOrientation() ;
+        sourcePile.applyPileOrientation() ;
+        prepareCardsToAdd( sourcePile.cards ) ;
+
+        return moveCardsToTop( sourcePile ) ;
+
+        }  // end addAllToTop() from a pile
+
+
     /**
      * Add a single card at a specified position
+     * <p>
+     * a pile which keeps its cards in order only accepts a position which
+     * keeps them in order
      *
      * @param newCard
      *     the card to add - will be turned face up/down if necessary
@@ -268,6 +553,9 @@ public abstract class PileBase implements Iterable<CardBase>
      *
      * @throws IndexOutOfBoundsException
      *     if the position is invalid given the current card count
+     * @throws IllegalArgumentException
+     *     if the pile keeps its cards in order and the card doesn't belong at
+     *     the position
      *
      * @since 3.0
      */
@@ -276,17 +564,57 @@ public abstract class PileBase implements Iterable<CardBase>
             throws IndexOutOfBoundsException
         {
 
+        applyPileOrientation() ;
         prepareCardToAdd( newCard ) ;   // checks for null argument
 
         this.cards.add( position, newCard ) ;
 
+        notifyListeners( PileChange.ADDED, 1, null ) ;
+
         return this ;
 
         }  // end addAt()
 
 
+    /**
+     * Register a listener to be notified of each change to this pile - adds,
+     * removes, moves, shuffles, sorts and turns
+     * <p>
+     * a pile with no listeners doesn't create any events
+     *
+     * @param listener
+     *     the listener to notify
+     *
+     * @return this pile (fluent)
+     *
+     * @since 7.16
+     */
+    public PileBase addListener( final PileListener listener )
+        {
+
+        Objects.requireNonNull( listener, "listener" ) ;
+
+        if ( this.listeners == null )
+            {
+            this.listeners = new PileListener[] { listener } ;
+            }
+        else
+            {
+            final PileListener[] moreListeners = Arrays.copyOf( this.listeners, this.listeners.length + 1 ) ;
+            moreListeners[ this.listeners.length ] = listener ;
+
+            this.listeners = moreListeners ;
+            }
+
+        return this ;
+
+        }   // end addListener()
+
+
     /**
      * Add a single card to the bottom of the pile
+     * <p>
+     * a pile which keeps its cards in order places the card in order instead
      *
      * @param newCard
      *     the card to add - will be turned face up/down if necessary
@@ -298,10 +626,13 @@ public abstract class PileBase implements Iterable<CardBase>
     public PileBase addToBottom( final CardBase newCard )
         {
 
+        applyPileOrientation() ;
         prepareCardToAdd( newCard ) ;   // checks for null argument
 
         this.cards.addLast( newCard ) ;
 
+        notifyListeners( PileChange.ADDED, 1, null ) ;
+
         return this ;
 
         }  // end addToBottom()
@@ -309,6 +640,8 @@ public abstract class PileBase implements Iterable<CardBase>
 
     /**
      * Add a single card to the top of the pile
+     * <p>
+     * a pile which keeps its cards in order places the card in order instead
      *
      * @param newCard
      *     the card to add - will be turned face up/down if necessary
@@ -320,15 +653,43 @@ public abstract class PileBase implements Iterable<CardBase>
     public PileBase addToTop( final CardBase newCard )
         {
 
+        applyPileOrientation() ;
         prepareCardToAdd( newCard ) ;   // checks for null argument
 
         this.cards.addFirst( newCard ) ;
 
+        notifyListeners( PileChange.ADDED, 1, null ) ;
+
         return this ;
 
         }  // end addToTop()
 
 
+    /**
+     * Look at the bottom cards of the pile without removing or copying them
+     *
+     * @param count
+     *     the number of cards to include
+     *
+     * @return a live, read-only view of the bottom {@code count} cards
+     *     ({@link PileView})
+     *
+     * @throws IndexOutOfBoundsException
+     *     if {@code count} is negative or greater than the number of cards in
+     *     the pile
+     *
+     * @since 7.14
+     */
+    public PileView bottomView( final int count ) throws IndexOutOfBoundsException
+        {
+
+        Objects.checkFromToIndex( 0, count, this.cards.size() ) ;
+
+        return view( this.cards.size() - count, this.cards.size() ) ;
+
+        }   // end bottomView()
+
+
     /**
      * Retrieve the current number of cards in the pile
      *
@@ -354,23 +715,135 @@ public abstract class PileBase implements Iterable<CardBase>
     public PileBase clear()
         {
 
-        this.cards.clear() ;
+        final int removedCount = this.cards.size() ;
+
+        emptyCards() ;
+
+        notifyListeners( PileChange.REMOVED, removedCount, null ) ;
 
         return this ;
 
         }   // end clear()
 
 
+    /**
+     * Deal cards from the top of this pile to several other piles
+     * <p>
+     * the cards are sliced off the top in one batch and handed out as
+     * {@code pattern} specifies. Each target receives its share at its bottom,
+     * in the order dealt, as a single batch which is turned face up/down by
+     * that pile's rules; targets aren't sorted - that's left to them.
+     * <p>
+     * every target's persistence rule is checked before any card moves, so if
+     * there aren't enough cards or any card is unacceptable, no pile changes.
+     *
+     * @param cardsPerTarget
+     *     the number of cards each target receives
+     * @param targets
+     *     the piles to deal to, in dealing order
+     * @param pattern
+     *     the order in which the cards are handed out
+     *
+     * @return this pile (fluent)
+     *
+     * @throws IllegalArgumentException
+     *     if {@code cardsPerTarget} is negative or any target is this pile or
+     *     won't accept its cards - no cards are dealt
+     * @throws NoCardsException
+     *     if this pile holds fewer than {@code cardsPerTarget} cards for each
+     *     target - no cards are dealt
+     *
+     * @since 7.11
+     */
+    public PileBase dealTo( final int cardsPerTarget,
+                            final List<? extends PileBase> targets,
+                            final DealPattern pattern )
+            throws IllegalArgumentException, NoCardsException
+        {
+
+        Objects.requireNonNull( targets, "targets" ) ;
+        Objects.requireNonNull( pattern, "pattern" ) ;
+
+        if ( cardsPerTarget < 0 )
+            {
+            throw new IllegalArgumentException( String.format( "can't deal %,d cards to each pile",
+                                                               cardsPerTarget ) ) ;
+            }
+
+        // snapshot the targets so each is reached in O(1)
+        final PileBase[] targetPiles = targets.toArray( new PileBase[ 0 ] ) ;
+        final long dealCount = (long) cardsPerTarget * targetPiles.length ;
+
+        if ( dealCount > this.cards.size() )
+            {
+            throw new NoCardsException( String.format( "can't deal %,d cards from %,d",
+                                                       dealCount,
+                                                       this.cards.size() ) ) ;
+            }
+
+        // the cards leave showing what they showed here
+        applyPileOrientation() ;
+
+        // slice the cards off the top and sort them into each target's share
+        final List<CardBase> dealtCards = this.cards.subList( 0, (int) dealCount ) ;
+        final CardBase[][] shares = new CardBase[ targetPiles.length ][ cardsPerTarget ] ;
+        final int[] shareSizes = new int[ targetPiles.length ] ;
+        int cardNumber = 0 ;
+
+        for ( final CardBase dealtCard : dealtCards )
+            {
+            final int target = pattern.targetOf( cardNumber++, targetPiles.length, cardsPerTarget ) ;
+            shares[ target ][ shareSizes[ target ]++ ] = dealtCard ;
+            }
+
+        // make sure every target will take its share before any card moves
+        for ( int i = 0 ; i < targetPiles.length ; i++ )
+            {
+            Objects.requireNonNull( targetPiles[ i ], "target" ) ;
+
+            if ( targetPiles[ i ] == this )
+                {
+                throw new IllegalArgumentException( "can't deal cards to the same pile" ) ;
+                }
+
+            targetPiles[ i ].checkAcceptable( Arrays.asList( shares[ i ] ) ) ;
+            }
+
+        dealtCards.clear() ;
+
+        notifyListeners( PileChange.MOVED_OUT, (int) dealCount, null ) ;
+
+        for ( int i = 0 ; i < targetPiles.length ; i++ )
+            {
+            targetPiles[ i ].addAllToBottom( Arrays.asList( shares[ i ] ) ) ;
+            }
+
+        return this ;
+
+        }   // end dealTo()
+
+
     /**
      * flip all cards in the pile - if a card was face down, turn it face up,
      * and vice versa
+     * <p>
+     * O(1) - recorded for the pile rather than applied to each card
      *
      * @return this pile (fluent)
      */
     public PileBase flipAll()
         {
 
-        this.cards.forEach( CardBase::flip ) ;
+        if ( this.pileOrientation == AS_IS )
+            {
+            this.flipPending = !this.flipPending ;
+            }
+        else
+            {
+            this.pileOrientation = this.pileOrientation.flip() ;
+            }
+
+        notifyListeners( PileChange.TURNED, this.cards.size(), null ) ;
 
         return this ;
 
@@ -425,12 +898,12 @@ public abstract class PileBase implements Iterable<CardBase>
 
         if ( isEmpty() )
             {
-            throw new NoCardsException() ;
+            throw NoCardsException.emptyPile() ;
             }
 
         // assertion: there is at least one card in the pile
 
-        return this.cards.getLast() ;
+        return showCard( this.cards.getLast() ) ;
 
         }  // end getTopCard()
 
@@ -457,12 +930,12 @@ public abstract class PileBase implements Iterable<CardBase>
 
         if ( isEmpty() )
             {
-            throw new NoCardsException() ;
+            throw NoCardsException.emptyPile() ;
             }
 
         // assertion: there is at least one card in the pile
 
-        return this.cards.get( position ) ;
+        return showCard( this.cards.get( position ) ) ;
 
         }  // end getCardAt()
 
@@ -486,18 +959,56 @@ public abstract class PileBase implements Iterable<CardBase>
 
         Objects.requireNonNull( likeCard, "likeCard" ) ;
 
-        final int positionOfCard = this.cards.indexOf( likeCard ) ;
+        final LinkedPileStorage index = identityIndexFor( likeCard ) ;
+
+        if ( index != null )
+            {
+            return showCard( index.getFirstWithIdentity( likeCard.getIdentity(), likeCard.getClass() ) ) ;
+            }
+
+        final int positionOfCard = positionOf( likeCard ) ;
 
         if ( positionOfCard == -1 )
             {
             return null ;
             }
 
-        return this.cards.get( positionOfCard ) ;
+        return showCard( this.cards.get( positionOfCard ) ) ;
 
         }  // end getCardLike() given a Card
 
 
+    /**
+     * Determine whether the pile contains a card equal to the specified card
+     * <p>
+     * O(1) when the pile uses an indexed {@code LinkedPileStorage} and the card
+     * type supports identities
+     *
+     * @param likeCard
+     *     a placeholder - usually is a throw-away instance used for lookup
+     *     only, not game play
+     *
+     * @return {@code true} if the pile contains at least one such card
+     *
+     * @since 7.3
+     */
+    public boolean hasCardLike( final CardBase likeCard )
+        {
+
+        Objects.requireNonNull( likeCard, "likeCard" ) ;
+
+        final int count = countLike( likeCard ) ;
+
+        if ( count != UNKNOWN_COUNT )
+            {
+            return count != 0 ;
+            }
+
+        return getCardLike( likeCard ) != null ;
+
+        }  // end hasCardLike()
+
+
     /**
      * Retrieve the top card from the pile - the card is not removed from the
      * pile
@@ -519,25 +1030,30 @@ public abstract class PileBase implements Iterable<CardBase>
 
         if ( isEmpty() )
             {
-            throw new NoCardsException() ;
+            throw NoCardsException.emptyPile() ;
             }
 
         // assertion: there is at least one card in the pile
 
-        return this.cards.getFirst() ;
+        return showCard( this.cards.getFirst() ) ;
 
         }  // end getTopCard()
 
 
     /**
      * turn all cards in the pile face down
+     * <p>
+     * O(1) - recorded for the pile rather than applied to each card
      *
      * @return this pile (fluent)
      */
     public PileBase hideAll()
         {
 
-        this.cards.forEach( CardBase::hide ) ;
+        this.pileOrientation = Orientation.FACE_DOWN ;
+        this.flipPending = false ;
+
+        notifyListeners( PileChange.TURNED, this.cards.size(), null ) ;
 
         return this ;
 
@@ -561,6 +1077,8 @@ public abstract class PileBase implements Iterable<CardBase>
     public Iterator<CardBase> iterator()
         {
 
+        applyPileOrientation() ;
+
         return new CardBaseIterator() ;
 
         }   // end iterator()
@@ -576,6 +1094,8 @@ public abstract class PileBase implements Iterable<CardBase>
     public ListIterator<CardBase> listIterator()
         {
 
+        applyPileOrientation() ;
+
         return new CardBaseIterator() ;
 
         }   // end listIterator()
@@ -586,6 +1106,9 @@ public abstract class PileBase implements Iterable<CardBase>
      * <p>
      * This count may be different than would be determined by testing cards for
      * equality, for instance, if matching only rank or suit.
+     * <p>
+     * when the pile uses an indexed {@code LinkedPileStorage}, visits each
+     * identity's count rather than each card
      *
      * @param targetCard
      *     the card to look for
@@ -597,6 +1120,27 @@ public abstract class PileBase implements Iterable<CardBase>
 
         Objects.requireNonNull( targetCard, "targetCard" ) ;
 
+        // when the pile keeps counts, visit each identity rather than each card
+        if ( ( this.cards instanceof final LinkedPileStorage countedCards )
+             && countedCards.allCardsCounted()
+             && countedCards.isCounted( targetCard ) )
+            {
+            int matches = 0 ;
+
+            for ( int identity = 0 ; identity < countedCards.counterCount() ; identity++ )
+                {
+                final int count = countedCards.countOf( identity ) ;
+
+                if ( ( count != 0 ) && targetCard.matchesIdentity( identity ) )
+                    {
+                    matches += count ;
+                    }
+
+                }
+
+            return matches ;
+            }
+
         int matches = 0 ;
 
         // count the number of times the target card appears in the pile
@@ -617,6 +1161,8 @@ public abstract class PileBase implements Iterable<CardBase>
 
     /**
      * Move all cards from {@code otherCards} to the bottom of this pile
+     * <p>
+     * O(1) when both piles use a {@code LinkedPileStorage}
      *
      * @param otherCards
      *     another pile of cards
@@ -630,11 +1176,26 @@ public abstract class PileBase implements Iterable<CardBase>
 
         Objects.requireNonNull( otherCards, "otherCards" ) ;
 
-        // add the cards to the bottom of our pile
-        this.cards.addAll( nextBottomPosition(), otherCards.cards ) ;
+        reconcilePileOrientation( otherCards ) ;
+
+        final int movedCount = otherCards.cards.size() ;
+        final int position = nextBottomPosition() ;
 
-        // remove all cards from the other pile
-        otherCards.clear() ;
+        if ( position == this.cards.size() )
+            {
+            // let the storage splice the cards if it can
+            this.cards.moveAllToBottom( otherCards.cards ) ;
+            }
+        else
+            {
+            // add the cards to the bottom of our pile
+            this.cards.addAll( position, otherCards.cards ) ;
+
+            // remove all cards from the other pile
+            otherCards.emptyCards() ;
+            }
+
+        reportMoveFrom( otherCards, movedCount ) ;
 
         return this ;
 
@@ -646,6 +1207,8 @@ public abstract class PileBase implements Iterable<CardBase>
      * <p>
      * otherCards are placed in their original order on top of the current top
      * of this pile
+     * <p>
+     * O(1) when both piles use a {@code LinkedPileStorage}
      *
      * @param otherCards
      *     another pile of cards
@@ -659,11 +1222,26 @@ public abstract class PileBase implements Iterable<CardBase>
 
         Objects.requireNonNull( otherCards, "otherCards" ) ;
 
-        // add the cards to the top of our pile
-        this.cards.addAll( nextTopPosition(), otherCards.cards ) ;
+        reconcilePileOrientation( otherCards ) ;
+
+        final int movedCount = otherCards.cards.size() ;
+        final int position = nextTopPosition() ;
 
-        // remove all cards from the other pile
-        otherCards.clear() ;
+        if ( position == 0 )
+            {
+            // let the storage splice the cards if it can
+            this.cards.moveAllToTop( otherCards.cards ) ;
+            }
+        else
+            {
+            // add the cards to the top of our pile
+            this.cards.addAll( position, otherCards.cards ) ;
+
+            // remove all cards from the other pile
+            otherCards.emptyCards() ;
+            }
+
+        reportMoveFrom( otherCards, movedCount ) ;
 
         return this ;
 
@@ -671,7 +1249,48 @@ public abstract class PileBase implements Iterable<CardBase>
 
 
     /**
-     * Remove a specific card from the pile by card
+     * Stream the cards in the pile, top first, possibly in parallel
+     * <p>
+     * see {@link #spliterator()}
+     *
+     * @return a parallel stream of the cards
+     *
+     * @since 7.15
+     */
+    public Stream<CardBase> parallelStream()
+        {
+
+        return StreamSupport.stream( spliterator(), true ) ;
+
+        }   // end parallelStream()
+
+
+    /**
+     * Retrieve the top card, if any, without removing it from the pile
+     * <p>
+     * for callers which expect empty piles - nothing is thrown
+     * <p>
+     * Caution: the returned card should only be in one pile at any time
+     *
+     * @return the top card or {@code null} if the pile is empty
+     *
+     * @since 7.17
+     */
+    public CardBase peekTopCard()
+        {
+
+        if ( isEmpty() )
+            {
+            return null ;
+            }
+
+        return showCard( this.cards.getFirst() ) ;
+
+        }   // end peekTopCard()
+
+
+    /**
+     * Remove a specific card from the pile by card
      *
      * @param card
      *     the card to be removed
@@ -685,14 +1304,21 @@ public abstract class PileBase implements Iterable<CardBase>
 
         Objects.requireNonNull( card, "card" ) ;
 
-        final int positionOfCard = this.cards.indexOf( card ) ;
+        final LinkedPileStorage index = identityIndexFor( card ) ;
+
+        if ( index != null )
+            {
+            return releaseCard( index.removeFirstWithIdentity( card.getIdentity(), card.getClass() ) ) ;
+            }
+
+        final int positionOfCard = positionOf( card ) ;
 
         if ( positionOfCard == -1 )
             {
             return null ;
             }
 
-        return this.cards.remove( positionOfCard ) ;
+        return releaseCard( this.cards.remove( positionOfCard ) ) ;
 
         }  // end removeCard()
 
@@ -711,10 +1337,13 @@ public abstract class PileBase implements Iterable<CardBase>
         final PileBase allRemovedCards = new PileBase() {} ;
         allRemovedCards.setAcceptablePersistence( UNRESTRICTED ).setDefaultOrientation( AS_IS ) ;
 
-        // move (copy then delete all) all the cards from our list into the the
-        // temporary pile
-        allRemovedCards.cards.addAll( this.cards ) ;
-        this.cards.clear() ;
+        // move all the cards from our list into the temporary pile
+        final int removedCount = this.cards.size() ;
+
+        applyPileOrientation() ;
+        allRemovedCards.cards.moveAllToBottom( this.cards ) ;
+
+        notifyListeners( PileChange.REMOVED, removedCount, null ) ;
 
         return allRemovedCards ;
 
@@ -723,6 +1352,10 @@ public abstract class PileBase implements Iterable<CardBase>
 
     /**
      * Remove all instances of a specific card from the pile
+     * <p>
+     * O(k) for k matching cards when the pile uses an indexed
+     * {@code LinkedPileStorage} and the card type supports identities -
+     * otherwise a single pass ({@link #removeCardsIf(Predicate, PileBase)})
      *
      * @param lookupCard
      *     the card to be removed
@@ -731,23 +1364,57 @@ public abstract class PileBase implements Iterable<CardBase>
      *
      * @return this pile (fluent)
      *
+     * @throws IllegalArgumentException
+     *     if {@code removedCards} is this pile or won't accept any of the
+     *     removed cards
+     *
      * @since 4.0
      */
     public PileBase removeAllMatchingCards( final CardBase lookupCard,
                                             final PileBase removedCards )
+            throws IllegalArgumentException
         {
 
         Objects.requireNonNull( lookupCard, "lookupCard" ) ;
         Objects.requireNonNull( removedCards, "removedCards" ) ;
 
-        // pull any matching cards from the pile
-        CardBase foundCard ;
+        // when we know there aren't any, don't look
+        if ( countLike( lookupCard ) == 0 )
+            {
+            return this ;
+            }
+
+        final LinkedPileStorage index = identityIndexFor( lookupCard ) ;
+
+        if ( index == null )
+            {
+            // pull any matching cards from the pile
+            return removeCardsIf( lookupCard::equals, removedCards ) ;
+            }
+
+        if ( removedCards == this )
+            {
+            throw new IllegalArgumentException( "can't remove cards into the same pile" ) ;
+            }
+
+        // follow the chain of matching cards rather than testing every card
+        final int identity = lookupCard.getIdentity() ;
+        final Class<? extends CardBase> lookupClass = lookupCard.getClass() ;
+        final List<CardBase> matchingCards = index.getAllWithIdentity( identity, lookupClass ) ;
 
-        while ( ( foundCard = removeCard( lookupCard ) ) != null )
+        // the cards leave showing what they showed here
+        for ( final CardBase matchingCard : matchingCards )
             {
-            removedCards.addToBottom( foundCard ) ;
+            showCard( matchingCard ) ;
             }
 
+        // the other pile checks the whole batch before taking any of them
+        removedCards.addAllToBottom( matchingCards ) ;
+
+        index.removeAllWithIdentity( identity, lookupClass ) ;
+
+        notifyListeners( PileChange.MOVED_OUT, matchingCards.size(), removedCards ) ;
+
         return this ;
 
         }  // end removeAllMatchingCards()
@@ -773,16 +1440,144 @@ public abstract class PileBase implements Iterable<CardBase>
 
         if ( isEmpty() )
             {
-            throw new NoCardsException() ;
+            throw NoCardsException.emptyPile() ;
             }
 
         // assertion: there is at least one card in the pile
 
-        return this.cards.remove( position ) ;
+        return releaseCard( this.cards.remove( position ) ) ;
 
         }  // end removeCardAt()
 
 
+    /**
+     * Remove every card which satisfies a condition, adding them, in their
+     * current order, to the bottom of another pile
+     * <p>
+     * the condition is tested once per card, top to bottom, in a single pass
+     * which marks the selected positions. The cards are given to the other
+     * pile's {@code addAllToBottom()}, which checks the whole batch before
+     * adding any, so if any card is unacceptable, neither pile changes.
+     *
+     * @param filter
+     *     selects the cards to remove
+     * @param removedCards
+     *     an existing {@code PileBase} to receive the removed cards
+     *
+     * @return this pile (fluent)
+     *
+     * @throws IllegalArgumentException
+     *     if {@code removedCards} is this pile or won't accept any of the
+     *     removed cards
+     *
+     * @since 7.4
+     */
+    public PileBase removeCardsIf( final Predicate<? super CardBase> filter,
+                                   final PileBase removedCards )
+            throws IllegalArgumentException
+        {
+
+        Objects.requireNonNull( filter, "filter" ) ;
+        Objects.requireNonNull( removedCards, "removedCards" ) ;
+
+        if ( removedCards == this )
+            {
+            throw new IllegalArgumentException( "can't remove cards into the same pile" ) ;
+            }
+
+        // the filter sees the cards as they're shown
+        applyPileOrientation() ;
+
+        // select the cards, noting their positions, without changing anything
+        final List<CardBase> selectedCards = new ArrayList<>() ;
+        final BitSet selectedPositions = new BitSet( this.cards.size() ) ;
+        int position = 0 ;
+
+        for ( final CardBase aCard : this.cards )
+            {
+
+            if ( filter.test( aCard ) )
+                {
+                selectedCards.add( aCard ) ;
+                selectedPositions.set( position ) ;
+                }
+
+            position++ ;
+            }
+
+        if ( selectedCards.isEmpty() )
+            {
+            return this ;
+            }
+
+        // the other pile applies its own rules - and any ordering it keeps
+        removedCards.addAllToBottom( selectedCards ) ;
+
+        // remove them all at once - by position so filter isn't re-evaluated
+        if ( selectedCards.size() == this.cards.size() )
+            {
+            this.cards.clear() ;
+            }
+        else
+            {
+            this.cards.removeIf( new MarkedPositions( selectedPositions ) ) ;
+            }
+
+        notifyListeners( PileChange.MOVED_OUT, selectedCards.size(), removedCards ) ;
+
+        return this ;
+
+        }  // end removeCardsIf()
+
+
+    /**
+     * Unregister a listener - it won't be notified of further changes
+     *
+     * @param listener
+     *     a listener registered with {@code addListener()}
+     *
+     * @return this pile (fluent)
+     *
+     * @since 7.16
+     */
+    public PileBase removeListener( final PileListener listener )
+        {
+
+        if ( this.listeners == null )
+            {
+            return this ;
+            }
+
+        for ( int i = 0 ; i < this.listeners.length ; i++ )
+            {
+
+            if ( this.listeners[ i ] == listener )
+                {
+
+                if ( this.listeners.length == 1 )
+                    {
+                    this.listeners = null ;
+                    }
+                else
+                    {
+                    final PileListener[] fewerListeners = new PileListener[ this.listeners.length - 1 ] ;
+
+                    System.arraycopy( this.listeners, 0, fewerListeners, 0, i ) ;
+                    System.arraycopy( this.listeners, i + 1, fewerListeners, i, fewerListeners.length - i ) ;
+
+                    this.listeners = fewerListeners ;
+                    }
+
+                break ;
+                }
+
+            }
+
+        return this ;
+
+        }   // end removeListener()
+
+
     /**
      * Remove the top card from the pile
      * <p>
@@ -799,25 +1594,30 @@ public abstract class PileBase implements Iterable<CardBase>
 
         if ( isEmpty() )
             {
-            throw new NoCardsException() ;
+            throw NoCardsException.emptyPile() ;
             }
 
         // assertion: there is at least one card in the pile
 
-        return this.cards.removeFirst() ;
+        return releaseCard( this.cards.removeFirst() ) ;
 
         }  // end removeTopCard()
 
 
     /**
      * turn all cards in the pile face up
+     * <p>
+     * O(1) - recorded for the pile rather than applied to each card
      *
      * @return this pile (fluent)
      */
     public PileBase revealAll()
         {
 
-        this.cards.forEach( CardBase::reveal ) ;
+        this.pileOrientation = Orientation.FACE_UP ;
+        this.flipPending = false ;
+
+        notifyListeners( PileChange.TURNED, this.cards.size(), null ) ;
 
         return this ;
 
@@ -898,6 +1698,45 @@ public abstract class PileBase implements Iterable<CardBase>
         }   // end setDefaultOrientation()
 
 
+    /**
+     * Turn a card this pile holds to the orientation the pile shows it with -
+     * for a caller which kept a reference to the card, e.g. to display it,
+     * across {@code revealAll()}, {@code hideAll()} or {@code flipAll()}
+     * <p>
+     * cards retrieved from the pile already show their orientation
+     *
+     * @param heldCard
+     *     a card in this pile
+     *
+     * @return {@code heldCard} (fluent)
+     *
+     * @throws IllegalArgumentException
+     *     if the card isn't in this pile
+     *
+     * @since 7.21
+     */
+    public CardBase showHeldCard( final CardBase heldCard ) throws IllegalArgumentException
+        {
+
+        Objects.requireNonNull( heldCard, "heldCard" ) ;
+
+        // must be this instance, not just an equal card
+        for ( final CardBase aCard : this.cards )
+            {
+
+            if ( aCard == heldCard )
+                {
+                return showCard( heldCard ) ;
+                }
+
+            }
+
+        throw new IllegalArgumentException( String.format( "%s isn't in this pile",
+                                                           heldCard ) ) ;
+
+        }   // end showHeldCard()
+
+
     /**
      * Randomize (shuffle) the cards in the deck
      *
@@ -908,150 +1747,646 @@ public abstract class PileBase implements Iterable<CardBase>
     public PileBase shuffle()
         {
 
-        Collections.shuffle( this.cards ) ;
-
-        return this ;
+        return shuffle( ThreadLocalRandom.current() ) ;
 
         }   // end shuffle()
 
 
     /**
-     * Reorder (sort) the cards in the deck
+     * Randomize (shuffle) the cards in the deck reproducibly - the same seed
+     * always produces the same order from the same starting order
+     *
+     * @param seed
+     *     the seed for a {@code CardShuffler.SEEDED_ALGORITHM} generator
      *
      * @return this pile (fluent)
+     *
+     * @since 7.9
      */
-    public PileBase sort()
+    public PileBase shuffle( final long seed )
         {
 
-        Collections.sort( this.cards ) ;
-
-        return this ;
+        return shuffle( CardShuffler.seeded( seed ) ) ;
 
-        }   // end sort()
+        }   // end shuffle() with seed
 
 
-    @Override
-    public String toString()
+    /**
+     * Randomize (shuffle) the cards in the deck using the specified source of
+     * randomness
+     *
+     * @param random
+     *     the source of randomness
+     *
+     * @return this pile (fluent)
+     *
+     * @throws UnsupportedOperationException
+     *     if the pile keeps its cards in order
+     *
+     * @since 7.9
+     */
+    public PileBase shuffle( final RandomGenerator random )
         {
 
-        return this.cards.toString() ;
+        this.cards.shuffle( random, this.cards.size() ) ;
 
-        }   // end toString()
+        notifyListeners( PileChange.SHUFFLED, this.cards.size(), null ) ;
 
+        return this ;
 
-    /*
-     * protected utility methods
-     */
+        }   // end shuffle() with generator
 
 
     /**
-     * determine the position of the card currently on the bottom of the pile
+     * Shuffle the cards the way a person would, following a model of a
+     * physical shuffle (see {@link ShuffleModel})
+     * <p>
+     * the model permutes positions only; the cards are then rewritten in their
+     * new order in a single pass
      *
-     * @return the position of the current bottom card
+     * @param model
+     *     the kind of shuffle
+     * @param repetitions
+     *     the number of times to shuffle - e.g. 7 {@code RIFFLE}s randomize a
+     *     standard deck
+     * @param random
+     *     the source of randomness
      *
-     * @since 3.0
+     * @return this pile (fluent)
+     *
+     * @throws UnsupportedOperationException
+     *     if the pile keeps its cards in order
+     *
+     * @since 7.10
      */
-    protected int currentBottomPosition()
+    public PileBase shuffle( final ShuffleModel model,
+                             final int repetitions,
+                             final RandomGenerator random )
         {
 
-        return ( this.cards.size() - 1 ) ;
+        Objects.requireNonNull( model, "model" ) ;
 
-        }   // end currentBottomPosition()
+        final int cardCount = this.cards.size() ;
+        final CardBase[] original = this.cards.toArray( new CardBase[ cardCount ] ) ;
+        final int[] order = ShuffleModel.identity( new int[ cardCount ] ) ;
+
+        model.permute( order, new int[ cardCount ], repetitions, random ) ;
+
+        final ListIterator<CardBase> cardIterator = this.cards.listIterator() ;
+
+        for ( final int originalPosition : order )
+            {
+            cardIterator.next() ;
+            cardIterator.set( original[ originalPosition ] ) ;
+            }
+
+        notifyListeners( PileChange.SHUFFLED, cardCount, null ) ;
+
+        return this ;
+
+        }   // end shuffle() with model
 
 
     /**
-     * determine the position of the card currently on top of the pile
+     * Randomize only the top {@code count} cards' positions - they become a
+     * uniformly random selection, in random order, from the entire pile, just
+     * as a full shuffle would produce; the remaining cards are not randomized
+     * <p>
+     * O({@code count}) on array-based storage
      *
-     * @return the position of the current top card
+     * @param count
+     *     the number of cards which will be dealt from the top
      *
-     * @since 3.0
+     * @return this pile (fluent)
+     *
+     * @since 7.9
      */
-    @SuppressWarnings( "static-method" )
-    protected int currentTopPosition()
+    public PileBase shuffleTop( final int count )
         {
 
-        return 0 ;
+        return shuffleTop( count, ThreadLocalRandom.current() ) ;
 
-        }   // end currentTopPosition()
+        }   // end shuffleTop()
 
 
     /**
-     * determine the position of a card to be added to the bottom of the pile
+     * Randomize only the top {@code count} cards' positions using the
+     * specified source of randomness
      *
-     * @return the position of the next bottom card
+     * @param count
+     *     the number of cards which will be dealt from the top
+     * @param random
+     *     the source of randomness
      *
-     * @since 3.0
+     * @return this pile (fluent)
+     *
+     * @throws IllegalArgumentException
+     *     if {@code count} is negative
+     * @throws UnsupportedOperationException
+     *     if the pile keeps its cards in order
+     *
+     * @since 7.9
      */
-    protected int nextBottomPosition()
+    public PileBase shuffleTop( final int count,
+                                final RandomGenerator random )
         {
 
-        return this.cards.size() ;
+        this.cards.shuffle( random, count ) ;
 
-        }   // end nextBottomPosition()
+        notifyListeners( PileChange.SHUFFLED, this.cards.size(), null ) ;
+
+        return this ;
+
+        }   // end shuffleTop() with generator
 
 
     /**
-     * determine the position of a card to be added to the top of the pile
+     * Capture the cards in the pile, in order, as an immutable sequence
+     * <p>
+     * O(1) if the pile holds its cards in a {@link PersistentPileStorage};
+     * otherwise O(n). Either way, later changes to the pile don't affect the
+     * snapshot. The cards themselves are shared, so their orientation isn't
+     * captured.
      *
-     * @return the position of the next top card
+     * @return the current contents of the pile
      *
-     * @since 3.0
+     * @since 7.13
      */
-    @SuppressWarnings( "static-method" )
-    protected int nextTopPosition()
+    public PileSnapshot snapshot()
         {
 
-        return 0 ;
+        if ( this.cards instanceof final PersistentPileStorage persistentCards )
+            {
+            return persistentCards.snapshot() ;
+            }
 
-        }   // end nextTopPosition()
+        return PileSnapshot.of( this.cards ) ;
+
+        }   // end snapshot()
 
 
     /**
-     * set the persistence requirements for this pile (permanent, template,
-     * temporary, unrestricted)
-     *
-     * @param persistenceSetting
-     *     a non-{@code null} specification
+     * Reorder (sort) the cards in the deck
+     * <p>
+     * stable - cards which compare equal keep their relative order. If every
+     * card is of the same class and has a sort key
+     * ({@link CardBase#getSortKey()}), the cards are counted into place in
+     * O(n); otherwise they're sorted by comparison.
      *
      * @return this pile (fluent)
-     *
-     * @since 5.0
      */
-    public PileBase setAcceptablePersistence( final Persistence persistenceSetting )
+    public PileBase sort()
         {
 
-        Objects.requireNonNull( persistenceSetting, "persistenceSetting" ) ;
+        if ( !sortByKeys() )
+            {
+            Collections.sort( this.cards ) ;
+            }
 
-        this.acceptablePersistence = persistenceSetting ;
+        notifyListeners( PileChange.SORTED, this.cards.size(), null ) ;
 
-        return this ;   // fluent
+        return this ;
 
-        }   // end setAcceptablePersistence()
+        }   // end sort()
 
 
-    /*
-     * private utility methods
+    /**
+     * Creates a spliterator over the cards in the pile, top first
+     * <p>
+     * the spliterator is the storage's own: the array layouts split in half
+     * by position ({@code SIZED}, {@code SUBSIZED} and {@code ORDERED});
+     * linked storage splits off batches. It's fail-fast if the pile gains or
+     * loses cards while it's in use, except over
+     * {@link PersistentPileStorage}, which traverses the version current when
+     * the spliterator was created.
+     *
+     * @return a new {@code Spliterator}
+     *
+     * @since 7.15
      */
+    @Override
+    public Spliterator<CardBase> spliterator()
+        {
+
+        applyPileOrientation() ;
+
+        return this.cards.spliterator() ;
+
+        }   // end spliterator()
 
 
     /**
-     * prepare a card to be added to this pile:
-     * <ul>
-     * <li>must be provided (non-{@code null})
-     * <li>must have an acceptable persistence
-     * <li>adjust orientation if necessary
-     * </ul>
+     * Stream the cards in the pile, top first
+     * <p>
+     * see {@link #spliterator()}
      *
-     * @param newCard
-     *     the card to be added
+     * @return a sequential stream of the cards
      *
-     * @since 5.0
+     * @since 7.15
      */
-    private void prepareCardToAdd( final CardBase newCard )
+    public Stream<CardBase> stream()
         {
 
-        // new card is required
-        Objects.requireNonNull( newCard, "newCard" ) ;
+        return StreamSupport.stream( spliterator(), false ) ;
+
+        }   // end stream()
+
+
+    /**
+     * Look at the top cards of the pile without removing or copying them
+     *
+     * @param count
+     *     the number of cards to include
+     *
+     * @return a live, read-only view of the top {@code count} cards
+     *     ({@link PileView})
+     *
+     * @throws IndexOutOfBoundsException
+     *     if {@code count} is negative or greater than the number of cards in
+     *     the pile
+     *
+     * @since 7.14
+     */
+    public PileView topView( final int count ) throws IndexOutOfBoundsException
+        {
+
+        return view( 0, count ) ;
+
+        }   // end topView()
+
+
+    @Override
+    public String toString()
+        {
+
+        if ( ( this.pileOrientation == AS_IS ) && !this.flipPending )
+            {
+            return this.cards.toString() ;
+            }
+
+        // render each card as shown without turning any over
+        final StringBuilder cardsText = new StringBuilder( "[" ) ;
+
+        for ( final CardBase aCard : this.cards )
+            {
+
+            if ( cardsText.length() > 1 )
+                {
+                cardsText.append( ", " ) ;
+                }
+
+            cardsText.append( aCard.toString( shownOrientationOf( aCard ) ) ) ;
+            }
+
+        return cardsText.append( ']' ).toString() ;
+
+        }   // end toString()
+
+
+    /**
+     * Remove the top card from the pile, if any
+     * <p>
+     * for callers which expect empty piles - nothing is thrown
+     *
+     * @return the top card or {@code null} if the pile is empty
+     *
+     * @since 7.17
+     */
+    public CardBase tryRemoveTopCard()
+        {
+
+        if ( isEmpty() )
+            {
+            return null ;
+            }
+
+        return releaseCard( this.cards.removeFirst() ) ;
+
+        }   // end tryRemoveTopCard()
+
+
+    /**
+     * Look at a range of the pile's cards without removing or copying them
+     *
+     * @param fromPosition
+     *     the position of the first card to include - 0 is the top
+     * @param toPosition
+     *     the position after the last card to include
+     *
+     * @return a live, read-only view of the cards ({@link PileView})
+     *
+     * @throws IndexOutOfBoundsException
+     *     if the range isn't within the pile
+     *
+     * @since 7.14
+     */
+    public PileView view( final int fromPosition,
+                          final int toPosition ) throws IndexOutOfBoundsException
+        {
+
+        Objects.checkFromToIndex( fromPosition, toPosition, this.cards.size() ) ;
+
+        return new PileView( this, fromPosition, toPosition ) ;
+
+        }   // end view()
+
+
+    /*
+     * protected utility methods
+     */
+
+
+    /**
+     * turn every card to the orientation recorded for the pile by
+     * {@code revealAll()}, {@code hideAll()} or {@code flipAll()}, if any
+     * <p>
+     * subclasses which expose cards directly from {@code cards} should call
+     * this first
+     *
+     * @since 7.8
+     */
+    protected void applyPileOrientation()
+        {
+
+        if ( ( this.pileOrientation == AS_IS ) && !this.flipPending )
+            {
+            return ;
+            }
+
+        for ( final CardBase aCard : this.cards )
+            {
+            aCard.setOrientation( shownOrientationOf( aCard ) ) ;
+            }
+
+        this.pileOrientation = AS_IS ;
+        this.flipPending = false ;
+
+        }   // end applyPileOrientation()
+
+
+    /**
+     * determine the position of the card currently on the bottom of the pile
+     *
+     * @return the position of the current bottom card
+     *
+     * @since 3.0
+     */
+    protected int currentBottomPosition()
+        {
+
+        return ( this.cards.size() - 1 ) ;
+
+        }   // end currentBottomPosition()
+
+
+    /**
+     * determine the position of the card currently on top of the pile
+     *
+     * @return the position of the current top card
+     *
+     * @since 3.0
+     */
+    @SuppressWarnings( "static-method" )
+    protected int currentTopPosition()
+        {
+
+        return 0 ;
+
+        }   // end currentTopPosition()
+
+
+    /**
+     * determine the position of a card to be added to the bottom of the pile
+     *
+     * @return the position of the next bottom card
+     *
+     * @since 3.0
+     */
+    protected int nextBottomPosition()
+        {
+
+        return this.cards.size() ;
+
+        }   // end nextBottomPosition()
+
+
+    /**
+     * determine the position of a card to be added to the top of the pile
+     *
+     * @return the position of the next top card
+     *
+     * @since 3.0
+     */
+    @SuppressWarnings( "static-method" )
+    protected int nextTopPosition()
+        {
+
+        return 0 ;
+
+        }   // end nextTopPosition()
+
+
+    /**
+     * set the persistence requirements for this pile (permanent, template,
+     * temporary, unrestricted)
+     *
+     * @param persistenceSetting
+     *     a non-{@code null} specification
+     *
+     * @return this pile (fluent)
+     *
+     * @since 5.0
+     */
+    public PileBase setAcceptablePersistence( final Persistence persistenceSetting )
+        {
+
+        Objects.requireNonNull( persistenceSetting, "persistenceSetting" ) ;
+
+        this.acceptablePersistence = persistenceSetting ;
+
+        return this ;   // fluent
+
+        }   // end setAcceptablePersistence()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * sort the cards by counting their sort keys, if they all have one
+     * <p>
+     * stable - produces the same order as sorting by comparison
+     *
+     * @return {@code true} if the cards were sorted, {@code false} if they
+     *     must be sorted by comparison
+     *
+     * @since 7.12
+     */
+    private boolean sortByKeys()
+        {
+
+        final int cardCount = this.cards.size() ;
+
+        if ( cardCount < COUNTING_SORT_MINIMUM )
+            {
+            return false ;
+            }
+
+        final CardBase[] unsorted = this.cards.toArray( new CardBase[ cardCount ] ) ;
+        final Class<? extends CardBase> cardClass = unsorted[ 0 ].getClass() ;
+        final int[] keys = new int[ cardCount ] ;
+        int keyCount = 0 ;
+
+        // look up each key once
+        for ( int i = 0 ; i < cardCount ; i++ )
+            {
+            final int key = unsorted[ i ].getSortKey() ;
+
+            if ( ( key == NO_SORT_KEY ) || ( key >= COUNTING_SORT_KEY_LIMIT )
+                 || ( unsorted[ i ].getClass() != cardClass ) )
+                {
+                return false ;
+                }
+
+            keys[ i ] = key ;
+            keyCount = Math.max( keyCount, key + 1 ) ;
+            }
+
+        // starts[ k ] becomes the first position for cards with key k
+        final int[] starts = new int[ keyCount + 1 ] ;
+
+        for ( final int key : keys )
+            {
+            starts[ key + 1 ]++ ;
+            }
+
+        for ( int key = 1 ; key <= keyCount ; key++ )
+            {
+            starts[ key ] += starts[ key - 1 ] ;
+            }
+
+        // place the cards in their original order within each key
+        final CardBase[] sorted = new CardBase[ cardCount ] ;
+
+        for ( int i = 0 ; i < cardCount ; i++ )
+            {
+            sorted[ starts[ keys[ i ] ]++ ] = unsorted[ i ] ;
+            }
+
+        this.cards.clear() ;
+        this.cards.addAll( Arrays.asList( sorted ) ) ;
+
+        return true ;
+
+        }   // end sortByKeys()
+
+
+    /**
+     * make sure this pile will accept every card in a batch
+     *
+     * @param newCards
+     *     the cards to be added
+     *
+     * @throws IllegalArgumentException
+     *     if any card isn't acceptable
+     *
+     * @since 7.11
+     */
+    private void checkAcceptable( final Collection<? extends CardBase> newCards )
+        {
+
+        for ( final CardBase newCard : newCards )
+            {
+            rejectLookupOnly( newCard ) ;   // checks for null argument
+
+            if ( ( this.acceptablePersistence != UNRESTRICTED )
+                 && ( this.acceptablePersistence != newCard.getPersistence() ) )
+                {
+                throw new IllegalArgumentException( String.format( "%s only accepting %s cards given a %s card",
+                                                                   this.getClass().getSimpleName(),
+                                                                   this.acceptablePersistence,
+                                                                   newCard.getPersistence() ) ) ;
+                }
+
+            }
+
+        }   // end checkAcceptable()
+
+
+    /**
+     * remove every card without reporting it - the caller reports the change
+     *
+     * @since 7.16
+     */
+    private void emptyCards()
+        {
+
+        // the cards leave showing what they showed here
+        applyPileOrientation() ;
+
+        this.cards.clear() ;
+
+        }   // end emptyCards()
+
+
+    /**
+     * report a change to each registered listener, if any
+     * <p>
+     * no event is created unless someone's listening and at least one card is
+     * involved
+     *
+     * @param change
+     *     the kind of change
+     * @param cardCount
+     *     see {@link PileChange}
+     * @param counterpart
+     *     the other pile in a move or {@code null}
+     *
+     * @since 7.16
+     */
+    private void notifyListeners( final PileChange change,
+                                  final int cardCount,
+                                  final PileBase counterpart )
+        {
+
+        final PileListener[] currentListeners = this.listeners ;
+
+        if ( ( currentListeners == null ) || ( cardCount == 0 ) )
+            {
+            return ;
+            }
+
+        final PileEvent event = new PileEvent( this, change, cardCount, counterpart ) ;
+
+        for ( final PileListener listener : currentListeners )
+            {
+            listener.pileChanged( event ) ;
+            }
+
+        }   // end notifyListeners()
+
+
+    /**
+     * prepare a card to be added to this pile:
+     * <ul>
+     * <li>must be provided (non-{@code null})
+     * <li>mustn't be lookup-only
+     * <li>must have an acceptable persistence
+     * <li>adjust orientation if necessary
+     * </ul>
+     *
+     * @param newCard
+     *     the card to be added
+     *
+     * @since 5.0
+     */
+    private void prepareCardToAdd( final CardBase newCard )
+        {
+
+        // new card is required and must be able to join a pile
+        rejectLookupOnly( newCard ) ;
 
         // check persistence
         // card's persistence must match ours
@@ -1073,6 +2408,310 @@ public abstract class PileBase implements Iterable<CardBase>
         }   // end prepareCardToAdd()
 
 
+    /**
+     * prepare a batch of cards to add to this pile - same rules as
+     * {@code prepareCardToAdd()}, but every card is validated before any card
+     * is turned over
+     *
+     * @param newCards
+     *     the cards to be added
+     *
+     * @throws IllegalArgumentException
+     *     if {@code newCards} is this pile's storage or any card isn't
+     *     acceptable
+     *
+     * @since 7.4
+     */
+    private void prepareCardsToAdd( final Collection<? extends CardBase> newCards )
+        {
+
+        Objects.requireNonNull( newCards, "newCards" ) ;
+
+        if ( newCards == this.cards )
+            {
+            throw new IllegalArgumentException( "can't add a pile's cards to itself" ) ;
+            }
+
+        // check persistence
+        checkAcceptable( newCards ) ;
+
+        // set orientation if necessary
+        if ( this.defaultOrientation != AS_IS )
+            {
+
+            for ( final CardBase newCard : newCards )
+                {
+                newCard.setOrientation( this.defaultOrientation ) ;
+                }
+
+            }
+
+        }   // end prepareCardsToAdd()
+
+
+    /**
+     * make the pile-wide orientations of this pile and a pile whose cards are
+     * about to be moved here compatible - the other pile's recorded
+     * orientation is carried over when it can be, otherwise both are applied
+     *
+     * @param otherCards
+     *     the pile whose cards will be moved to this pile
+     *
+     * @since 7.8
+     */
+    private void reconcilePileOrientation( final PileBase otherCards )
+        {
+
+        if ( this.cards.isEmpty() || ( otherCards == this ) )
+            {
+            // our (lack of) cards can take on the other pile's orientation
+            this.pileOrientation = otherCards.pileOrientation ;
+            this.flipPending = otherCards.flipPending ;
+            }
+        else if ( ( this.pileOrientation != otherCards.pileOrientation )
+                  || ( this.flipPending != otherCards.flipPending ) )
+            {
+            applyPileOrientation() ;
+            otherCards.applyPileOrientation() ;
+            }
+
+        // the other pile is about to be empty
+        if ( otherCards != this )
+            {
+            otherCards.pileOrientation = AS_IS ;
+            otherCards.flipPending = false ;
+            }
+
+        }   // end reconcilePileOrientation()
+
+
+    /**
+     * make sure a card can be added to a pile
+     *
+     * @param newCard
+     *     the card to be added
+     *
+     * @throws IllegalArgumentException
+     *     if the card is lookup-only - a shared instance for finding/matching
+     *     cards
+     *
+     * @since 7.18
+     */
+    private static void rejectLookupOnly( final CardBase newCard ) throws IllegalArgumentException
+        {
+
+        Objects.requireNonNull( newCard, "newCard" ) ;
+
+        if ( newCard.isLookupOnly() )
+            {
+            throw new IllegalArgumentException( "lookup-only cards can't be added to a pile" ) ;
+            }
+
+        }   // end rejectLookupOnly()
+
+
+    /**
+     * a card is leaving the pile - turn it to the orientation it was shown
+     * with
+     *
+     * @param removedCard
+     *     the card which was removed or {@code null}
+     *
+     * @return {@code removedCard} (fluent)
+     *
+     * @since 7.8
+     */
+    private CardBase releaseCard( final CardBase removedCard )
+        {
+
+        if ( ( removedCard != null ) && ( ( this.pileOrientation != AS_IS ) || this.flipPending ) )
+            {
+            removedCard.setOrientation( shownOrientationOf( removedCard ) ) ;
+            }
+
+        if ( removedCard != null )
+            {
+            notifyListeners( PileChange.REMOVED, 1, null ) ;
+            }
+
+        return removedCard ;
+
+        }   // end releaseCard()
+
+
+    /**
+     * report that cards were moved from another pile to this one, to the
+     * listeners of both
+     *
+     * @param sourcePile
+     *     the pile the cards came from
+     * @param movedCount
+     *     the number of cards moved
+     *
+     * @since 7.16
+     */
+    private void reportMoveFrom( final PileBase sourcePile,
+                                 final int movedCount )
+        {
+
+        sourcePile.notifyListeners( PileChange.MOVED_OUT, movedCount, this ) ;
+        notifyListeners( PileChange.MOVED_IN, movedCount, sourcePile ) ;
+
+        }   // end reportMoveFrom()
+
+
+    /**
+     * a card is being handed out but stays in the pile - make sure it shows
+     * the orientation the pile shows for it
+     *
+     * @param retrievedCard
+     *     the card being handed out or {@code null}
+     *
+     * @return {@code retrievedCard} (fluent)
+     *
+     * @since 7.8
+     */
+    private CardBase showCard( final CardBase retrievedCard )
+        {
+
+        if ( this.flipPending )
+            {
+            // can't flip just this card without it being flipped again later
+            applyPileOrientation() ;
+            }
+        else if ( ( retrievedCard != null ) && ( this.pileOrientation != AS_IS ) )
+            {
+            retrievedCard.setOrientation( this.pileOrientation ) ;
+            }
+
+        return retrievedCard ;
+
+        }   // end showCard()
+
+
+    /**
+     * determine the orientation a card in this pile is shown with
+     *
+     * @param aCard
+     *     a card in this pile
+     *
+     * @return the card's own orientation adjusted by the pile's
+     *
+     * @since 7.8
+     */
+    private Orientation shownOrientationOf( final CardBase aCard )
+        {
+
+        if ( this.pileOrientation != AS_IS )
+            {
+            return this.pileOrientation ;
+            }
+
+        return this.flipPending
+                ? aCard.getOrientation().flip()
+                : aCard.getOrientation() ;
+
+        }   // end shownOrientationOf()
+
+
+    /**
+     * count the cards equal to the specified card using the per-identity
+     * counts of an indexed {@code LinkedPileStorage}, if possible
+     *
+     * @param lookFor
+     *     the card to count
+     *
+     * @return the number of equal cards or {@code UNKNOWN_COUNT} if the counts
+     *     can't answer
+     *
+     * @since 7.3
+     */
+    private int countLike( final CardBase lookFor )
+        {
+
+        if ( ( this.cards instanceof final LinkedPileStorage countedCards )
+             && countedCards.allCardsCounted()
+             && lookFor.equalityUsesIdentity()
+             && countedCards.isCounted( lookFor ) )
+            {
+            return countedCards.countOf( lookFor.getIdentity() ) ;
+            }
+
+        return UNKNOWN_COUNT ;
+
+        }   // end countLike()
+
+
+    /**
+     * determine whether lookups for the specified card can use an identity
+     * index
+     *
+     * @param lookFor
+     *     the card to look for
+     *
+     * @return the indexed storage or {@code null} if the pile must be searched
+     *
+     * @since 7.5
+     */
+    private LinkedPileStorage identityIndexFor( final CardBase lookFor )
+        {
+
+        if ( ( this.cards instanceof final LinkedPileStorage linkedCards )
+             && linkedCards.isIndexed()
+             && ( lookFor.getIdentity() != NO_IDENTITY )
+             && lookFor.equalityUsesIdentity() )
+            {
+            return linkedCards ;
+            }
+
+        return null ;
+
+        }   // end identityIndexFor()
+
+
+    /**
+     * find the first card equal to the specified card
+     * <p>
+     * when the card type allows it, compares identities (small integers)
+     * rather than calling {@code equals()} for every card in the pile
+     *
+     * @param lookFor
+     *     the card to look for
+     *
+     * @return the 0-based position of the first equal card or -1 if there is
+     *     none
+     *
+     * @since 7.2
+     */
+    private int positionOf( final CardBase lookFor )
+        {
+
+        final int identity = lookFor.getIdentity() ;
+
+        if ( ( identity == NO_IDENTITY ) || !lookFor.equalityUsesIdentity() )
+            {
+            return this.cards.indexOf( lookFor ) ;
+            }
+
+        final Class<? extends CardBase> lookForClass = lookFor.getClass() ;
+        int position = 0 ;
+
+        for ( final CardBase aCard : this.cards )
+            {
+
+            if ( ( aCard.getIdentity() == identity ) && ( aCard.getClass() == lookForClass ) )
+                {
+                return position ;
+                }
+
+            position++ ;
+            }
+
+        return -1 ;
+
+        }   // end positionOf()
+
+
     /*
      * testing/debugging
      */
@@ -1084,6 +2723,44 @@ public abstract class PileBase implements Iterable<CardBase>
      */
 
 
+    /**
+     * selects the cards at marked positions - relies on a storage's
+     * {@code removeIf()} testing each card once, top first
+     */
+    private static final class MarkedPositions implements Predicate<CardBase>
+        {
+
+        /** the positions to select */
+        private final BitSet marked ;
+
+        /** the position of the card which will be tested next */
+        private int nextPosition ;
+
+
+        /**
+         * @param markedPositions
+         *     the positions to select
+         */
+        private MarkedPositions( final BitSet markedPositions )
+            {
+
+            this.marked = markedPositions ;
+            this.nextPosition = 0 ;
+
+            }   // end constructor
+
+
+        @Override
+        public boolean test( final CardBase aCard )
+            {
+
+            return this.marked.get( this.nextPosition++ ) ;
+
+            }   // end test()
+
+        }   // end inner class MarkedPositions
+
+
     /**
      * enable iteration over all cards in the pile
      */
@@ -1165,6 +2842,8 @@ public abstract class PileBase implements Iterable<CardBase>
 
             this.cardIterator.remove() ;
 
+            notifyListeners( PileChange.REMOVED, 1, null ) ;
+
             }   // end remove()
 
 
@@ -1172,8 +2851,12 @@ public abstract class PileBase implements Iterable<CardBase>
         public void set( final CardBase replacementCard )
             {
 
+            rejectLookupOnly( replacementCard ) ;
+
             this.cardIterator.set( replacementCard ) ;
 
+            notifyListeners( PileChange.REPLACED, 1, null ) ;
+
             }   // end set()
 
 
@@ -1181,8 +2864,12 @@ public abstract class PileBase implements Iterable<CardBase>
         public void add( final CardBase newCard )
             {
 
+            rejectLookupOnly( newCard ) ;
+
             this.cardIterator.add( newCard ) ;
 
+            notifyListeners( PileChange.ADDED, 1, null ) ;
+
             }   // end add()
 
         }   // end inner class CardBaseIterator
@@ -0,0 +1,152 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+/**
+ * The kinds of change a pile reports to its {@link PileListener}s
+ * <p>
+ * a cumulative change's card count is the number of cards affected, so
+ * consecutive reports of it can be summed; for any other change, the count is
+ * the size of the pile afterward, so only the latest report matters
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public enum PileChange
+    {
+
+    // @formatter:off
+
+    /** cards were added from outside any pile */
+    ADDED ( "Added", true )
+
+    , /** cards were removed, other than into another pile */
+    REMOVED ( "Removed", true )
+
+    , /** cards were replaced in place */
+    REPLACED ( "Replaced", true )
+
+    , /** cards were moved here from another pile in one batch */
+    MOVED_IN ( "Moved in", true )
+
+    , /** cards were moved from here to another pile (or piles) in one batch */
+    MOVED_OUT ( "Moved out", true )
+
+    , /** some or all cards were shuffled */
+    SHUFFLED ( "Shuffled", false )
+
+    , /** the cards were sorted */
+    SORTED ( "Sorted", false )
+
+    , /** every card was turned face up, face down or over */
+    TURNED ( "Turned", false )
+
+    ;
+    // @formatter:on
+
+
+    /*
+     * data fields
+     */
+
+
+    /** 'pretty' (capitalized) form of the change name */
+    private final String displayName ;
+
+    /** {@code true} if the card counts of consecutive changes can be summed */
+    private final boolean cumulative ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * constructor
+     *
+     * @param theDisplayName
+     *     'pretty' (capitalized) form of the change's name
+     * @param isCumulative
+     *     {@code true} if the card counts of consecutive changes can be summed
+     */
+    private PileChange( final String theDisplayName,
+                        final boolean isCumulative )
+        {
+
+        this.displayName = theDisplayName ;
+        this.cumulative = isCumulative ;
+
+        }   // end constructor
+
+
+    /*
+     * public methods
+     */
+
+
+    /**
+     * retrieve the display name
+     *
+     * @return the 'pretty' name
+     */
+    public String getDisplayName()
+        {
+
+        return this.displayName ;
+
+        }   // end getDisplayName()
+
+
+    /**
+     * determine whether consecutive changes of this kind can be combined by
+     * summing their card counts
+     *
+     * @return {@code true} if the card count is the number of cards affected
+     */
+    public boolean isCumulative()
+        {
+
+        return this.cumulative ;
+
+        }   // end isCumulative()
+
+
+    @Override
+    public String toString()
+        {
+
+        return this.displayName ;
+
+        }   // end toString()
+
+    }   // end enum PileChange
\ No newline at end of file
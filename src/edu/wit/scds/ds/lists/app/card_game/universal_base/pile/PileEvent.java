@@ -0,0 +1,217 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import java.util.Objects ;
+
+
+/**
+ * A report of a change to a pile - which pile, what kind of change, how many
+ * cards and, for moves between piles, the other pile
+ * <p>
+ * events are immutable; a pile only creates them while it has listeners.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class PileEvent
+    {
+
+    /*
+     * data fields
+     */
+
+
+    /** the pile which changed */
+    private final PileBase pile ;
+
+    /** the kind of change */
+    private final PileChange change ;
+
+    /** see {@link PileChange} */
+    private final int cardCount ;
+
+    /** the other pile in a move or {@code null} */
+    private final PileBase counterpart ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize an event
+     *
+     * @param changedPile
+     *     the pile which changed
+     * @param theChange
+     *     the kind of change
+     * @param theCardCount
+     *     the number of cards affected or, for a non-cumulative change, the
+     *     number of cards in the pile
+     * @param otherPile
+     *     the other pile in a move or {@code null}
+     */
+    public PileEvent( final PileBase changedPile,
+                      final PileChange theChange,
+                      final int theCardCount,
+                      final PileBase otherPile )
+        {
+
+        this.pile = Objects.requireNonNull( changedPile, "changedPile" ) ;
+        this.change = Objects.requireNonNull( theChange, "theChange" ) ;
+        this.cardCount = theCardCount ;
+        this.counterpart = otherPile ;
+
+        }   // end 4-arg constructor
+
+
+    /*
+     * accessors
+     */
+
+
+    /**
+     * @return the number of cards affected or, for a non-cumulative change,
+     *     the number of cards in the pile afterward
+     */
+    public int getCardCount()
+        {
+
+        return this.cardCount ;
+
+        }   // end getCardCount()
+
+
+    /**
+     * @return the kind of change
+     */
+    public PileChange getChange()
+        {
+
+        return this.change ;
+
+        }   // end getChange()
+
+
+    /**
+     * @return the other pile in a move or {@code null}
+     */
+    public PileBase getCounterpart()
+        {
+
+        return this.counterpart ;
+
+        }   // end getCounterpart()
+
+
+    /**
+     * @return the pile which changed
+     */
+    public PileBase getPile()
+        {
+
+        return this.pile ;
+
+        }   // end getPile()
+
+
+    /*
+     * coalescing
+     */
+
+
+    /**
+     * determine whether a later event can be folded into this one
+     *
+     * @param laterEvent
+     *     an event which occurred after this one
+     *
+     * @return {@code true} if both events are the same kind of change to the
+     *     same pile involving the same other pile
+     */
+    public boolean canCombineWith( final PileEvent laterEvent )
+        {
+
+        return ( laterEvent.pile == this.pile ) && ( laterEvent.change == this.change )
+               && ( laterEvent.counterpart == this.counterpart ) ;
+
+        }   // end canCombineWith()
+
+
+    /**
+     * fold a later event into this one
+     *
+     * @param laterEvent
+     *     an event which occurred after this one and which
+     *     {@link #canCombineWith(PileEvent) can be combined with it}
+     *
+     * @return a new event equivalent to both
+     *
+     * @throws IllegalArgumentException
+     *     if the events can't be combined
+     */
+    public PileEvent combineWith( final PileEvent laterEvent ) throws IllegalArgumentException
+        {
+
+        if ( !canCombineWith( laterEvent ) )
+            {
+            throw new IllegalArgumentException( String.format( "can't combine %s with %s", this, laterEvent ) ) ;
+            }
+
+        final int combinedCount = this.change.isCumulative()
+                ? this.cardCount + laterEvent.cardCount
+                : laterEvent.cardCount ;
+
+        return new PileEvent( this.pile, this.change, combinedCount, this.counterpart ) ;
+
+        }   // end combineWith()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "%s %,d card%s%s",
+                              this.change,
+                              this.cardCount,
+                              this.cardCount == 1
+                                      ? ""
+                                      : "s",
+                              this.counterpart == null
+                                      ? ""
+                                      : String.format( " (%s)", this.counterpart.getClass().getSimpleName() ) ) ;
+
+        }   // end toString()
+
+    }   // end class PileEvent
\ No newline at end of file
@@ -0,0 +1,201 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import java.util.ArrayList ;
+import java.util.Collections ;
+import java.util.IdentityHashMap ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.Objects ;
+import java.util.function.Consumer ;
+
+
+/**
+ * Collects the changes to the piles it watches and delivers them, coalesced,
+ * in a single batch each time it's flushed - typically once per turn or game
+ * tick
+ * <p>
+ * consecutive changes of the same kind to the same pile are combined (see
+ * {@link PileEvent#combineWith(PileEvent)}): ten cards drawn one at a time
+ * arrive as one {@code REMOVED} event for ten cards. The changes to each pile
+ * keep their relative order.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class PileEventBatcher implements PileListener
+    {
+
+    /*
+     * data fields
+     */
+
+
+    /** receives each batch */
+    private final Consumer<List<PileEvent>> batchConsumer ;
+
+    /** the changes since the last flush, in the order they occurred */
+    private List<PileEvent> pendingEvents ;
+
+    /** the position in {@code pendingEvents} of each pile's latest change */
+    private final Map<PileBase, Integer> latestEventPositions ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize a batcher
+     *
+     * @param consumer
+     *     receives each non-empty batch
+     */
+    public PileEventBatcher( final Consumer<List<PileEvent>> consumer )
+        {
+
+        this.batchConsumer = Objects.requireNonNull( consumer, "consumer" ) ;
+        this.pendingEvents = new ArrayList<>() ;
+        this.latestEventPositions = new IdentityHashMap<>() ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * public methods
+     */
+
+
+    /**
+     * deliver the changes collected since the last flush, if any
+     *
+     * @return the number of (coalesced) events delivered
+     */
+    public int flush()
+        {
+
+        if ( this.pendingEvents.isEmpty() )
+            {
+            return 0 ;
+            }
+
+        final List<PileEvent> batch = Collections.unmodifiableList( this.pendingEvents ) ;
+
+        // start a new batch first in case the consumer changes a watched pile
+        this.pendingEvents = new ArrayList<>() ;
+        this.latestEventPositions.clear() ;
+
+        this.batchConsumer.accept( batch ) ;
+
+        return batch.size() ;
+
+        }   // end flush()
+
+
+    /**
+     * determine whether any changes are waiting to be delivered
+     *
+     * @return {@code true} if a flush would deliver a batch
+     */
+    public boolean hasPendingEvents()
+        {
+
+        return !this.pendingEvents.isEmpty() ;
+
+        }   // end hasPendingEvents()
+
+
+    @Override
+    public void pileChanged( final PileEvent event )
+        {
+
+        final Integer latestPosition = this.latestEventPositions.get( event.getPile() ) ;
+
+        if ( latestPosition != null )
+            {
+            final PileEvent latestEvent = this.pendingEvents.get( latestPosition ) ;
+
+            if ( latestEvent.canCombineWith( event ) )
+                {
+                this.pendingEvents.set( latestPosition, latestEvent.combineWith( event ) ) ;
+
+                return ;
+                }
+
+            }
+
+        this.latestEventPositions.put( event.getPile(), this.pendingEvents.size() ) ;
+        this.pendingEvents.add( event ) ;
+
+        }   // end pileChanged()
+
+
+    /**
+     * stop collecting a pile's changes - those already collected are still
+     * delivered
+     *
+     * @param pile
+     *     a pile this batcher watches
+     *
+     * @return this batcher (fluent)
+     */
+    public PileEventBatcher unwatch( final PileBase pile )
+        {
+
+        pile.removeListener( this ) ;
+        this.latestEventPositions.remove( pile ) ;
+
+        return this ;
+
+        }   // end unwatch()
+
+
+    /**
+     * start collecting a pile's changes
+     *
+     * @param pile
+     *     the pile to watch
+     *
+     * @return this batcher (fluent)
+     */
+    public PileEventBatcher watch( final PileBase pile )
+        {
+
+        pile.addListener( this ) ;
+
+        return this ;
+
+        }   // end watch()
+
+    }   // end class PileEventBatcher
\ No newline at end of file
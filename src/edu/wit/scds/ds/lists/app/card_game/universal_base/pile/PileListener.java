@@ -0,0 +1,56 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+/**
+ * Receives a report of each change to the piles it's registered with (see
+ * {@link PileBase#addListener(PileListener)})
+ * <p>
+ * listeners are called synchronously, after the change is complete, so they
+ * should be quick; a {@link PileEventBatcher} collects the reports for
+ * delivery later instead.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public interface PileListener
+    {
+
+    /**
+     * a pile has changed
+     *
+     * @param event
+     *     a description of the change
+     */
+    void pileChanged( PileEvent event ) ;
+
+    }   // end interface PileListener
\ No newline at end of file
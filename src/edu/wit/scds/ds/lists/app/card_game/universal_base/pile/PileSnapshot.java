@@ -0,0 +1,795 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
+import java.util.AbstractList ;
+import java.util.ArrayDeque ;
+import java.util.Collection ;
+import java.util.Deque ;
+import java.util.Iterator ;
+import java.util.NoSuchElementException ;
+import java.util.Objects ;
+import java.util.Spliterator ;
+import java.util.Spliterators ;
+
+
+/**
+ * Immutable, persistent sequence of cards - the cards in a pile at some moment
+ * <p>
+ * the cards are held in a balanced (AVL) tree ordered by position. A snapshot
+ * never changes; the {@code with...()} methods return a new snapshot which
+ * shares all but O(log n) of its nodes with this one, so keeping every
+ * version of a pile (for undo, search or spectators) costs O(log n) memory per
+ * change rather than a copy of the pile.
+ * <p>
+ * positional access is O(log n); iteration is O(1) per card. The list's
+ * mutators throw {@code UnsupportedOperationException}.
+ * <p>
+ * the cards themselves are shared, not copied - a snapshot records which
+ * cards were in the pile, and in what order, but not how each was turned.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 report an {@code IMMUTABLE} spliterator
+ */
+public final class PileSnapshot extends AbstractList<CardBase>
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** the snapshot of an empty pile */
+    private final static PileSnapshot EMPTY = new PileSnapshot( null ) ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** the root of the tree or {@code null} if there are no cards */
+    private final Node root ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * wrap a tree
+     *
+     * @param treeRoot
+     *     the root of the tree or {@code null}
+     */
+    private PileSnapshot( final Node treeRoot )
+        {
+
+        this.root = treeRoot ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * factories
+     */
+
+
+    /**
+     * retrieve the snapshot of an empty pile
+     *
+     * @return a snapshot with no cards
+     */
+    public static PileSnapshot empty()
+        {
+
+        return EMPTY ;
+
+        }   // end empty()
+
+
+    /**
+     * capture a sequence of cards
+     * <p>
+     * O(n) - the tree is built directly, already balanced
+     *
+     * @param cards
+     *     the cards, top first
+     *
+     * @return a snapshot of the cards
+     */
+    public static PileSnapshot of( final Collection<? extends CardBase> cards )
+        {
+
+        Objects.requireNonNull( cards, "cards" ) ;
+
+        if ( cards instanceof final PileSnapshot snapshot )
+            {
+            return snapshot ;
+            }
+
+        final CardBase[] contents = cards.toArray( new CardBase[ 0 ] ) ;
+
+        return wrap( build( contents, 0, contents.length ) ) ;
+
+        }   // end of()
+
+
+    /*
+     * List methods
+     */
+
+
+    @Override
+    public CardBase get( final int position )
+        {
+
+        Objects.checkIndex( position, size() ) ;
+
+        Node node = this.root ;
+        int remaining = position ;
+
+        while ( true )
+            {
+            final int leftSize = sizeOf( node.left ) ;
+
+            if ( remaining < leftSize )
+                {
+                node = node.left ;
+                }
+            else if ( remaining == leftSize )
+                {
+                return node.card ;
+                }
+            else
+                {
+                remaining -= leftSize + 1 ;
+                node = node.right ;
+                }
+
+            }
+
+        }   // end get()
+
+
+    @Override
+    public Iterator<CardBase> iterator()
+        {
+
+        return new SnapshotIterator( this.root ) ;
+
+        }   // end iterator()
+
+
+    @Override
+    public int size()
+        {
+
+        return sizeOf( this.root ) ;
+
+        }   // end size()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * {@code IMMUTABLE} as well as {@code SIZED} and {@code ORDERED}; splits
+     * off batches from the in-order traversal
+     *
+     * @since 1.1
+     */
+    @Override
+    public Spliterator<CardBase> spliterator()
+        {
+
+        return Spliterators.spliterator( this, Spliterator.ORDERED | Spliterator.IMMUTABLE ) ;
+
+        }   // end spliterator()
+
+
+    /*
+     * persistent updates - each returns a new snapshot and leaves this one
+     * unchanged
+     */
+
+
+    /**
+     * insert a card
+     * <p>
+     * O(log n)
+     *
+     * @param position
+     *     where the card will be - 0 is the top, {@code size()} the bottom
+     * @param card
+     *     the card to insert
+     *
+     * @return a snapshot with the card inserted
+     */
+    public PileSnapshot withCardAt( final int position,
+                                    final CardBase card )
+        {
+
+        checkPositionForAdd( position ) ;
+
+        final Node[] parts = split( this.root, position ) ;
+
+        return wrap( join( parts[ 0 ], card, parts[ 1 ] ) ) ;
+
+        }   // end withCardAt()
+
+
+    /**
+     * replace a card
+     * <p>
+     * O(log n)
+     *
+     * @param position
+     *     the position of the card to replace
+     * @param card
+     *     the replacement card
+     *
+     * @return a snapshot with the card replaced
+     */
+    public PileSnapshot withCardReplacedAt( final int position,
+                                            final CardBase card )
+        {
+
+        Objects.checkIndex( position, size() ) ;
+
+        return wrap( replace( this.root, position, card ) ) ;
+
+        }   // end withCardReplacedAt()
+
+
+    /**
+     * insert several cards, in order
+     * <p>
+     * O(k + log n), or O(log n + log k) if {@code cards} is a snapshot
+     *
+     * @param position
+     *     where the first card will be - 0 is the top, {@code size()} the
+     *     bottom
+     * @param cards
+     *     the cards to insert
+     *
+     * @return a snapshot with the cards inserted
+     */
+    public PileSnapshot withCardsAt( final int position,
+                                     final Collection<? extends CardBase> cards )
+        {
+
+        checkPositionForAdd( position ) ;
+
+        final Node inserted = of( cards ).root ;
+
+        if ( inserted == null )
+            {
+            return this ;
+            }
+
+        final Node[] parts = split( this.root, position ) ;
+
+        return wrap( concatenate( concatenate( parts[ 0 ], inserted ), parts[ 1 ] ) ) ;
+
+        }   // end withCardsAt()
+
+
+    /**
+     * remove a card
+     * <p>
+     * O(log n)
+     *
+     * @param position
+     *     the position of the card to remove
+     *
+     * @return a snapshot without the card
+     */
+    public PileSnapshot withoutCardAt( final int position )
+        {
+
+        Objects.checkIndex( position, size() ) ;
+
+        return withoutCards( position, position + 1 ) ;
+
+        }   // end withoutCardAt()
+
+
+    /**
+     * remove a range of cards
+     * <p>
+     * O(log n)
+     *
+     * @param fromPosition
+     *     the position of the first card to remove
+     * @param toPosition
+     *     the position after the last card to remove
+     *
+     * @return a snapshot without the cards
+     */
+    public PileSnapshot withoutCards( final int fromPosition,
+                                      final int toPosition )
+        {
+
+        Objects.checkFromToIndex( fromPosition, toPosition, size() ) ;
+
+        if ( fromPosition == toPosition )
+            {
+            return this ;
+            }
+
+        final Node[] upper = split( this.root, fromPosition ) ;
+        final Node[] lower = split( upper[ 1 ], toPosition - fromPosition ) ;
+
+        return wrap( concatenate( upper[ 0 ], lower[ 1 ] ) ) ;
+
+        }   // end withoutCards()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * build a balanced tree from a range of an array
+     *
+     * @param cards
+     *     the cards
+     * @param from
+     *     the first position to include
+     * @param to
+     *     the position after the last to include
+     *
+     * @return the root of the tree or {@code null} if the range is empty
+     */
+    private static Node build( final CardBase[] cards,
+                               final int from,
+                               final int to )
+        {
+
+        if ( from >= to )
+            {
+            return null ;
+            }
+
+        final int middle = ( from + to ) >>> 1 ;
+
+        return new Node( build( cards, from, middle ), cards[ middle ], build( cards, middle + 1, to ) ) ;
+
+        }   // end build()
+
+
+    /**
+     * ensure a position is valid for an insertion
+     *
+     * @param position
+     *     the position to check
+     *
+     * @throws IndexOutOfBoundsException
+     *     if the position is negative or greater than the number of cards
+     */
+    private void checkPositionForAdd( final int position ) throws IndexOutOfBoundsException
+        {
+
+        if ( ( position < 0 ) || ( position > size() ) )
+            {
+            throw new IndexOutOfBoundsException( String.format( "position: %,d, size: %,d",
+                                                                position,
+                                                                size() ) ) ;
+            }
+
+        }   // end checkPositionForAdd()
+
+
+    /**
+     * join two trees, all of {@code left}'s cards before {@code right}'s
+     *
+     * @param left
+     *     a tree or {@code null}
+     * @param right
+     *     a tree or {@code null}
+     *
+     * @return the joined tree
+     */
+    private static Node concatenate( final Node left,
+                                     final Node right )
+        {
+
+        if ( left == null )
+            {
+            return right ;
+            }
+
+        if ( right == null )
+            {
+            return left ;
+            }
+
+        // use left's last card to join them
+        final Node[] parts = split( left, left.size - 1 ) ;
+
+        return join( parts[ 0 ], parts[ 1 ].card, right ) ;
+
+        }   // end concatenate()
+
+
+    /**
+     * retrieve a tree's height
+     *
+     * @param node
+     *     the root of the tree or {@code null}
+     *
+     * @return the height - 0 if empty
+     */
+    private static int heightOf( final Node node )
+        {
+
+        return node == null
+                ? 0
+                : node.height ;
+
+        }   // end heightOf()
+
+
+    /**
+     * join two trees with a card between them, rebalancing as necessary
+     * <p>
+     * O(|height( left ) - height( right )|)
+     *
+     * @param left
+     *     the cards before {@code card} or {@code null}
+     * @param card
+     *     the card in the middle
+     * @param right
+     *     the cards after {@code card} or {@code null}
+     *
+     * @return the joined tree
+     */
+    private static Node join( final Node left,
+                              final CardBase card,
+                              final Node right )
+        {
+
+        if ( heightOf( left ) > ( heightOf( right ) + 1 ) )
+            {
+            // descend left's right spine to a subtree right can sit beside
+            final Node joined = join( left.right, card, right ) ;
+
+            return rebalance( left.left, left.card, joined ) ;
+            }
+
+        if ( heightOf( right ) > ( heightOf( left ) + 1 ) )
+            {
+            // descend right's left spine
+            final Node joined = join( left, card, right.left ) ;
+
+            return rebalance( joined, right.card, right.right ) ;
+            }
+
+        return new Node( left, card, right ) ;
+
+        }   // end join()
+
+
+    /**
+     * assemble a node whose subtrees' heights differ by at most 2, rotating
+     * if they differ by 2
+     *
+     * @param left
+     *     the left subtree or {@code null}
+     * @param card
+     *     the card at this node
+     * @param right
+     *     the right subtree or {@code null}
+     *
+     * @return the balanced subtree
+     */
+    private static Node rebalance( final Node left,
+                                   final CardBase card,
+                                   final Node right )
+        {
+
+        final int balance = heightOf( left ) - heightOf( right ) ;
+
+        if ( balance > 1 )
+            {
+
+            if ( heightOf( left.left ) >= heightOf( left.right ) )
+                {
+                // single right rotation
+                return new Node( left.left, left.card, new Node( left.right, card, right ) ) ;
+                }
+
+            // double rotation
+            return new Node( new Node( left.left, left.card, left.right.left ),
+                             left.right.card,
+                             new Node( left.right.right, card, right ) ) ;
+            }
+
+        if ( balance < -1 )
+            {
+
+            if ( heightOf( right.right ) >= heightOf( right.left ) )
+                {
+                // single left rotation
+                return new Node( new Node( left, card, right.left ), right.card, right.right ) ;
+                }
+
+            // double rotation
+            return new Node( new Node( left, card, right.left.left ),
+                             right.left.card,
+                             new Node( right.left.right, right.card, right.right ) ) ;
+            }
+
+        return new Node( left, card, right ) ;
+
+        }   // end rebalance()
+
+
+    /**
+     * copy the path to a position, replacing the card there
+     *
+     * @param node
+     *     the root of the (sub)tree
+     * @param position
+     *     a valid position within the (sub)tree
+     * @param card
+     *     the replacement card
+     *
+     * @return the new root
+     */
+    private static Node replace( final Node node,
+                                 final int position,
+                                 final CardBase card )
+        {
+
+        final int leftSize = sizeOf( node.left ) ;
+
+        if ( position < leftSize )
+            {
+            return new Node( replace( node.left, position, card ), node.card, node.right ) ;
+            }
+
+        if ( position > leftSize )
+            {
+            return new Node( node.left, node.card, replace( node.right, position - leftSize - 1, card ) ) ;
+            }
+
+        return new Node( node.left, card, node.right ) ;
+
+        }   // end replace()
+
+
+    /**
+     * retrieve a tree's size
+     *
+     * @param node
+     *     the root of the tree or {@code null}
+     *
+     * @return the number of cards - 0 if empty
+     */
+    private static int sizeOf( final Node node )
+        {
+
+        return node == null
+                ? 0
+                : node.size ;
+
+        }   // end sizeOf()
+
+
+    /**
+     * split a tree into the cards before a position and the rest
+     * <p>
+     * O(log n)
+     *
+     * @param node
+     *     the root of the tree or {@code null}
+     * @param position
+     *     the number of cards in the first part
+     *
+     * @return the two parts, either of which may be {@code null}
+     */
+    private static Node[] split( final Node node,
+                                 final int position )
+        {
+
+        if ( node == null )
+            {
+            return new Node[] { null, null } ;
+            }
+
+        final int leftSize = sizeOf( node.left ) ;
+
+        if ( position <= leftSize )
+            {
+            final Node[] parts = split( node.left, position ) ;
+
+            parts[ 1 ] = join( parts[ 1 ], node.card, node.right ) ;
+
+            return parts ;
+            }
+
+        final Node[] parts = split( node.right, position - leftSize - 1 ) ;
+
+        parts[ 0 ] = join( node.left, node.card, parts[ 0 ] ) ;
+
+        return parts ;
+
+        }   // end split()
+
+
+    /**
+     * wrap a tree in a snapshot
+     *
+     * @param treeRoot
+     *     the root of the tree or {@code null}
+     *
+     * @return the snapshot
+     */
+    private static PileSnapshot wrap( final Node treeRoot )
+        {
+
+        return treeRoot == null
+                ? EMPTY
+                : new PileSnapshot( treeRoot ) ;
+
+        }   // end wrap()
+
+
+    /*
+     * utility classes
+     */
+
+
+    /**
+     * an immutable tree node
+     */
+    private static final class Node
+        {
+
+        /** the cards before this one */
+        final Node left ;
+
+        /** the card at this node */
+        final CardBase card ;
+
+        /** the cards after this one */
+        final Node right ;
+
+        /** the number of cards in this subtree */
+        final int size ;
+
+        /** the height of this subtree */
+        final int height ;
+
+
+        /**
+         * assemble a node - the subtrees' heights must differ by at most 1
+         *
+         * @param leftTree
+         *     the cards before this one or {@code null}
+         * @param theCard
+         *     the card at this node
+         * @param rightTree
+         *     the cards after this one or {@code null}
+         */
+        Node( final Node leftTree,
+              final CardBase theCard,
+              final Node rightTree )
+            {
+
+            this.left = leftTree ;
+            this.card = theCard ;
+            this.right = rightTree ;
+            this.size = sizeOf( leftTree ) + 1 + sizeOf( rightTree ) ;
+            this.height = Math.max( heightOf( leftTree ), heightOf( rightTree ) ) + 1 ;
+
+            }   // end constructor
+
+        }   // end inner class Node
+
+
+    /**
+     * in-order traversal with an explicit stack
+     */
+    private static final class SnapshotIterator implements Iterator<CardBase>
+        {
+
+        /** the nodes whose card and right subtree are still to be visited */
+        private final Deque<Node> pending = new ArrayDeque<>() ;
+
+
+        /**
+         * start at the first card
+         *
+         * @param root
+         *     the root of the tree or {@code null}
+         */
+        SnapshotIterator( final Node root )
+            {
+
+            pushLeftSpine( root ) ;
+
+            }   // end constructor
+
+
+        @Override
+        public boolean hasNext()
+            {
+
+            return !this.pending.isEmpty() ;
+
+            }   // end hasNext()
+
+
+        @Override
+        public CardBase next()
+            {
+
+            if ( this.pending.isEmpty() )
+                {
+                throw new NoSuchElementException() ;
+                }
+
+            final Node node = this.pending.pop() ;
+
+            pushLeftSpine( node.right ) ;
+
+            return node.card ;
+
+            }   // end next()
+
+
+        /**
+         * queue a subtree's leftmost path
+         *
+         * @param start
+         *     the root of the subtree or {@code null}
+         */
+        private void pushLeftSpine( final Node start )
+            {
+
+            for ( Node node = start ; node != null ; node = node.left )
+                {
+                this.pending.push( node ) ;
+                }
+
+            }   // end pushLeftSpine()
+
+        }   // end inner class SnapshotIterator
+
+    }   // end class PileSnapshot
\ No newline at end of file
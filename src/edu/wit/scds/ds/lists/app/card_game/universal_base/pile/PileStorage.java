@@ -0,0 +1,150 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
+import java.util.List ;
+import java.util.random.RandomGenerator ;
+
+
+/**
+ * The layout used by a {@link PileBase} to hold its cards
+ * <p>
+ * position 0 is the top of the pile. Each kind of pile selects the layout which
+ * best fits its most frequent operations:
+ * <ul>
+ * <li>{@link RingBufferPileStorage} - circular array: O(1) add/remove at the
+ * top and bottom and O(1) positional access; the default
+ * <li>{@link LinkedPileStorage} - doubly-linked nodes: O(1) add/remove at the
+ * top and bottom and at an iterator's position; optionally indexed and counted
+ * by identity for O(1) amortized lookup and removal of a specific card, O(1)
+ * duplicate counts and O(k) removal of every copy
+ * <li>{@link GapBufferPileStorage} - array with a movable gap: O(1) positional
+ * access and O(1) add/remove at or near the most recently edited position
+ * <li>{@link SortedPileStorage} - gap buffer which tracks whether it's in
+ * order and re-sorts lazily: O(log n) ordered insertion and O(1) access to the
+ * lowest and highest cards
+ * <li>{@link PersistentPileStorage} - persistent balanced tree: O(log n)
+ * add/remove anywhere and O(1) immutable snapshots
+ * </ul>
+ * <p>
+ * A storage instance belongs to exactly one pile and must be empty when the
+ * pile is instantiated. {@code removeIf()} must test each card exactly once,
+ * top first - a pile may select the cards to remove by position.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 add {@code CountingPileStorage}
+ * @version 1.2 2026-10-17 note the optional identity index in
+ *     {@code LinkedPileStorage}
+ * @version 1.3 2026-10-17 add whole-storage moves which a layout may perform
+ *     by splicing
+ * @version 1.4 2026-10-17 add {@code shuffle()} so a layout can shuffle in
+ *     place
+ * @version 1.5 2026-10-17 add {@code SortedPileStorage}
+ * @version 1.6 2026-10-17 add {@code PersistentPileStorage}
+ * @version 1.7 2026-10-17 {@code SortedPileStorage} honors positions and
+ *     re-sorts lazily
+ * @version 1.8 2026-10-17 remove {@code CountingPileStorage} - an indexed
+ *     {@code LinkedPileStorage} counts its cards
+ * @version 1.9 2026-10-17 require {@code removeIf()} to test the cards in
+ *     order
+ */
+public interface PileStorage extends List<CardBase>
+    {
+
+    /**
+     * move every card from another storage to the bottom of this one,
+     * preserving their order
+     * <p>
+     * by default, copies the cards then clears {@code source}; layouts which
+     * can relink rather than copy should override this
+     *
+     * @param source
+     *     the storage to empty
+     *
+     * @since 1.3
+     */
+    default void moveAllToBottom( final PileStorage source )
+        {
+
+        addAll( size(), source ) ;
+        source.clear() ;
+
+        }   // end moveAllToBottom()
+
+
+    /**
+     * move every card from another storage to the top of this one, preserving
+     * their order
+     * <p>
+     * by default, copies the cards then clears {@code source}; layouts which
+     * can relink rather than copy should override this
+     *
+     * @param source
+     *     the storage to empty
+     *
+     * @since 1.3
+     */
+    default void moveAllToTop( final PileStorage source )
+        {
+
+        addAll( 0, source ) ;
+        source.clear() ;
+
+        }   // end moveAllToTop()
+
+
+    /**
+     * randomize the first {@code count} positions (see {@link CardShuffler})
+     * <p>
+     * by default, uses {@link CardShuffler#shuffle(List, int, RandomGenerator)};
+     * layouts which can swap cards more directly should override this
+     *
+     * @param random
+     *     the source of randomness
+     * @param count
+     *     the number of positions, from the top, to randomize - any value at
+     *     least {@code size() - 1} shuffles every card
+     *
+     * @since 1.4
+     */
+    default void shuffle( final RandomGenerator random,
+                          final int count )
+        {
+
+        CardShuffler.shuffle( this, count, random ) ;
+
+        }   // end shuffle()
+
+    }   // end interface PileStorage
\ No newline at end of file
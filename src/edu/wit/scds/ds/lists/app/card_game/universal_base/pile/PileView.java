@@ -0,0 +1,151 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
+import java.util.AbstractList ;
+import java.util.Collections ;
+import java.util.Iterator ;
+import java.util.List ;
+import java.util.ListIterator ;
+
+
+/**
+ * Live, read-only window onto a range of positions in a pile
+ * <p>
+ * nothing is copied: each access reads the pile's storage directly, so a view
+ * of the top 5 cards of the stock costs the same whether the stock holds 50
+ * cards or 5,000. Cards are shown with the pile's current orientation.
+ * <p>
+ * a view is fail-fast: once cards are added to or removed from the pile other
+ * than through the view, every further use of the view throws
+ * {@code ConcurrentModificationException}; take a new view instead. Replacing
+ * or turning over cards isn't a structural change, and the view reflects it.
+ * Every mutator throws {@code UnsupportedOperationException}.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public final class PileView extends AbstractList<CardBase>
+    {
+
+    /*
+     * data fields
+     */
+
+
+    /** the pile being viewed */
+    private final PileBase pile ;
+
+    /** the viewed positions within the pile's storage */
+    private final List<CardBase> window ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize a view onto a range of a pile's cards
+     *
+     * @param viewedPile
+     *     the pile to view
+     * @param fromPosition
+     *     the position of the first card in the view
+     * @param toPosition
+     *     the position after the last card in the view
+     *
+     * @throws IndexOutOfBoundsException
+     *     if the range isn't within the pile
+     */
+    PileView( final PileBase viewedPile,
+              final int fromPosition,
+              final int toPosition ) throws IndexOutOfBoundsException
+        {
+
+        this.pile = viewedPile ;
+        this.window = Collections.unmodifiableList( viewedPile.cards.subList( fromPosition, toPosition ) ) ;
+
+        }   // end 3-arg constructor
+
+
+    /*
+     * List methods
+     */
+
+
+    @Override
+    public CardBase get( final int position )
+        {
+
+        final CardBase card = this.window.get( position ) ;
+
+        this.pile.applyPileOrientation() ;
+
+        return card ;
+
+        }   // end get()
+
+
+    @Override
+    public Iterator<CardBase> iterator()
+        {
+
+        return listIterator( 0 ) ;
+
+        }   // end iterator()
+
+
+    @Override
+    public ListIterator<CardBase> listIterator( final int position )
+        {
+
+        final ListIterator<CardBase> cardIterator = this.window.listIterator( position ) ;
+
+        this.pile.applyPileOrientation() ;
+
+        return cardIterator ;
+
+        }   // end listIterator()
+
+
+    @Override
+    public int size()
+        {
+
+        return this.window.size() ;
+
+        }   // end size()
+
+    }   // end class PileView
\ No newline at end of file
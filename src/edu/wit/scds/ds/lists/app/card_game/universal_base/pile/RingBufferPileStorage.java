@@ -0,0 +1,767 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
+import java.util.AbstractList ;
+import java.util.Arrays ;
+import java.util.BitSet ;
+import java.util.Collection ;
+import java.util.Comparator ;
+import java.util.NoSuchElementException ;
+import java.util.Objects ;
+import java.util.RandomAccess ;
+import java.util.function.Predicate ;
+import java.util.random.RandomGenerator ;
+
+
+/**
+ * Contiguous, growable circular array holding the cards in a pile
+ * <p>
+ * position 0 (the top of the pile) is stored at {@code head}; subsequent
+ * positions wrap around the end of the array. This provides O(1) add/remove at
+ * either end of the pile and O(1) positional access. Insertions and removals
+ * in the middle of the pile shift whichever side of the position is shorter.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 implement {@code PileStorage} so piles can select it
+ * @version 1.2 2026-10-17 remove all matching cards in a single compacting pass
+ * @version 1.3 2026-10-17 shuffle in place in the circular array
+ */
+public final class RingBufferPileStorage extends AbstractList<CardBase> implements PileStorage, RandomAccess
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** initial number of slots - must be a power of 2 */
+    private final static int DEFAULT_INITIAL_CAPACITY = 16 ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /**
+     * the slots - the length is always a power of 2 so we can wrap positions
+     * with a mask
+     */
+    private CardBase[] elements ;
+
+    /** the slot containing the top card (position 0) */
+    private int head ;
+
+    /** the number of cards currently stored */
+    private int size ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize an empty buffer with the default capacity
+     */
+    public RingBufferPileStorage()
+        {
+
+        this.elements = new CardBase[ DEFAULT_INITIAL_CAPACITY ] ;
+        this.head = 0 ;
+        this.size = 0 ;
+
+        }   // end no-arg constructor
+
+
+    /*
+     * List methods
+     */
+
+
+    @Override
+    public void add( final int position,
+                     final CardBase newCard )
+        {
+
+        checkPositionForAdd( position ) ;
+
+        if ( position == this.size )
+            {
+            addLast( newCard ) ;
+
+            return ;
+            }
+
+        if ( position == 0 )
+            {
+            addFirst( newCard ) ;
+
+            return ;
+            }
+
+        ensureCapacity( this.size + 1 ) ;
+
+        openGap( position, 1 ) ;
+
+        this.elements[ slot( position ) ] = newCard ;
+
+        }   // end add()
+
+
+    @Override
+    public boolean addAll( final Collection<? extends CardBase> newCards )
+        {
+
+        return addAll( this.size, newCards ) ;
+
+        }   // end addAll()
+
+
+    @Override
+    public boolean addAll( final int position,
+                           final Collection<? extends CardBase> newCards )
+        {
+
+        checkPositionForAdd( position ) ;
+
+        final Object[] toAdd = newCards.toArray() ;
+        final int count = toAdd.length ;
+
+        if ( count == 0 )
+            {
+            return false ;
+            }
+
+        ensureCapacity( this.size + count ) ;
+
+        openGap( position, count ) ;
+
+        for ( int i = 0 ; i < count ; i++ )
+            {
+            this.elements[ slot( position + i ) ] = (CardBase) toAdd[ i ] ;
+            }
+
+        return true ;
+
+        }   // end addAll() at position
+
+
+    @Override
+    public void addFirst( final CardBase newCard )
+        {
+
+        ensureCapacity( this.size + 1 ) ;
+
+        this.head = ( this.head - 1 ) & mask() ;
+        this.elements[ this.head ] = newCard ;
+        this.size++ ;
+        this.modCount++ ;
+
+        }   // end addFirst()
+
+
+    @Override
+    public void addLast( final CardBase newCard )
+        {
+
+        ensureCapacity( this.size + 1 ) ;
+
+        this.elements[ slot( this.size ) ] = newCard ;
+        this.size++ ;
+        this.modCount++ ;
+
+        }   // end addLast()
+
+
+    @Override
+    public void clear()
+        {
+
+        removeRange( 0, this.size ) ;
+
+        }   // end clear()
+
+
+    @Override
+    public CardBase get( final int position )
+        {
+
+        Objects.checkIndex( position, this.size ) ;
+
+        return this.elements[ slot( position ) ] ;
+
+        }   // end get()
+
+
+    @Override
+    public CardBase getFirst()
+        {
+
+        if ( this.size == 0 )
+            {
+            throw new NoSuchElementException() ;
+            }
+
+        return this.elements[ this.head ] ;
+
+        }   // end getFirst()
+
+
+    @Override
+    public CardBase getLast()
+        {
+
+        if ( this.size == 0 )
+            {
+            throw new NoSuchElementException() ;
+            }
+
+        return this.elements[ slot( this.size - 1 ) ] ;
+
+        }   // end getLast()
+
+
+    @Override
+    public int indexOf( final Object lookFor )
+        {
+
+        for ( int i = 0 ; i < this.size ; i++ )
+            {
+
+            if ( Objects.equals( lookFor, this.elements[ slot( i ) ] ) )
+                {
+                return i ;
+                }
+
+            }
+
+        return -1 ;
+
+        }   // end indexOf()
+
+
+    @Override
+    public CardBase remove( final int position )
+        {
+
+        Objects.checkIndex( position, this.size ) ;
+
+        if ( position == 0 )
+            {
+            return removeFirst() ;
+            }
+
+        if ( position == ( this.size - 1 ) )
+            {
+            return removeLast() ;
+            }
+
+        final CardBase removedCard = this.elements[ slot( position ) ] ;
+
+        closeGap( position, 1 ) ;
+
+        return removedCard ;
+
+        }   // end remove()
+
+
+    @Override
+    public CardBase removeFirst()
+        {
+
+        if ( this.size == 0 )
+            {
+            throw new NoSuchElementException() ;
+            }
+
+        final CardBase removedCard = this.elements[ this.head ] ;
+
+        this.elements[ this.head ] = null ;
+        this.head = ( this.head + 1 ) & mask() ;
+        this.size-- ;
+        this.modCount++ ;
+
+        return removedCard ;
+
+        }   // end removeFirst()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * tests each card once, top first, before removing any, then slides the
+     * remaining cards over the removed ones in a single pass - O(n) however
+     * many cards are removed
+     */
+    @Override
+    public boolean removeIf( final Predicate<? super CardBase> filter )
+        {
+
+        Objects.requireNonNull( filter, "filter" ) ;
+
+        // find the first card to remove - often there are none
+        int first = 0 ;
+
+        while ( ( first < this.size ) && !filter.test( this.elements[ slot( first ) ] ) )
+            {
+            first++ ;
+            }
+
+        if ( first == this.size )
+            {
+            return false ;
+            }
+
+        // note the rest of the cards to remove before changing anything
+        final BitSet toRemove = new BitSet( this.size - first ) ;
+
+        for ( int i = first + 1 ; i < this.size ; i++ )
+            {
+
+            if ( filter.test( this.elements[ slot( i ) ] ) )
+                {
+                toRemove.set( i - first ) ;
+                }
+
+            }
+
+        // slide the cards we're keeping toward the top
+        int kept = first ;
+
+        for ( int i = first + 1 ; i < this.size ; i++ )
+            {
+
+            if ( !toRemove.get( i - first ) )
+                {
+                this.elements[ slot( kept++ ) ] = this.elements[ slot( i ) ] ;
+                }
+
+            }
+
+        for ( int i = kept ; i < this.size ; i++ )
+            {
+            this.elements[ slot( i ) ] = null ;
+            }
+
+        this.size = kept ;
+        this.modCount++ ;
+
+        return true ;
+
+        }   // end removeIf()
+
+
+    @Override
+    public CardBase removeLast()
+        {
+
+        if ( this.size == 0 )
+            {
+            throw new NoSuchElementException() ;
+            }
+
+        final int lastSlot = slot( this.size - 1 ) ;
+        final CardBase removedCard = this.elements[ lastSlot ] ;
+
+        this.elements[ lastSlot ] = null ;
+        this.size-- ;
+        this.modCount++ ;
+
+        return removedCard ;
+
+        }   // end removeLast()
+
+
+    @Override
+    public CardBase set( final int position,
+                         final CardBase replacementCard )
+        {
+
+        Objects.checkIndex( position, this.size ) ;
+
+        final int index = slot( position ) ;
+        final CardBase replacedCard = this.elements[ index ] ;
+
+        this.elements[ index ] = replacementCard ;
+
+        return replacedCard ;
+
+        }   // end set()
+
+
+    @Override
+    public int size()
+        {
+
+        return this.size ;
+
+        }   // end size()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * sorts in place - the stored cards are rotated into a single contiguous
+     * run first, if necessary
+     */
+    @Override
+    public void sort( final Comparator<? super CardBase> comparator )
+        {
+
+        linearize( this.elements.length ) ;
+
+        Arrays.sort( this.elements, 0, this.size, comparator ) ;
+
+        this.modCount++ ;
+
+        }   // end sort()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * swaps slots in the circular array directly
+     */
+    @Override
+    public void shuffle( final RandomGenerator random,
+                         final int count )
+        {
+
+        Objects.requireNonNull( random, "random" ) ;
+
+        final int limit = CardShuffler.positionsToShuffle( this.size, count ) ;
+        final int mask = mask() ;
+
+        for ( int i = 0 ; i < limit ; i++ )
+            {
+            final int slotI = ( this.head + i ) & mask ;
+            final int slotJ = ( this.head + random.nextInt( i, this.size ) ) & mask ;
+
+            final CardBase swap = this.elements[ slotI ] ;
+            this.elements[ slotI ] = this.elements[ slotJ ] ;
+            this.elements[ slotJ ] = swap ;
+            }
+
+        this.modCount++ ;
+
+        }   // end shuffle()
+
+
+    @Override
+    public Object[] toArray()
+        {
+
+        final Object[] copy = new Object[ this.size ] ;
+        copyOut( copy ) ;
+
+        return copy ;
+
+        }   // end toArray()
+
+
+    /*
+     * protected methods
+     */
+
+
+    @Override
+    protected void removeRange( final int fromPosition,
+                                final int toPosition )
+        {
+
+        if ( ( fromPosition < 0 ) || ( toPosition > this.size ) || ( fromPosition > toPosition ) )
+            {
+            throw new IndexOutOfBoundsException( String.format( "range [%,d, %,d) of %,d",
+                                                                fromPosition,
+                                                                toPosition,
+                                                                this.size ) ) ;
+            }
+
+        final int count = toPosition - fromPosition ;
+
+        if ( count == 0 )
+            {
+            return ;
+            }
+
+        if ( count == this.size )
+            {
+            // release everything
+            for ( int i = 0 ; i < this.size ; i++ )
+                {
+                this.elements[ slot( i ) ] = null ;
+                }
+
+            this.head = 0 ;
+            this.size = 0 ;
+            this.modCount++ ;
+
+            return ;
+            }
+
+        closeGap( fromPosition, count ) ;
+
+        }   // end removeRange()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * ensure a position is valid for an insertion
+     *
+     * @param position
+     *     the position to check
+     *
+     * @throws IndexOutOfBoundsException
+     *     if the position is negative or greater than the number of cards
+     */
+    private void checkPositionForAdd( final int position ) throws IndexOutOfBoundsException
+        {
+
+        if ( ( position < 0 ) || ( position > this.size ) )
+            {
+            throw new IndexOutOfBoundsException( String.format( "position: %,d, size: %,d",
+                                                                position,
+                                                                this.size ) ) ;
+            }
+
+        }   // end checkPositionForAdd()
+
+
+    /**
+     * remove {@code count} cards starting at {@code position} by sliding the
+     * shorter side of the buffer over them
+     *
+     * @param position
+     *     the first position to remove
+     * @param count
+     *     the number of positions to remove
+     */
+    private void closeGap( final int position,
+                           final int count )
+        {
+
+        final int cardsBefore = position ;
+        final int cardsAfter = this.size - position - count ;
+
+        if ( cardsBefore < cardsAfter )
+            {
+            // slide the cards above the gap down toward the bottom
+            for ( int i = cardsBefore - 1 ; i >= 0 ; i-- )
+                {
+                this.elements[ slot( i + count ) ] = this.elements[ slot( i ) ] ;
+                }
+
+            for ( int i = 0 ; i < count ; i++ )
+                {
+                this.elements[ slot( i ) ] = null ;
+                }
+
+            this.head = ( this.head + count ) & mask() ;
+            }
+        else
+            {
+            // slide the cards below the gap up toward the top
+            for ( int i = position ; i < ( position + cardsAfter ) ; i++ )
+                {
+                this.elements[ slot( i ) ] = this.elements[ slot( i + count ) ] ;
+                }
+
+            for ( int i = this.size - count ; i < this.size ; i++ )
+                {
+                this.elements[ slot( i ) ] = null ;
+                }
+
+            }
+
+        this.size -= count ;
+        this.modCount++ ;
+
+        }   // end closeGap()
+
+
+    /**
+     * copy the cards, in order, into the start of a destination array
+     *
+     * @param destination
+     *     an array with at least {@code size} elements
+     */
+    private void copyOut( final Object[] destination )
+        {
+
+        final int firstRun = Math.min( this.size, this.elements.length - this.head ) ;
+
+        System.arraycopy( this.elements, this.head, destination, 0, firstRun ) ;
+        System.arraycopy( this.elements, 0, destination, firstRun, this.size - firstRun ) ;
+
+        }   // end copyOut()
+
+
+    /**
+     * grow the buffer, if necessary, so it can hold at least
+     * {@code minimumCapacity} cards
+     *
+     * @param minimumCapacity
+     *     the number of cards that must fit
+     */
+    private void ensureCapacity( final int minimumCapacity )
+        {
+
+        if ( minimumCapacity <= this.elements.length )
+            {
+            return ;
+            }
+
+        int newCapacity = this.elements.length ;
+
+        while ( newCapacity < minimumCapacity )
+            {
+            newCapacity <<= 1 ;
+
+            if ( newCapacity <= 0 )
+                {
+                throw new IllegalStateException( "pile is too large" ) ;
+                }
+
+            }
+
+        linearize( newCapacity ) ;
+
+        }   // end ensureCapacity()
+
+
+    /**
+     * copy the cards into a new array of the specified capacity with the top
+     * card in slot 0
+     *
+     * @param capacity
+     *     the size of the new array - must be a power of 2 no smaller than the
+     *     number of cards
+     */
+    private void linearize( final int capacity )
+        {
+
+        if ( ( this.head == 0 ) && ( capacity == this.elements.length ) )
+            {
+            return ;    // already contiguous
+            }
+
+        final CardBase[] newElements = new CardBase[ capacity ] ;
+        copyOut( newElements ) ;
+
+        this.elements = newElements ;
+        this.head = 0 ;
+
+        }   // end linearize()
+
+
+    /**
+     * compute the mask used to wrap slot numbers
+     *
+     * @return the mask
+     */
+    private int mask()
+        {
+
+        return this.elements.length - 1 ;
+
+        }   // end mask()
+
+
+    /**
+     * make room for {@code count} cards starting at {@code position} by
+     * sliding the shorter side of the buffer away from it - capacity must
+     * already be sufficient
+     *
+     * @param position
+     *     the first position to open
+     * @param count
+     *     the number of positions to open
+     */
+    private void openGap( final int position,
+                          final int count )
+        {
+
+        final int cardsBefore = position ;
+        final int cardsAfter = this.size - position ;
+
+        if ( cardsBefore < cardsAfter )
+            {
+            // slide the cards above the gap toward the top
+            this.head = ( this.head - count ) & mask() ;
+
+            for ( int i = 0 ; i < cardsBefore ; i++ )
+                {
+                this.elements[ slot( i ) ] = this.elements[ slot( i + count ) ] ;
+                }
+
+            }
+        else
+            {
+            // slide the cards below the gap toward the bottom
+            for ( int i = this.size - 1 ; i >= position ; i-- )
+                {
+                this.elements[ slot( i + count ) ] = this.elements[ slot( i ) ] ;
+                }
+
+            }
+
+        this.size += count ;
+        this.modCount++ ;
+
+        }   // end openGap()
+
+
+    /**
+     * convert a position in the pile to a slot in the array
+     *
+     * @param position
+     *     the 0-based position where 0 is the top of the pile
+     *
+     * @return the corresponding slot
+     */
+    private int slot( final int position )
+        {
+
+        return ( this.head + position ) & mask() ;
+
+        }   // end slot()
+
+    }   // end class RingBufferPileStorage
\ No newline at end of file
@@ -0,0 +1,341 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import java.util.ArrayDeque ;
+import java.util.Objects ;
+import java.util.function.Supplier ;
+
+
+/**
+ * A pool of reusable, temporary piles
+ * <p>
+ * code which needs a pile only until it returns leases one instead of
+ * instantiating a throwaway {@code new Pile() {}}:
+ *
+ * <pre>
+ * try ( final ScratchPilePool.Lease&lt;Pile&gt; lease = pool.lease() )
+ *     {
+ *     final Pile scratch = lease.getPile() ;
+ *     ...
+ *     }
+ * </pre>
+ * <p>
+ * the lessee must empty the pile - move its cards elsewhere - before closing
+ * the lease, which returns the pile to the pool. Closing a lease whose pile
+ * still holds cards throws {@code IllegalStateException} rather than losing
+ * them; that pile isn't reused. Leases are pooled with their piles so, once the
+ * pool holds as many piles as are leased at once, leasing allocates nothing.
+ * A lessee mustn't keep the pile, change its settings or register listeners
+ * on it.
+ * <p>
+ * a pool isn't thread-safe - give each game its own or use
+ * {@link #perThread(Supplier)}
+ *
+ * @author Dave Rosenberg
+ *
+ * @param <P>
+ *     the type of pile leased
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 refuse a pile returned holding cards rather than
+ *     silently clearing it
+ */
+public final class ScratchPilePool<P extends PileBase>
+    {
+
+    /*
+     * data fields
+     */
+
+
+    /** instantiates a pile when none is idle */
+    private final Supplier<? extends P> pileFactory ;
+
+    /** leases not currently in use, most recently released first */
+    private final ArrayDeque<Lease<P>> idleLeases ;
+
+    /** number of piles instantiated */
+    private long createdCount ;
+
+    /** number of times a pile has been leased */
+    private long leaseCount ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize an empty pool
+     *
+     * @param newPileFactory
+     *     instantiates an empty pile, configured as every lessee expects, when
+     *     none is idle
+     */
+    public ScratchPilePool( final Supplier<? extends P> newPileFactory )
+        {
+
+        this.pileFactory = Objects.requireNonNull( newPileFactory, "newPileFactory" ) ;
+
+        this.idleLeases = new ArrayDeque<>() ;
+        this.createdCount = 0 ;
+        this.leaseCount = 0 ;
+
+        }   // end 1-arg constructor
+
+
+    /**
+     * instantiate a pool for each thread which asks for one
+     *
+     * @param <P>
+     *     the type of pile leased
+     * @param newPileFactory
+     *     instantiates an empty pile when none is idle
+     *
+     * @return a source of the current thread's pool
+     */
+    public static <P extends PileBase> ThreadLocal<ScratchPilePool<P>> perThread( final Supplier<? extends P> newPileFactory )
+        {
+
+        Objects.requireNonNull( newPileFactory, "newPileFactory" ) ;
+
+        return ThreadLocal.withInitial( () -> new ScratchPilePool<>( newPileFactory ) ) ;
+
+        }   // end perThread()
+
+
+    /*
+     * public methods
+     */
+
+
+    /**
+     * determine the number of piles this pool has instantiated
+     *
+     * @return the number of piles created
+     */
+    public long getCreatedCount()
+        {
+
+        return this.createdCount ;
+
+        }   // end getCreatedCount()
+
+
+    /**
+     * determine the number of piles waiting to be leased
+     *
+     * @return the number of idle piles
+     */
+    public int getIdleCount()
+        {
+
+        return this.idleLeases.size() ;
+
+        }   // end getIdleCount()
+
+
+    /**
+     * determine the number of times a pile has been leased - less
+     * {@link #getCreatedCount()}, the number of piles reused
+     *
+     * @return the number of leases
+     */
+    public long getLeaseCount()
+        {
+
+        return this.leaseCount ;
+
+        }   // end getLeaseCount()
+
+
+    /**
+     * lease an empty pile, reusing an idle one if possible
+     *
+     * @return the lease - close it to return the pile
+     */
+    public Lease<P> lease()
+        {
+
+        Lease<P> lease = this.idleLeases.pollFirst() ;
+
+        if ( lease == null )
+            {
+            final P newPile = Objects.requireNonNull( this.pileFactory.get(), "pileFactory returned null" ) ;
+
+            if ( !newPile.isEmpty() )
+                {
+                throw new IllegalStateException( "pileFactory returned a pile holding cards" ) ;
+                }
+
+            lease = new Lease<>( this, newPile ) ;
+            this.createdCount++ ;
+            }
+
+        lease.leased = true ;
+        this.leaseCount++ ;
+
+        return lease ;
+
+        }   // end lease()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "ScratchPilePool[created: %,d, leased: %,d, idle: %,d]",
+                              this.createdCount,
+                              this.leaseCount,
+                              this.idleLeases.size() ) ;
+
+        }   // end toString()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * make an empty pile available again
+     *
+     * @param lease
+     *     the lease being closed
+     *
+     * @throws IllegalStateException
+     *     if the pile still holds cards - it isn't returned to the pool
+     */
+    private void release( final Lease<P> lease ) throws IllegalStateException
+        {
+
+        if ( !lease.pile.isEmpty() )
+            {
+            throw new IllegalStateException( String.format( "a leased pile was returned holding %,d card%s",
+                                                            lease.pile.cardCount(),
+                                                            ( lease.pile.cardCount() == 1
+                                                                    ? ""
+                                                                    : "s" ) ) ) ;
+            }
+
+        this.idleLeases.addFirst( lease ) ;
+
+        }   // end release()
+
+
+    /*
+     * utility classes
+     */
+
+
+    /**
+     * The use of a pooled pile until closed
+     *
+     * @param <P>
+     *     the type of pile leased
+     */
+    public static final class Lease<P extends PileBase> implements AutoCloseable
+        {
+
+        /** the pool to return the pile to */
+        private final ScratchPilePool<P> pool ;
+
+        /** the leased pile */
+        private final P pile ;
+
+        /** {@code true} between {@code lease()} and {@code close()} */
+        private boolean leased ;
+
+
+        /**
+         * @param owningPool
+         *     the pool to return the pile to
+         * @param leasedPile
+         *     the pile to lease
+         */
+        private Lease( final ScratchPilePool<P> owningPool,
+                       final P leasedPile )
+            {
+
+            this.pool = owningPool ;
+            this.pile = leasedPile ;
+            this.leased = false ;
+
+            }   // end 2-arg constructor
+
+
+        /**
+         * return the pile, which must be empty, to the pool - closing a lease
+         * more than once has no further effect
+         *
+         * @throws IllegalStateException
+         *     if the pile still holds cards
+         */
+        @Override
+        public void close() throws IllegalStateException
+            {
+
+            if ( !this.leased )
+                {
+                return ;
+                }
+
+            this.leased = false ;
+            this.pool.release( this ) ;
+
+            }   // end close()
+
+
+        /**
+         * retrieve the leased pile
+         *
+         * @return the pile
+         *
+         * @throws IllegalStateException
+         *     if the lease has been closed
+         */
+        public P getPile() throws IllegalStateException
+            {
+
+            if ( !this.leased )
+                {
+                throw new IllegalStateException( "the lease has been closed" ) ;
+                }
+
+            return this.pile ;
+
+            }   // end getPile()
+
+        }   // end inner class Lease
+
+    }   // end class ScratchPilePool
\ No newline at end of file
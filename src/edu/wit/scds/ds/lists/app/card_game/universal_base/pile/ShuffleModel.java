@@ -0,0 +1,542 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import java.util.Objects ;
+import java.util.function.Consumer ;
+import java.util.random.RandomGenerator ;
+import java.util.stream.Stream ;
+
+
+/**
+ * Models of how cards are shuffled, from an ideal uniform shuffle to the
+ * physical shuffles people perform
+ * <p>
+ * each model permutes an array of positions in place: after
+ * {@code permute( order, ... )}, {@code order[ i ]} is the position, before
+ * the shuffle, of the card which is now at position {@code i} (0 is the top).
+ * Piles apply the permutation to their cards (see
+ * {@link PileBase#shuffle(ShuffleModel, int, RandomGenerator)}); analyses
+ * which only need the permutations can generate them directly, without any
+ * cards, via {@link #permutations(int, int, RandomGenerator)} or, without
+ * allocating, {@link #forEachPermutation(int, int, long, RandomGenerator,
+ * Consumer)}.
+ * <p>
+ * the physical models:
+ * <ul>
+ * <li>{@code RIFFLE} - Gilbert-Shannon-Reeds: cut the deck binomially, then
+ * drop cards from each half with probability proportional to the half's
+ * remaining size; about 7 riffles randomize a 52-card deck
+ * <li>{@code OVERHAND} - the deck is passed from hand to hand in small packets,
+ * reversing the order of the packets but not the cards in each
+ * <li>{@code CUT} - the deck is cut binomially and the halves swapped
+ * </ul>
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ */
+public enum ShuffleModel
+    {
+
+    // @formatter:off
+
+    /** every ordering equally likely (Fisher-Yates) */
+    UNIFORM ( "Uniform" )
+
+    , /** Gilbert-Shannon-Reeds riffle shuffle */
+    RIFFLE ( "Riffle" )
+
+    , /** overhand shuffle in packets */
+    OVERHAND ( "Overhand" )
+
+    , /** single binomial cut */
+    CUT ( "Cut" )
+
+    ;
+    // @formatter:on
+
+
+    /*
+     * constants
+     */
+
+
+    /**
+     * for {@code OVERHAND}, the probability that a packet ends between any two
+     * adjacent cards - packets average 1 / this many cards
+     */
+    public final static double OVERHAND_PACKET_BREAK_PROBABILITY = 0.2 ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** 'pretty' (capitalized) form of the model name */
+    private final String displayName ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * constructor
+     *
+     * @param theDisplayName
+     *     'pretty' (capitalized) form of the model's name
+     */
+    private ShuffleModel( final String theDisplayName )
+        {
+
+        this.displayName = theDisplayName ;
+
+        }   // end constructor
+
+
+    /*
+     * public methods
+     */
+
+
+    /**
+     * apply this shuffle to every permutation in a sequence of independent
+     * shuffles, reusing a single array - {@code action} must not keep a
+     * reference to it
+     *
+     * @param cardCount
+     *     the number of cards being shuffled
+     * @param repetitions
+     *     the number of times to apply this shuffle to produce each
+     *     permutation
+     * @param shuffleCount
+     *     the number of permutations to produce
+     * @param random
+     *     the source of randomness
+     * @param action
+     *     receives each permutation in turn
+     */
+    public void forEachPermutation( final int cardCount,
+                                    final int repetitions,
+                                    final long shuffleCount,
+                                    final RandomGenerator random,
+                                    final Consumer<int[]> action )
+        {
+
+        Objects.requireNonNull( action, "action" ) ;
+
+        final int[] order = new int[ cardCount ] ;
+        final int[] scratch = new int[ cardCount ] ;
+
+        for ( long i = 0 ; i < shuffleCount ; i++ )
+            {
+            identity( order ) ;
+            permute( order, scratch, repetitions, random ) ;
+
+            action.accept( order ) ;
+            }
+
+        }   // end forEachPermutation()
+
+
+    /**
+     * retrieve the display name
+     *
+     * @return the 'pretty' name
+     */
+    public String getDisplayName()
+        {
+
+        return this.displayName ;
+
+        }   // end getDisplayName()
+
+
+    /**
+     * fill an array with the identity permutation
+     *
+     * @param order
+     *     the array to fill
+     *
+     * @return {@code order} (fluent)
+     */
+    public static int[] identity( final int[] order )
+        {
+
+        for ( int i = 0 ; i < order.length ; i++ )
+            {
+            order[ i ] = i ;
+            }
+
+        return order ;
+
+        }   // end identity()
+
+
+    /**
+     * apply this shuffle, one or more times, to an ordering of positions
+     *
+     * @param order
+     *     the ordering to shuffle in place
+     * @param scratch
+     *     working space at least as long as {@code order}
+     * @param repetitions
+     *     the number of times to apply this shuffle
+     * @param random
+     *     the source of randomness
+     *
+     * @throws IllegalArgumentException
+     *     if {@code repetitions} is negative or {@code scratch} is too short
+     */
+    public void permute( final int[] order,
+                         final int[] scratch,
+                         final int repetitions,
+                         final RandomGenerator random )
+        {
+
+        Objects.requireNonNull( random, "random" ) ;
+
+        if ( repetitions < 0 )
+            {
+            throw new IllegalArgumentException( "repetitions must be non-negative, was " + repetitions ) ;
+            }
+
+        if ( scratch.length < order.length )
+            {
+            throw new IllegalArgumentException( "scratch must hold at least " + order.length + " positions" ) ;
+            }
+
+        for ( int i = 0 ; i < repetitions ; i++ )
+            {
+
+            switch ( this )
+                {
+                case UNIFORM -> uniform( order, random ) ;
+                case RIFFLE -> riffle( order, scratch, random ) ;
+                case OVERHAND -> overhand( order, random ) ;
+                case CUT -> cut( order, random ) ;
+                }
+
+            }
+
+        }   // end permute()
+
+
+    /**
+     * generate an unending stream of independent permutations - limit it as
+     * needed; each is a new array
+     * <p>
+     * the stream shares {@code random} (and working space) across elements so
+     * must not be made parallel - give each thread its own stream and
+     * generator instead
+     *
+     * @param cardCount
+     *     the number of cards being shuffled
+     * @param repetitions
+     *     the number of times to apply this shuffle to produce each
+     *     permutation
+     * @param random
+     *     the source of randomness - used only by the stream
+     *
+     * @return the stream of permutations
+     */
+    public Stream<int[]> permutations( final int cardCount,
+                                       final int repetitions,
+                                       final RandomGenerator random )
+        {
+
+        final int[] scratch = new int[ cardCount ] ;
+
+        return Stream.generate( () -> nextPermutation( scratch, repetitions, random ) ) ;
+
+        }   // end permutations()
+
+
+    @Override
+    public String toString()
+        {
+
+        return this.displayName ;
+
+        }   // end toString()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * choose a cut point the way a person does: near the middle, binomially
+     * distributed
+     *
+     * @param cardCount
+     *     the number of cards being cut
+     * @param random
+     *     the source of randomness
+     *
+     * @return the number of cards in the top portion - Binomial(n, 1/2)
+     */
+    private static int binomialCut( final int cardCount,
+                                    final RandomGenerator random )
+        {
+
+        int topCount = 0 ;
+        int remaining = cardCount ;
+
+        // each random bit is a fair coin
+        while ( remaining >= Long.SIZE )
+            {
+            topCount += Long.bitCount( random.nextLong() ) ;
+            remaining -= Long.SIZE ;
+            }
+
+        if ( remaining > 0 )
+            {
+            topCount += Long.bitCount( random.nextLong() & ( ( 1L << remaining ) - 1 ) ) ;
+            }
+
+        return topCount ;
+
+        }   // end binomialCut()
+
+
+    /**
+     * produce a new permutation
+     *
+     * @param scratch
+     *     working space - its length is the number of cards being shuffled
+     * @param repetitions
+     *     the number of times to apply this shuffle
+     * @param random
+     *     the source of randomness
+     *
+     * @return the new permutation
+     */
+    private int[] nextPermutation( final int[] scratch,
+                                   final int repetitions,
+                                   final RandomGenerator random )
+        {
+
+        final int[] order = identity( new int[ scratch.length ] ) ;
+
+        permute( order, scratch, repetitions, random ) ;
+
+        return order ;
+
+        }   // end nextPermutation()
+
+
+    /**
+     * move the bottom portion, starting at a position, on top of the rest
+     *
+     * @param order
+     *     the ordering to cut in place
+     * @param cutPosition
+     *     the first position of the bottom portion
+     */
+    private static void cut( final int[] order,
+                             final int cutPosition )
+        {
+
+        // rotate by three reversals - no extra space needed
+        reverse( order, 0, cutPosition ) ;
+        reverse( order, cutPosition, order.length ) ;
+        reverse( order, 0, order.length ) ;
+
+        }   // end cut() at position
+
+
+    /**
+     * cut the deck binomially and swap the portions
+     *
+     * @param order
+     *     the ordering to shuffle in place
+     * @param random
+     *     the source of randomness
+     */
+    private static void cut( final int[] order,
+                             final RandomGenerator random )
+        {
+
+        cut( order, binomialCut( order.length, random ) ) ;
+
+        }   // end cut()
+
+
+    /**
+     * overhand shuffle - break the deck into packets, each boundary with
+     * probability {@code OVERHAND_PACKET_BREAK_PROBABILITY}, and reverse the
+     * order of the packets
+     *
+     * @param order
+     *     the ordering to shuffle in place
+     * @param random
+     *     the source of randomness
+     */
+    private static void overhand( final int[] order,
+                                  final RandomGenerator random )
+        {
+
+        // reversing the deck reverses the packets' order and their contents...
+        reverse( order, 0, order.length ) ;
+
+        // ...so restore each packet's contents - the boundaries are
+        // independent so we can choose them as we go
+        int packetStart = 0 ;
+
+        for ( int i = 1 ; i <= order.length ; i++ )
+            {
+
+            if ( ( i == order.length ) || ( random.nextDouble() < OVERHAND_PACKET_BREAK_PROBABILITY ) )
+                {
+                reverse( order, packetStart, i ) ;
+                packetStart = i ;
+                }
+
+            }
+
+        }   // end overhand()
+
+
+    /**
+     * reverse a range of an ordering
+     *
+     * @param order
+     *     the ordering
+     * @param from
+     *     the first position, inclusive
+     * @param to
+     *     the last position, exclusive
+     */
+    private static void reverse( final int[] order,
+                                 final int from,
+                                 final int to )
+        {
+
+        for ( int i = from, j = to - 1 ; i < j ; i++, j-- )
+            {
+            final int swap = order[ i ] ;
+            order[ i ] = order[ j ] ;
+            order[ j ] = swap ;
+            }
+
+        }   // end reverse()
+
+
+    /**
+     * Gilbert-Shannon-Reeds riffle - cut binomially, then repeatedly drop the
+     * next card from one of the portions, chosen with probability proportional
+     * to the number of cards it has left
+     * <p>
+     * generated in the equivalent form where every position independently and
+     * fairly takes the next card from the top or bottom portion (the cut is
+     * then the number of positions which chose the top), so one random
+     * {@code long} serves 64 cards
+     *
+     * @param order
+     *     the ordering to shuffle in place
+     * @param scratch
+     *     working space at least as long as {@code order}
+     * @param random
+     *     the source of randomness
+     */
+    private static void riffle( final int[] order,
+                                final int[] scratch,
+                                final RandomGenerator random )
+        {
+
+        final int cardCount = order.length ;
+
+        System.arraycopy( order, 0, scratch, 0, cardCount ) ;
+
+        // place the top portion's cards, marking positions which take from
+        // the bottom portion with -1 - (how many bottom cards precede them)
+        int topCount = 0 ;
+        int bottomCount = 0 ;
+        long bits = 0 ;
+
+        for ( int i = 0 ; i < cardCount ; i++ )
+            {
+
+            if ( ( i % Long.SIZE ) == 0 )
+                {
+                bits = random.nextLong() ;
+                }
+
+            order[ i ] = ( bits & 1 ) == 0
+                    ? scratch[ topCount++ ]
+                    : -1 - bottomCount++ ;
+
+            bits >>>= 1 ;
+            }
+
+        // now that we know where the bottom portion starts, fill in its cards
+        for ( int i = 0 ; i < cardCount ; i++ )
+            {
+
+            if ( order[ i ] < 0 )
+                {
+                order[ i ] = scratch[ topCount + ( -1 - order[ i ] ) ] ;
+                }
+
+            }
+
+        }   // end riffle()
+
+
+    /**
+     * uniform shuffle (Fisher-Yates)
+     *
+     * @param order
+     *     the ordering to shuffle in place
+     * @param random
+     *     the source of randomness
+     */
+    private static void uniform( final int[] order,
+                                 final RandomGenerator random )
+        {
+
+        for ( int i = 0 ; i < ( order.length - 1 ) ; i++ )
+            {
+            final int j = random.nextInt( i, order.length ) ;
+
+            final int swap = order[ i ] ;
+            order[ i ] = order[ j ] ;
+            order[ j ] = swap ;
+            }
+
+        }   // end uniform()
+
+    }   // end enum ShuffleModel
\ No newline at end of file
@@ -0,0 +1,567 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg
+ *
+ * Topic: List App ~ Card Game
+ *
+ * Usage restrictions:
+ *
+ * You may use this code for exploration, experimentation, and furthering your
+ * learning for this course. You may not use this code for any other
+ * assignments, in my course or elsewhere, without explicit permission, in
+ * advance, from myself (and the instructor of any other course).
+ *
+ * Further, you may not post (including in a public repository such as on github)
+ * nor otherwise share this code with anyone other than current students in my
+ * sections of this course.
+ *
+ * Violation of these usage restrictions will be considered a violation of
+ * Wentworth Institute of Technology's Academic Honesty Policy.  Unauthorized posting
+ * or use of this code may also be considered copyright infringement and may subject
+ * the poster and/or the owners/operators of said websites to legal and/or financial
+ * penalties.  My students are permitted to store this code in a private repository
+ * or other private cloud-based storage.
+ *
+ * Do not modify or remove this notice.
+ *
+ * @formatter:on
+ */
+
+
+package edu.wit.scds.ds.lists.app.card_game.universal_base.pile ;
+
+import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase ;
+
+import java.util.AbstractList ;
+import java.util.Arrays ;
+import java.util.Collection ;
+import java.util.Comparator ;
+import java.util.Objects ;
+import java.util.RandomAccess ;
+import java.util.function.Predicate ;
+import java.util.random.RandomGenerator ;
+
+
+/**
+ * Cards kept in order, from lowest (the top) to highest (the bottom)
+ * <p>
+ * the cards are held in a {@link GapBufferPileStorage} so positional access is
+ * O(1). {@link #upperBound(CardBase)} finds, by binary search, where a card
+ * belongs - after any cards which order the same - so adding a card in order
+ * costs O(log n) comparisons plus a short slide of the gap.
+ * <p>
+ * this is a general-purpose {@code List}: {@code add()}, {@code addAll()} and
+ * {@code set()} put cards exactly where they're told, and {@code shuffle()}
+ * and {@code sort()} with another comparator reorder the cards as asked. Each
+ * notes whether it left the cards out of order; the ordered operations -
+ * {@code lowerBound()}, {@code upperBound()} and {@code restoreOrder()} -
+ * re-sort (stably) first if so.
+ * <p>
+ * the cards are also re-sorted if the ordering itself may have changed: a
+ * change to a setting which affects {@code compareTo()} (e.g.
+ * {@code Card.setCompareOnAttributes()}) is reported through
+ * {@link CardBase#orderingChanged()}, which a comparator whose behavior
+ * changes must also call.
+ *
+ * @author Dave Rosenberg
+ *
+ * @version 1.0 2026-10-17 Initial implementation
+ * @version 1.1 2026-10-17 honor every {@code List} operation and re-sort
+ *     lazily when the cards are out of order or the ordering has changed
+ */
+public final class SortedPileStorage extends AbstractList<CardBase> implements PileStorage, RandomAccess
+    {
+
+    /*
+     * data fields
+     */
+
+
+    /** the cards in order */
+    private final GapBufferPileStorage order ;
+
+    /** determines the order */
+    private final Comparator<? super CardBase> ordering ;
+
+    /**
+     * {@code false} once an operation may have left the cards out of order
+     */
+    private boolean inOrder ;
+
+    /**
+     * {@code CardBase.getOrderingGeneration()} when the cards were last known
+     * to be in order
+     */
+    private int orderedGeneration ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Initialize an empty storage ordered by the cards' natural order
+     */
+    public SortedPileStorage()
+        {
+
+        this( Comparator.naturalOrder() ) ;
+
+        }   // end no-arg constructor
+
+
+    /**
+     * Initialize an empty storage with a specified order
+     *
+     * @param cardOrdering
+     *     determines the order
+     */
+    public SortedPileStorage( final Comparator<? super CardBase> cardOrdering )
+        {
+
+        this.order = new GapBufferPileStorage() ;
+        this.ordering = Objects.requireNonNull( cardOrdering, "cardOrdering" ) ;
+
+        markInOrder() ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * ordered operations
+     */
+
+
+    /**
+     * determine if the cards are known to be in order under the current
+     * ordering
+     *
+     * @return {@code true} if no re-sort is needed, {@code false} otherwise
+     */
+    public boolean isInOrder()
+        {
+
+        return this.inOrder && ( this.orderedGeneration == CardBase.getOrderingGeneration() ) ;
+
+        }   // end isInOrder()
+
+
+    /**
+     * find the first position holding a card which doesn't order before a
+     * card - the first of any cards which order the same as it
+     * <p>
+     * O(log n) once the cards are in order
+     *
+     * @param card
+     *     the card to look for
+     *
+     * @return the position, from 0 to {@code size()} inclusive
+     */
+    public int lowerBound( final CardBase card )
+        {
+
+        restoreOrder() ;
+
+        int low = 0 ;
+        int high = this.order.size() ;
+
+        while ( low < high )
+            {
+            final int middle = ( low + high ) >>> 1 ;
+
+            if ( this.ordering.compare( this.order.get( middle ), card ) < 0 )
+                {
+                low = middle + 1 ;
+                }
+            else
+                {
+                high = middle ;
+                }
+
+            }
+
+        return low ;
+
+        }   // end lowerBound()
+
+
+    /**
+     * find the first position holding a card which orders after a card -
+     * where it belongs in order
+     * <p>
+     * O(log n) once the cards are in order
+     *
+     * @param card
+     *     the card to look for
+     *
+     * @return the position, from 0 to {@code size()} inclusive
+     */
+    public int upperBound( final CardBase card )
+        {
+
+        restoreOrder() ;
+
+        int low = 0 ;
+        int high = this.order.size() ;
+
+        while ( low < high )
+            {
+            final int middle = ( low + high ) >>> 1 ;
+
+            if ( this.ordering.compare( this.order.get( middle ), card ) <= 0 )
+                {
+                low = middle + 1 ;
+                }
+            else
+                {
+                high = middle ;
+                }
+
+            }
+
+        return low ;
+
+        }   // end upperBound()
+
+
+    /**
+     * put the cards back in order, stably, if an operation may have disturbed
+     * it or the ordering may have changed
+     * <p>
+     * O(1) if the cards are known to be in order
+     *
+     * @return {@code true} if the cards were re-sorted, {@code false} if they
+     *     were already in order
+     */
+    public boolean restoreOrder()
+        {
+
+        if ( isInOrder() )
+            {
+            return false ;
+            }
+
+        this.order.sort( this.ordering ) ;
+        markInOrder() ;
+
+        this.modCount++ ;
+
+        return true ;
+
+        }   // end restoreOrder()
+
+
+    /*
+     * List methods
+     */
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * notes whether the card is in order there - add it at
+     * {@link #upperBound(CardBase)} to keep the cards in order
+     */
+    @Override
+    public void add( final int position,
+                     final CardBase newCard )
+        {
+
+        checkPositionForAdd( position ) ;
+
+        if ( this.inOrder )
+            {
+            this.inOrder = ( ( position == 0 ) || ordersBefore( this.order.get( position - 1 ), newCard ) ) &&
+                           ( ( position == this.order.size() ) || ordersBefore( newCard, this.order.get( position ) ) ) ;
+            }
+
+        this.order.add( position, newCard ) ;
+
+        this.modCount++ ;
+
+        }   // end add()
+
+
+    @Override
+    public boolean addAll( final Collection<? extends CardBase> newCards )
+        {
+
+        return addAll( size(), newCards ) ;
+
+        }   // end addAll()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * notes whether the cards are in order there - a batch appended out of
+     * order is merged in by the next ordered operation with a single (stable)
+     * sort
+     */
+    @Override
+    public boolean addAll( final int position,
+                           final Collection<? extends CardBase> newCards )
+        {
+
+        checkPositionForAdd( position ) ;
+
+        // snapshot in case newCards is this storage
+        final CardBase[] toAdd = newCards.toArray( new CardBase[ 0 ] ) ;
+
+        if ( toAdd.length == 0 )
+            {
+            return false ;
+            }
+
+        if ( this.inOrder )
+            {
+            CardBase previousCard = position == 0
+                    ? null
+                    : this.order.get( position - 1 ) ;
+
+            for ( final CardBase newCard : toAdd )
+                {
+
+                if ( ( previousCard != null ) && !ordersBefore( previousCard, newCard ) )
+                    {
+                    this.inOrder = false ;
+
+                    break ;
+                    }
+
+                previousCard = newCard ;
+                }
+
+            if ( this.inOrder && ( position < this.order.size() ) )
+                {
+                this.inOrder = ordersBefore( previousCard, this.order.get( position ) ) ;
+                }
+
+            }
+
+        this.order.addAll( position, Arrays.asList( toAdd ) ) ;
+
+        this.modCount++ ;
+
+        return true ;
+
+        }   // end addAll() at position
+
+
+    @Override
+    public void clear()
+        {
+
+        this.order.clear() ;
+        markInOrder() ;
+
+        this.modCount++ ;
+
+        }   // end clear()
+
+
+    @Override
+    public CardBase get( final int position )
+        {
+
+        return this.order.get( position ) ;
+
+        }   // end get()
+
+
+    @Override
+    public CardBase remove( final int position )
+        {
+
+        final CardBase removedCard = this.order.remove( position ) ;
+
+        this.modCount++ ;
+
+        return removedCard ;
+
+        }   // end remove()
+
+
+    @Override
+    public boolean removeIf( final Predicate<? super CardBase> filter )
+        {
+
+        // removing cards never disturbs the order of the rest
+        if ( !this.order.removeIf( filter ) )
+            {
+            return false ;
+            }
+
+        this.modCount++ ;
+
+        return true ;
+
+        }   // end removeIf()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * notes whether the replacement card is in order there
+     */
+    @Override
+    public CardBase set( final int position,
+                         final CardBase replacementCard )
+        {
+
+        if ( this.inOrder )
+            {
+            this.inOrder = ( ( position == 0 ) || ordersBefore( this.order.get( position - 1 ), replacementCard ) ) &&
+                           ( ( position == ( this.order.size() - 1 ) ) ||
+                             ordersBefore( replacementCard, this.order.get( position + 1 ) ) ) ;
+            }
+
+        return this.order.set( position, replacementCard ) ;
+
+        }   // end set()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * the cards are out of order afterward, until the next ordered operation
+     */
+    @Override
+    public void shuffle( final RandomGenerator random,
+                         final int count )
+        {
+
+        this.order.shuffle( random, count ) ;
+
+        if ( ( count > 0 ) && ( this.order.size() > 1 ) )
+            {
+            this.inOrder = false ;
+            }
+
+        this.modCount++ ;
+
+        }   // end shuffle()
+
+
+    @Override
+    public int size()
+        {
+
+        return this.order.size() ;
+
+        }   // end size()
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * {@code null} sorts by this storage's ordering, which is nearly free if
+     * the cards are still in order; any other comparator leaves them out of
+     * order until the next ordered operation
+     */
+    @Override
+    public void sort( final Comparator<? super CardBase> comparator )
+        {
+
+        if ( ( comparator == null ) || ( comparator == this.ordering ) )
+            {
+            this.order.sort( this.ordering ) ;
+            markInOrder() ;
+            }
+        else
+            {
+            this.order.sort( comparator ) ;
+            this.inOrder = false ;
+            }
+
+        this.modCount++ ;
+
+        }   // end sort()
+
+
+    @Override
+    public Object[] toArray()
+        {
+
+        return this.order.toArray() ;
+
+        }   // end toArray()
+
+
+    /*
+     * protected methods
+     */
+
+
+    @Override
+    protected void removeRange( final int fromPosition,
+                                final int toPosition )
+        {
+
+        this.order.subList( fromPosition, toPosition ).clear() ;
+
+        this.modCount++ ;
+
+        }   // end removeRange()
+
+
+    /*
+     * private utility methods
+     */
+
+
+    /**
+     * ensure a position is valid for an insertion
+     *
+     * @param position
+     *     the position to check
+     *
+     * @throws IndexOutOfBoundsException
+     *     if the position is negative or greater than the number of cards
+     */
+    private void checkPositionForAdd( final int position ) throws IndexOutOfBoundsException
+        {
+
+        if ( ( position < 0 ) || ( position > size() ) )
+            {
+            throw new IndexOutOfBoundsException( String.format( "position: %,d, size: %,d",
+                                                                position,
+                                                                size() ) ) ;
+            }
+
+        }   // end checkPositionForAdd()
+
+
+    /**
+     * record that the cards are in order under the current ordering
+     */
+    private void markInOrder()
+        {
+
+        this.inOrder = true ;
+        this.orderedGeneration = CardBase.getOrderingGeneration() ;
+
+        }   // end markInOrder()
+
+
+    /**
+     * determine if one card may precede another in order
+     *
+     * @param earlierCard
+     *     the card nearer the top
+     * @param laterCard
+     *     the card nearer the bottom
+     *
+     * @return {@code true} if {@code earlierCard} doesn't order after
+     *     {@code laterCard}, {@code false} otherwise
+     */
+    private boolean ordersBefore( final CardBase earlierCard,
+                                  final CardBase laterCard )
+        {
+
+        return this.ordering.compare( earlierCard, laterCard ) <= 0 ;
+
+        }   // end ordersBefore()
+
+    }   // end class SortedPileStorage
\ No newline at end of file
@@ -40,6 +40,8 @@ package edu.wit.scds.ds.lists.app.card_game.universal_base.support ;
  *
  * @version 1.0 2023-03-25 Initial implementation (based on
  *     {@code TestingException})
+ * @version 1.1 2026-10-17 add {@code emptyPile()} with an optional
+ *     preallocated, stackless instance for simulations
  */
 public final class NoCardsException extends RuntimeException
     {
@@ -50,6 +52,26 @@ public final class NoCardsException extends RuntimeException
     private static final long serialVersionUID = 1L ;
 
 
+    /*
+     * static fields
+     */
+
+
+    /**
+     * thrown by {@code emptyPile()} when {@code stackless} is set - shared, so
+     * it has no stack trace, can't record suppressed exceptions and its cause
+     * can't be set
+     */
+    private final static NoCardsException STACKLESS_EMPTY_PILE =
+            new NoCardsException( "no cards (stack traces disabled)", false ) ;
+
+    /**
+     * {@code true} if {@code emptyPile()} returns the shared, stackless
+     * instance, {@code false} if it instantiates one with a stack trace
+     */
+    private static boolean stackless = false ;
+
+
     /*
      * constructors
      */
@@ -115,4 +137,85 @@ public final class NoCardsException extends RuntimeException
 
         }   // end 'wrapper' constructor with descriptive message
 
+
+    /**
+     * exception with message and, optionally, no stack trace
+     *
+     * @param message
+     *     the message text associated with this exception
+     * @param writableStackTrace
+     *     {@code true} to record the stack trace, {@code false} to skip it
+     *
+     * @since 1.1
+     */
+    private NoCardsException( final String message,
+                              final boolean writableStackTrace )
+        {
+
+        super( message, null, false, writableStackTrace ) ;
+
+        }   // end stackless constructor
+
+
+    /**
+     * retrieve the exception to throw when a pile is empty
+     * <p>
+     * normally a new instance with a stack trace. When simulations set
+     * {@link #setStackless(boolean)}, the same preallocated instance without
+     * a stack trace every time - throwing it costs nanoseconds rather than
+     * the microseconds filling in a stack trace takes
+     *
+     * @return an exception to throw
+     *
+     * @since 1.1
+     */
+    public static NoCardsException emptyPile()
+        {
+
+        return NoCardsException.stackless
+                ? STACKLESS_EMPTY_PILE
+                : new NoCardsException() ;
+
+        }   // end emptyPile()
+
+
+    /**
+     * Retrieves the current setting of {@code stackless}
+     *
+     * @return {@code true} if {@code emptyPile()} returns the shared,
+     *     stackless instance
+     *
+     * @since 1.1
+     */
+    public static boolean isStackless()
+        {
+
+        return NoCardsException.stackless ;
+
+        }   // end isStackless()
+
+
+    /**
+     * Sets {@code stackless}
+     *
+     * @param newStackless
+     *     {@code true} to have {@code emptyPile()} return the shared,
+     *     stackless instance; {@code false} to have it instantiate an exception
+     *     with a stack trace (the default)
+     *
+     * @return the previous setting of {@code stackless}
+     *
+     * @since 1.1
+     */
+    public static boolean setStackless( final boolean newStackless )
+        {
+
+        final boolean wasStackless = NoCardsException.stackless ;
+
+        NoCardsException.stackless = newStackless ;
+
+        return wasStackless ;
+
+        }   // end setStackless()
+
     }   // end class NoCardsException
\ No newline at end of file
@@ -36,19 +36,22 @@ import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Suit ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Deck ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
-import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.TallyingPileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.LinkedPileStorage ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
 import edu.wit.scds.ds.lists.app.card_game.your_game.pile.Hand ;
 import edu.wit.scds.ds.lists.app.card_game.your_game.pile.Meld ;
 import edu.wit.scds.ds.lists.app.card_game.your_game.pile.Stock ;
 
-import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card.newCardLike ;
+import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card.lookupCard ;
 import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank.JOKER ;
+import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.AS_IS ;
 
 import java.io.File ;
 import java.io.FileNotFoundException ;
 import java.util.ArrayList ;
 import java.util.List ;
+import java.util.Objects ;
 import java.util.Random ;
 import java.util.Scanner ;
 
@@ -68,6 +71,18 @@ import java.util.Scanner ;
  * @author Jason Mansour and Michael Foley
  *
  * @version 3.0 2025-11-03 modifications for your game
+ * @version 3.1 2026-10-17 look up cards with the shared {@code Card.lookupCard()}
+ *     instances rather than instantiating a card per lookup
+ * @version 3.2 2026-10-17 collect turned-in cards in a linked pile so melds
+ *     splice into it
+ * @version 3.3 2026-10-17 add {@code sortHand()} so a hand dealt in one batch
+ *     is sorted once
+ * @version 3.4 2026-10-17 the hand keeps itself in order so it's no longer
+ *     sorted after each card (removes {@code sortHand()})
+ * @version 3.5 2026-10-17 read hand points from the hand's running tally;
+ *     turned-in cards keep a tally too so melds' tallies move with them
+ * @version 3.6 2026-10-17 add {@code turnInAllCards( Pile )} so the game can
+ *     return cards straight to the stock
  */
 public final class Player
     {
@@ -129,8 +144,8 @@ public final class Player
     public void dealtACard( final Card dealt )
         {
 
+        // the hand places the card in order
         this.hand.addToBottom( dealt ) ;
-        this.hand.sort() ;
 
         }  // end dealtACard()
 
@@ -198,7 +213,7 @@ public final class Player
                            final Suit suit )
         {
 
-        return playACard( newCardLike( rank, suit ) ) ;
+        return playACard( lookupCard( rank, suit ) ) ;
 
         }  // end playACard()
     
@@ -258,13 +273,8 @@ public final class Player
      */
     public int calculateHandPoints() 
         {
-        int points = 0;
-        for ( CardBase c : this.hand ) 
-            {
-            Card card = (Card) c;
-            points += card.rank.getPoints();
-            }
-        return points;
+        // the hand keeps a running total
+        return this.hand.tally().getPoints();
         }
 
     /**
@@ -369,22 +379,42 @@ public final class Player
         {
 
         // local temporary class (pile) to hold our cards
-        final Pile allCards = new Pile() {} ;
+        return turnInAllCards( new Pile( AS_IS, new TallyingPileStorage( new LinkedPileStorage() ) ) {} ) ;
+
+        }  // end turnInAllCards()
+
+
+    /**
+     * Move all cards from our hand and our collected cards to another pile,
+     * such as the stock, without collecting them in a pile of their own
+     *
+     * @param destination
+     *     the pile to receive our cards, on its bottom
+     *
+     * @return the destination pile (fluent) - order and orientation of our
+     *     cards may be inconsistent
+     *
+     * @since 3.6
+     */
+    public Pile turnInAllCards( final Pile destination )
+        {
+
+        Objects.requireNonNull( destination, "destination" ) ;
 
         // we may be holding cards - collect them
 
-        allCards.moveCardsToBottom( this.hand ) ;
+        destination.moveCardsToBottom( this.hand ) ;
 
         for ( final Pile aMeld : this.melds )
             {
-            allCards.moveCardsToBottom( aMeld ) ;
+            destination.moveCardsToBottom( aMeld ) ;
             }
 
         this.melds.clear() ;
 
-        // assertion: we have no cards, any we had will be returned via allCards
+        // assertion: we have no cards, any we had are in destination
 
-        return allCards ;
+        return destination ;
 
         }  // end turnInAllCards()
 
@@ -31,15 +31,19 @@
 package edu.wit.scds.ds.lists.app.card_game.your_game.game ;
 
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.CardSet ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Suit ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Deck ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.PileTally ;
 import edu.wit.scds.ds.lists.app.card_game.your_game.pile.DiscardPile ;
 import edu.wit.scds.ds.lists.app.card_game.your_game.pile.Meld ;
+import edu.wit.scds.ds.lists.app.card_game.your_game.pile.Hand ;
 import edu.wit.scds.ds.lists.app.card_game.your_game.pile.Stock ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.DealPattern ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.ScratchPilePool ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.card.CardBase;
-import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException;
 
 import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank.JOKER ;
 
@@ -78,6 +82,20 @@ import java.util.Scanner ;
  * @author Michael Foley
  *
  * @version 3.0 2025-11-30 modifications for Rummy implementation
+ * @version 3.1 2026-10-17 look up cards with the shared {@code Card.lookupCard()}
+ *     instances rather than instantiating a card per lookup
+ * @version 3.2 2026-10-17 validate melds with {@code CardSet} bit operations
+ *     rather than copying and sorting their cards
+ * @version 3.3 2026-10-17 deal all hands from the stock in one batch
+ * @version 3.4 2026-10-17 hands keep themselves in order - no sorting after
+ *     the deal
+ * @version 3.5 2026-10-17 check additions to a meld against its running tally
+ *     rather than collecting its faces
+ * @version 3.6 2026-10-17 lease temporary piles from a per-game
+ *     {@code ScratchPilePool}; players turn their cards in straight to the
+ *     stock
+ * @version 3.7 2026-10-17 seed the discard pile with {@code Stock.tryDraw()}
+ *     rather than catching {@code NoCardsException}
  */
 public final class Rummy
     {
@@ -117,6 +135,9 @@ public final class Rummy
     private final Stock stock ;
     private final DiscardPile discardPile ;
 
+    /** temporary piles - reused from round to round */
+    private final ScratchPilePool<Pile> scratchPiles ;
+
     private boolean running = false ;
 
 
@@ -150,6 +171,8 @@ public final class Rummy
 
         this.discardPile = new DiscardPile() ;
 
+        this.scratchPiles = new ScratchPilePool<>( () -> new Pile() {} ) ;
+
 
         this.numberOfDecks = -1 ;
 
@@ -358,24 +381,25 @@ public final class Rummy
     private void dealHands()
         {
 
-        // deal one card to each player in turn
-        for ( int i = 1 ; i <= this.numberOfCardsPerHand ; i++ )
+        final List<Hand> hands = new ArrayList<>( this.players.size() ) ;
+
+        for ( final Player aPlayer : this.players )
             {
+            hands.add( aPlayer.getHand() ) ;
+            }
 
-            for ( final Player aPlayer : this.players )
-                {
-                final Card dealt = this.stock.drawTopCard().hide() ;
-                aPlayer.dealtACard( dealt ) ;
-                }
+        // deal one card to each player in turn - the hands turn them face down
+        // and keep them in order
+        this.stock.deal( this.numberOfCardsPerHand, hands, DealPattern.ROUND_ROBIN ) ;
+            
+        // Flip top card to discard pile to start - there's none if the deal
+        // used up the stock
+        final Card firstDiscard = this.stock.tryDraw() ;
 
+        if ( firstDiscard != null )
+            {
+            this.discardPile.addCard( firstDiscard.reveal() ) ;
             }
-            
-        // Flip top card to discard pile to start
-        try {
-            this.discardPile.addCard(this.stock.drawTopCard().reveal());
-        } catch (NoCardsException e) {
-            // Should not happen on initial deal
-        }
 
         }   // end dealHands()
 
@@ -420,22 +444,29 @@ public final class Rummy
 
         // populate the stock from the requisite number of decks
 
-        final Card joker = new Card( JOKER ) ;    // for lookup
+        final Card joker = Card.lookupCard( JOKER, Suit.NA ) ;
 
         for ( int i = 1 ; i <= this.numberOfDecks ; i++ )
             {
             // 'open' a 'box' of cards
             final Deck newDeck = new Deck() ;
 
-            // take the cards out of the box
-            final Pile newCards = newDeck.removeAllCards() ;
-
-            // pull out the jokers, turn them face up and put them back in the
-            // 'box'
-            newDeck.moveCardsToBottom( newCards.removeAllMatchingCards( joker ).revealAll() ) ;
-
-            // add this set of cards to the stock
-            this.stock.moveCardsToBottom( newCards ) ;
+            try ( final ScratchPilePool.Lease<Pile> newCardsLease = this.scratchPiles.lease() ;
+                    final ScratchPilePool.Lease<Pile> jokersLease = this.scratchPiles.lease() ; )
+                {
+                // take the cards out of the box
+                final Pile newCards = newCardsLease.getPile() ;
+                newCards.addAllToBottom( newDeck ) ;
+
+                // pull out the jokers, turn them face up and put them back in
+                // the 'box'
+                final Pile jokers = jokersLease.getPile() ;
+                newCards.removeAllMatchingCards( joker, jokers ) ;
+                newDeck.moveCardsToBottom( jokers.revealAll() ) ;
+
+                // add this set of cards to the stock
+                this.stock.moveCardsToBottom( newCards ) ;
+                }
 
             // save the 'box'
             this.decks.add( newDeck ) ;
@@ -455,7 +486,7 @@ public final class Rummy
 
         for ( final Player aPlayer : this.players )
             {
-            this.stock.moveCardsToBottom( aPlayer.turnInAllCards() ) ;
+            aPlayer.turnInAllCards( this.stock ) ;
             }
 
         this.stock.shuffle() ;
@@ -841,49 +872,19 @@ public final class Rummy
             return false ;
             }
 
-        // Get a snapshot of the meld to analyze
-        List<Card> cards = new ArrayList<>() ;
-        for ( CardBase c : meld )
-            {
-            cards.add( (Card) c ) ;
-            }
+        // the meld keeps a running tally of its cards
+        final PileTally faces = meld.tally() ;
 
         // Check if it's a set which happens if all ranks matches
-        boolean isSet = true ;
-        Rank firstRank = cards.get( 0 ).rank ;
-        for ( Card c : cards )
-            {
-            if ( c.rank != firstRank )
-                {
-                isSet = false ;
-                }
-            }
-
-        if ( isSet )
+        if ( faces.isSingleRank() )
             {
             // To add to a set, rank must match
-            return card.rank == firstRank ;
+            return card.rank == ( (Card) meld.getCardAt( 0 ) ).rank ;
             }
 
-        // If not a Set then it has to be a run
-        // Sort existing run to find ends
-        cards.sort( ( c1,
-                      c2 ) -> Integer.compare( c1.rank.getOrder(), c2.rank.getOrder() ) ) ;
-
-        Suit runSuit = cards.get( 0 ).suit ;
-
-        // Must match suit
-        if ( card.suit != runSuit )
-            {
-            return false ;
-            }
-
-        // Must be exactly one lower than min, or one higher than max
-        int minOrder = cards.get( 0 ).rank.getOrder() ;
-        int maxOrder = cards.get( cards.size() - 1 ).rank.getOrder() ;
-        int cardOrder = card.rank.getOrder() ;
-
-        return ( cardOrder == minOrder - 1 ) || ( cardOrder == maxOrder + 1 ) ;
+        // If not a Set then it has to be a run - the card must be exactly one
+        // lower than min, or one higher than max, in the same suit
+        return faces.canExtendRun( card ) ;
 
         }
     
@@ -904,25 +905,14 @@ public final class Rummy
     }
     
     private boolean isValidMeld(List<Card> cards) {
-        // Check Set (All ranks same)
-        boolean isSet = true;
-        Rank r = cards.get(0).rank;
-        for (Card c : cards) if (c.rank != r) isSet = false;
-        if (isSet) return true;
-
-        // Check Run (Same Suit, Sequential)
-        Suit s = cards.get(0).suit;
-        for (Card c : cards) if (c.suit != s) return false;
-        
-        // Check sequence (Using Order)
-        List<Card> sorted = new ArrayList<>(cards);
-        // Sort by Rank Order (Ace=1 ... King=13)
-        sorted.sort((c1, c2) -> Integer.compare(c1.rank.getOrder(), c2.rank.getOrder()));
-        
-        for (int i = 0; i < sorted.size() - 1; i++) {
-            if (sorted.get(i).rank.getOrder() + 1 != sorted.get(i+1).rank.getOrder()) return false;
-        }
-        return true;
+        final CardSet faces = CardSet.of(cards);
+
+        // Check Set (All ranks same) - duplicates from a second deck are fine
+        if (faces.isSingleRank()) return true;
+
+        // Check Run (Same Suit, Sequential Using Order) - duplicates collapse in
+        // the set so a run with a repeated card is caught by the size check
+        return (faces.size() == cards.size()) && faces.isRun();
     }
     
     private void calculateRoundScores(Player winner) {
@@ -32,6 +32,7 @@ package edu.wit.scds.ds.lists.app.card_game.your_game.pile ;
 
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.LinkedPileStorage ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
 
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_UP ;
@@ -52,6 +53,8 @@ import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orienta
  * @author Your Name
  *
  * @version 4.0 2025-11-03 modifications for your implementation
+ * @version 4.1 2026-10-17 hold the cards in a {@code LinkedPileStorage} so
+ *     returning them to the stock splices rather than copies
  */
 public final class DiscardPile extends Pile
     {
@@ -68,7 +71,7 @@ public final class DiscardPile extends Pile
     public DiscardPile()
         {
 
-        super( FACE_UP ) ;
+        super( FACE_UP, new LinkedPileStorage() ) ;
 
         }	// end no-arg constructor
 
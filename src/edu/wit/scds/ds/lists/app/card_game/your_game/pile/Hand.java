@@ -30,19 +30,18 @@
 
 package edu.wit.scds.ds.lists.app.card_game.your_game.pile ;
 
-import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
-import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
-import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.SortedPile ;
 
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_DOWN ;
 
-import java.util.Collections ;
-
 // you probably will modify this code - talk to me if you have any questions
 
 /**
  * Representation of a hand of cards
  * <p>
+ * a hand keeps its cards in order, lowest at the top and highest at the
+ * bottom - see {@link SortedPile}
+ * <p>
  * NOTE: You probably will modify this code
  *
  * @author Dave Rosenberg
@@ -59,8 +58,22 @@ import java.util.Collections ;
  * @author Your Name
  *
  * @version 4.0 2025-11-03 modifications for your implementation
+ * @version 4.1 2026-10-17 hold the cards in a gap buffer - players insert and
+ *     remove cards at arbitrary positions, usually near where they last did
+ * @version 4.2 2026-10-17 keep the cards in order as they're added (binary
+ *     search in a {@code SortedPileStorage}) so the hand never needs
+ *     re-sorting; the lowest card is always at the top and the highest at the
+ *     bottom
+ * @version 4.3 2026-10-17 keep a running tally of the cards for scoring
+ * @version 4.4 2026-10-17 place cards in order in the hand rather than in
+ *     its storage, which now honors positions - additions anywhere go in order
+ *     and shuffling sorts
+ * @version 4.5 2026-10-17 throw {@code NoCardsException.emptyPile()} when
+ *     empty, like every other draw
+ * @version 4.6 2026-10-17 extend {@code SortedPile}, which throws on a
+ *     shuffle or a position which would put the cards out of order
  */
-public final class Hand extends Pile
+public final class Hand extends SortedPile
     {
 
     // no additional data fields
@@ -72,61 +85,20 @@ public final class Hand extends Pile
 
 
     /**
-     * initialize hand with {@code Card}s placed face down by default
+     * initialize hand with {@code Card}s placed face down by default, kept
+     * in order and tallied
      */
     public Hand()
         {
 
-        super( FACE_DOWN ) ;
+        super( FACE_DOWN, true ) ;
 
         }	// end no-arg constructor
 
 
     /*
-     * public methods
-     */
-
-
-    /**
-     * retrieve and remove the highest value card in the hand
-     *
-     * @return the highest value card
-     *
-     * @throws NoCardsException
-     *     if the hand is empty
-     */
-    public Card removeHighestCard() throws NoCardsException
-        {
-
-        if ( isEmpty() )
-            {
-            throw new NoCardsException() ;
-            }
-
-        return removeCard( Collections.max( super.cards ) ) ;
-
-        }  // end removeHighestCard()
-
-
-    /**
-     * retrieve and remove the lowest value card in the hand
-     *
-     * @return the lowest value card
-     *
-     * @throws NoCardsException
-     *     if the hand is empty
+     * testing/debugging
      */
-    public Card removeLowestCard() throws NoCardsException
-        {
-
-        if ( isEmpty() )
-            {
-            throw new NoCardsException() ;
-            }
-
-        return removeCard( Collections.min( super.cards ) ) ;
-
-        }  // end removeLowestCard()
 
 
     /**
@@ -31,6 +31,8 @@
 package edu.wit.scds.ds.lists.app.card_game.your_game.pile;
 
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
+import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.TallyingPileStorage ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.LinkedPileStorage ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation ;
 
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_UP ;
@@ -50,6 +52,10 @@ import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orienta
  * @author Your Name
  *
  * @version 2.0 2025-11-03 only modify this tag if you modified the code
+ * @version 2.1 2026-10-17 hold the cards in a {@code LinkedPileStorage} so
+ *     turning in a meld splices rather than copies
+ * @version 2.2 2026-10-17 keep a running tally of the cards so checking a
+ *     card against the meld doesn't scan it
  */
 public final class Meld extends Pile
     {
@@ -72,7 +78,7 @@ public final class Meld extends Pile
     public Meld()
         {
 
-        super( DEFAULT_CARD_ORIENTATION ) ;
+        super( DEFAULT_CARD_ORIENTATION, new TallyingPileStorage( new LinkedPileStorage() ) ) ;
 
         }	// end no-arg constructor
 
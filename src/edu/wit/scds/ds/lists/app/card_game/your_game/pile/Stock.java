@@ -34,12 +34,16 @@ import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Suit ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Deck ;
 import edu.wit.scds.ds.lists.app.card_game.standard_cards.pile.Pile ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.DealPattern ;
+import edu.wit.scds.ds.lists.app.card_game.universal_base.pile.LinkedPileStorage ;
 import edu.wit.scds.ds.lists.app.card_game.universal_base.support.NoCardsException ;
 
 import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Card.newCardLike ;
 import static edu.wit.scds.ds.lists.app.card_game.standard_cards.card.Rank.JOKER ;
 import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orientation.FACE_DOWN ;
 
+import java.util.List ;
+
 // you probably will not modify this code - talk to me first
 
 /**
@@ -48,6 +52,13 @@ import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orienta
  * NOTE: You probably won't modify this code
  * <p>
  * this is the source of all cards available to the game during game play
+ * <p>
+ * the cards are held in an identity-indexed {@code LinkedPileStorage}, which
+ * keeps draw order and also counts the cards with each identity: piles
+ * returned to the stock splice in, {@code getCardLike()}, {@code hasCardLike()}
+ * and {@code removeCard()} find a card, e.g. a joker, through the index in
+ * O(1), {@code matchCount()} sums the counts rather than scanning, and
+ * {@code removeAllMatchingCards()} removes k copies in O(k).
  *
  * @author Dave Rosenberg
  *
@@ -61,6 +72,20 @@ import static edu.wit.scds.ds.lists.app.card_game.universal_base.support.Orienta
  * @author Jason Mansour and Michael Foley
  *
  * @version 3.0 2025-11-03 Initial implementation
+ * @version 3.1 2026-10-17 count cards by identity ({@code CountingPileStorage})
+ *     so joker and duplicate lookups across several decks don't scan the stock
+ *     - replaced in 3.2
+ * @version 3.2 2026-10-17 hold the cards in an identity-indexed
+ *     {@code LinkedPileStorage} instead of counting them, so whole piles
+ *     splice in and joker lookups are O(1); duplicate counts scan the stock
+ * @version 3.3 2026-10-17 add {@code deal()} which deals to every hand in one
+ *     batch
+ * @version 3.4 2026-10-17 add {@code tryDraw()} for callers which expect the
+ *     stock to run out
+ * @version 3.5 2026-10-17 the source-pile constructor initializes the pile
+ *     directly, face down as {@code Pile} does by default
+ * @version 3.6 2026-10-17 describe the storage layout the stock uses now
+ * @version 3.7 2026-10-17 the stock's storage counts its cards by identity
  */
 public final class Stock extends Pile
     {
@@ -87,8 +112,9 @@ public final class Stock extends Pile
     public Stock()
         {
 
-        // initialize the pile
-        super( FACE_DOWN ) ;
+        // initialize the pile - preserves draw order, accepts returned piles
+        // by splicing and indexes each card
+        super( FACE_DOWN, new LinkedPileStorage( true ) ) ;
 
         }	// end no-arg constructor
 
@@ -104,7 +130,9 @@ public final class Stock extends Pile
     public Stock( final Pile sourcePile )
         {
 
-        super() ;
+        // initialize the pile - face down, as Pile() does, in the same layout
+        // as an empty stock
+        super( FACE_DOWN, new LinkedPileStorage( true ) ) ;
 
         moveCardsToBottom( sourcePile ) ;
 
@@ -132,6 +160,39 @@ public final class Stock extends Pile
         }  // end drawTopCard()
 
 
+    /**
+     * Deal cards from the top of the stock to several piles, such as the
+     * players' hands, in one batch
+     * <p>
+     * each pile receives its cards turned face up/down by its own rules; the
+     * piles aren't sorted
+     *
+     * @param cardsPerHand
+     *     the number of cards each pile receives
+     * @param targets
+     *     the piles to deal to, in dealing order
+     * @param pattern
+     *     the order in which the cards are handed out
+     *
+     * @return this stock (fluent)
+     *
+     * @throws NoCardsException
+     *     if the stock doesn't hold enough cards - no cards are dealt
+     *
+     * @since 3.3
+     */
+    public Stock deal( final int cardsPerHand,
+                       final List<? extends Pile> targets,
+                       final DealPattern pattern ) throws NoCardsException
+        {
+
+        dealTo( cardsPerHand, targets, pattern ) ;
+
+        return this ;
+
+        }  // end deal()
+
+
     /**
      * turn the top card face-up
      */
@@ -140,7 +201,7 @@ public final class Stock extends Pile
 
         if ( super.cards.isEmpty() )
             {
-            throw new NoCardsException() ;
+            throw NoCardsException.emptyPile() ;
             }
 
         getTopCard().reveal() ;
@@ -148,6 +209,23 @@ public final class Stock extends Pile
         }  // end revealTopCard()
 
 
+    /**
+     * Pick the top card from the deck, if any
+     * <p>
+     * for callers which expect the stock to run out - nothing is thrown
+     *
+     * @return the top card or {@code null} if the stock is empty
+     *
+     * @since 3.4
+     */
+    public Card tryDraw()
+        {
+
+        return tryRemoveTopCard() ;
+
+        }  // end tryDraw()
+
+
     /*
      * private utility methods
      */